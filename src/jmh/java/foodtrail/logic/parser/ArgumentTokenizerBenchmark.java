@@ -0,0 +1,53 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_NAME;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_PHONE;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_RATING;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.testutil.RestaurantUtil;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures {@link ArgumentTokenizer#tokenize(String, Prefix...)} on the arguments of an {@code add} command for
+ * the last restaurant of a directory of {@code size} restaurants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        arguments = " " + RestaurantUtil.getRestaurantDetails(SyntheticRestaurants.get(size - 1));
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG,
+                PREFIX_RATING);
+    }
+}
@@ -0,0 +1,82 @@
+package foodtrail.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.logic.commands.Command;
+import foodtrail.logic.commands.DeleteCommand;
+import foodtrail.logic.commands.EditCommand;
+import foodtrail.logic.commands.EditCommand.EditRestaurantDescriptor;
+import foodtrail.logic.commands.FindCommand;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.EditRestaurantDescriptorBuilder;
+import foodtrail.testutil.RestaurantUtil;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures {@link RestaurantDirectoryParser#parseCommand(String)} on typical commands that refer to the last
+ * restaurant of a directory of {@code size} restaurants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RestaurantDirectoryParserBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final RestaurantDirectoryParser parser = new RestaurantDirectoryParser();
+    private String addCommand;
+    private String editCommand;
+    private String deleteCommand;
+    private String findCommand;
+
+    /**
+     * Builds the command strings for the last restaurant of the directory.
+     */
+    @Setup
+    public void setUp() {
+        Restaurant restaurant = SyntheticRestaurants.get(size - 1);
+        addCommand = RestaurantUtil.getAddCommand(restaurant);
+        EditRestaurantDescriptor descriptor = new EditRestaurantDescriptorBuilder(restaurant).build();
+        editCommand = EditCommand.COMMAND_WORD + " " + size + " "
+                + RestaurantUtil.getEditRestaurantDescriptorDetails(descriptor);
+        deleteCommand = DeleteCommand.COMMAND_WORD + " " + size;
+        findCommand = FindCommand.COMMAND_WORD + " " + restaurant.getName().fullName;
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return parser.parseCommand(addCommand);
+    }
+
+    @Benchmark
+    public Command parseEdit() throws ParseException {
+        return parser.parseCommand(editCommand);
+    }
+
+    @Benchmark
+    public Command parseDelete() throws ParseException {
+        return parser.parseCommand(deleteCommand);
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand(findCommand);
+    }
+}
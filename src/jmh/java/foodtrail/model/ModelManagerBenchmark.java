@@ -0,0 +1,62 @@
+package foodtrail.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.SyntheticRestaurants;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Measures the startup cost of a {@link ModelManager} over {@code size} restaurants.
+ * {@code construct} measures the whole of its construction, as done once at startup, and {@code sortByName}
+ * measures the name-sorted view of the shown restaurants alone, so that its share of the startup time can be seen.
+ * The memory allocated by {@code sortByName}, as reported by the {@code gc} profiler, is kept by the view for as
+ * long as the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final UserPrefs userPrefs = new UserPrefs();
+    private RestaurantDirectory restaurantDirectory;
+    private FilteredList<Restaurant> filteredRestaurants;
+
+    /**
+     * Builds the directory the model is constructed from, and the filtered list the sorted view is built over.
+     */
+    @Setup
+    public void setUp() {
+        restaurantDirectory = SyntheticRestaurants.getDirectory(size);
+        filteredRestaurants = new FilteredList<>(restaurantDirectory.getRestaurantList());
+    }
+
+    @Benchmark
+    public ModelManager construct() {
+        return new ModelManager(restaurantDirectory, userPrefs);
+    }
+
+    @Benchmark
+    public SortedList<Restaurant> sortByName() {
+        return new SortedList<>(filteredRestaurants, Model.COMPARATOR_BY_NAME);
+    }
+}
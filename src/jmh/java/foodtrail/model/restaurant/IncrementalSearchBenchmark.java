@@ -0,0 +1,74 @@
+package foodtrail.model.restaurant;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures the time per keystroke of an {@link IncrementalSearch} over {@code size} restaurants while
+ * {@value #KEYWORD} is typed one character at a time, each keystroke refining the matches of the one before.
+ * {@code searchEveryKeystroke} measures the same keystrokes searched from scratch, as {@code find} would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IncrementalSearchBenchmark {
+
+    /** A keyword whose prefixes match from most of the restaurants down to a seventh of them. */
+    private static final String KEYWORD = "curry";
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private RestaurantDirectory restaurantDirectory;
+
+    /**
+     * Builds the directory, along with its search index.
+     */
+    @Setup
+    public void setUp() {
+        restaurantDirectory = SyntheticRestaurants.getDirectory(size);
+        restaurantDirectory.narrowSearch(new RestaurantContainsKeywordsPredicate(List.of(KEYWORD)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public int typeKeyword() {
+        IncrementalSearch search = restaurantDirectory.newIncrementalSearch();
+        int matches = 0;
+        for (int length = 1; length <= KEYWORD.length(); length++) {
+            matches += search.search(KEYWORD.substring(0, length), () -> false).get().size();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public int searchEveryKeystroke() {
+        int matches = 0;
+        for (int length = 1; length <= KEYWORD.length(); length++) {
+            // A new search each time, so that no keystroke refines the one before
+            matches += restaurantDirectory.newIncrementalSearch()
+                    .search(KEYWORD.substring(0, length), () -> false).get().size();
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,77 @@
+package foodtrail.model.restaurant;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures a {@code find} over a directory of {@code size} restaurants, i.e. testing every restaurant against a
+ * {@link RestaurantContainsKeywordsPredicate}, both directly and narrowed by the directory's search index.
+ * Run with the {@code gc} profiler to see the allocations per {@code find}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RestaurantContainsKeywordsPredicateBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    /** A keyword matching a seventh of the restaurants, and one matching none. */
+    @Param({"curry", "zzz"})
+    private String keyword;
+
+    private List<Restaurant> restaurants;
+    private RestaurantContainsKeywordsPredicate predicate;
+    private Predicate<Restaurant> narrowedPredicate;
+
+    /**
+     * Builds the directory and the predicates to test it with.
+     */
+    @Setup
+    public void setUp() {
+        RestaurantDirectory restaurantDirectory = SyntheticRestaurants.getDirectory(size);
+        restaurants = restaurantDirectory.getRestaurantList();
+        predicate = new RestaurantContainsKeywordsPredicate(Collections.singletonList(keyword));
+        narrowedPredicate = restaurantDirectory.narrowSearch(predicate);
+    }
+
+    @Benchmark
+    public int find() {
+        return countMatches(predicate);
+    }
+
+    @Benchmark
+    public int findNarrowed() {
+        return countMatches(narrowedPredicate);
+    }
+
+    private int countMatches(Predicate<Restaurant> toTest) {
+        int matches = 0;
+        for (Restaurant restaurant : restaurants) {
+            if (toTest.test(restaurant)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
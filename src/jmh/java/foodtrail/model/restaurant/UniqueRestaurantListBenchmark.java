@@ -0,0 +1,68 @@
+package foodtrail.model.restaurant;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures {@link UniqueRestaurantList#add(Restaurant)} and {@link UniqueRestaurantList#contains(Restaurant)} on a
+ * list of {@code size} restaurants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueRestaurantListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final UniqueRestaurantList uniqueRestaurantList = new UniqueRestaurantList();
+    private Restaurant present;
+    private Restaurant absent;
+
+    /**
+     * Fills the list and picks restaurants to look up.
+     * The restaurants looked up are equal to, but not the same objects as, those in the list.
+     */
+    @Setup
+    public void setUp() {
+        uniqueRestaurantList.setRestaurants(SyntheticRestaurants.getList(size));
+        present = SyntheticRestaurants.get(size / 2);
+        absent = SyntheticRestaurants.get(size);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniqueRestaurantList.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniqueRestaurantList.contains(absent);
+    }
+
+    /**
+     * Adds a restaurant at the end of the list, then removes it again so that every invocation sees a list of the
+     * same size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniqueRestaurantList.add(absent);
+        uniqueRestaurantList.remove(absent);
+    }
+}
@@ -0,0 +1,72 @@
+package foodtrail.model.restaurant;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures the number of restaurant records whose name, phone, address and tags are validated per second.
+ * Run with the {@code gc} profiler to check that validating allocates nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationBenchmark {
+
+    private static final int RECORD_COUNT = 10_000;
+
+    private String[] names;
+    private String[] phones;
+    private String[] addresses;
+    private String[][] tagNames;
+
+    /**
+     * Extracts the fields of the synthetic restaurants, so that only validating them is measured.
+     */
+    @Setup
+    public void setUp() {
+        List<Restaurant> restaurants = SyntheticRestaurants.getList(RECORD_COUNT);
+        names = new String[RECORD_COUNT];
+        phones = new String[RECORD_COUNT];
+        addresses = new String[RECORD_COUNT];
+        tagNames = new String[RECORD_COUNT][];
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Restaurant restaurant = restaurants.get(i);
+            names[i] = restaurant.getName().fullName;
+            phones[i] = restaurant.getPhone().value;
+            addresses[i] = restaurant.getAddress().value;
+            tagNames[i] = restaurant.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public int validateRecords() {
+        int validCount = 0;
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            boolean isValid = Name.isValidName(names[i]) && Phone.isValidPhone(phones[i])
+                    && Address.isValidAddress(addresses[i]);
+            for (String tagName : tagNames[i]) {
+                isValid &= Tag.isValidTagName(tagName);
+            }
+            validCount += isValid ? 1 : 0;
+        }
+        return validCount;
+    }
+}
@@ -0,0 +1,76 @@
+package foodtrail.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures saving and loading a directory of {@code size} restaurants with {@link JsonRestaurantDirectoryStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonRestaurantDirectoryStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ReadOnlyRestaurantDirectory restaurantDirectory;
+    private Path directory;
+    private JsonRestaurantDirectoryStorage saveStorage;
+    private JsonRestaurantDirectoryStorage loadStorage;
+
+    /**
+     * Generates the directory and writes the file that is loaded by {@link #load()}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        restaurantDirectory = SyntheticRestaurants.getDirectory(size);
+        directory = Files.createTempDirectory("foodtrail-jmh");
+        saveStorage = new JsonRestaurantDirectoryStorage(directory.resolve("save.json"));
+        loadStorage = new JsonRestaurantDirectoryStorage(directory.resolve("load.json"));
+        loadStorage.saveRestaurantDirectory(restaurantDirectory);
+    }
+
+    /**
+     * Deletes the files written by this benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveStorage.getRestaurantDirectoryFilePath());
+        Files.deleteIfExists(loadStorage.getRestaurantDirectoryFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveRestaurantDirectory(restaurantDirectory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyRestaurantDirectory> load() throws DataLoadingException {
+        return loadStorage.readRestaurantDirectory();
+    }
+}
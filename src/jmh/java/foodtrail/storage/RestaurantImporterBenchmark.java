@@ -0,0 +1,97 @@
+package foodtrail.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.SyntheticRestaurants;
+
+/**
+ * Measures the number of rows per second that {@link RestaurantImporter} reads, validates and deduplicates from a
+ * file of a million restaurants in each supported {@code format}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RestaurantImporterBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+
+    @Param({"csv", "json"})
+    private String format;
+
+    private Path directory;
+    private Path filePath;
+
+    /**
+     * Writes the file of synthetic restaurants that is imported by {@link #importFile()}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("foodtrail-jmh");
+        filePath = directory.resolve("import." + format);
+        if (format.equals("json")) {
+            new JsonRestaurantDirectoryStorage(filePath)
+                    .saveRestaurantDirectory(SyntheticRestaurants.getDirectory(ROW_COUNT));
+        } else {
+            writeCsv();
+        }
+    }
+
+    private void writeCsv() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            writer.write("name,phone,address,tags,rating,visited\n");
+            for (int i = 0; i < ROW_COUNT; i++) {
+                Restaurant restaurant = SyntheticRestaurants.get(i);
+                String tags = restaurant.getTags().stream().map(tag -> tag.tagName)
+                        .collect(Collectors.joining(RestaurantImporter.TAG_SEPARATOR));
+                writer.write(String.join(",", quote(restaurant.getName().fullName), restaurant.getPhone().value,
+                        quote(restaurant.getAddress().value), quote(tags),
+                        restaurant.getRating().map(rating -> String.valueOf(rating.value)).orElse(""),
+                        String.valueOf(restaurant.getIsMarked().isVisited())));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static String quote(String field) {
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Deletes the file written by this benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public RestaurantImporter.ImportResult importFile() throws IOException {
+        return RestaurantImporter.importFile(filePath, restaurant -> false, rowCount -> {});
+    }
+}
@@ -0,0 +1,72 @@
+package foodtrail.testutil;
+
+import static foodtrail.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.util.SampleDataUtil;
+
+/**
+ * Generates any number of valid, distinct restaurants for benchmarks.
+ * Restaurants are derived from the sample data in {@link SampleDataUtil}, so they look like real entries.
+ * The output depends only on the requested count.
+ */
+public class SyntheticRestaurants {
+
+    /** Largest number of restaurants that can be generated with distinct phone numbers. */
+    public static final int MAX_COUNT = 10_000_000;
+
+    private static final String ADDRESS_SUFFIX = ", Singapore ";
+    private static final int FIRST_PHONE = 60_000_000;
+    private static final int MAX_RATING = 5;
+    private static final Restaurant[] SAMPLES = SampleDataUtil.getSampleRestaurants();
+
+    private SyntheticRestaurants() {} // prevents instantiation
+
+    /**
+     * Returns the {@code index}-th synthetic restaurant.
+     */
+    public static Restaurant get(int index) {
+        checkArgument(index >= 0 && index < MAX_COUNT, "Index out of range: " + index);
+        Restaurant sample = SAMPLES[index % SAMPLES.length];
+
+        String sampleAddress = sample.getAddress().value;
+        int suffixStart = sampleAddress.lastIndexOf(ADDRESS_SUFFIX);
+        String address = sampleAddress.substring(0, suffixStart) + " Unit " + index
+                + sampleAddress.substring(suffixStart);
+
+        String[] tags = sample.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new);
+        return new RestaurantBuilder()
+                .withName(sample.getName().fullName + " " + index)
+                .withPhone(String.valueOf(FIRST_PHONE + index))
+                .withAddress(address)
+                .withTags(tags)
+                .withRating(index % (MAX_RATING + 1))
+                .withIsMarked(index % 3 == 0)
+                .build();
+    }
+
+    /**
+     * Returns the first {@code count} synthetic restaurants.
+     */
+    public static List<Restaurant> getList(int count) {
+        checkArgument(count >= 0 && count <= MAX_COUNT, "Count out of range: " + count);
+        List<Restaurant> restaurants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            restaurants.add(get(i));
+        }
+        return restaurants;
+    }
+
+    /**
+     * Returns a {@code RestaurantDirectory} with the first {@code count} synthetic restaurants.
+     */
+    public static RestaurantDirectory getDirectory(int count) {
+        RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
+        restaurantDirectory.setRestaurants(getList(count));
+        return restaurantDirectory;
+    }
+}
@@ -0,0 +1,128 @@
+package foodtrail.ui;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.SyntheticRestaurants;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+
+/**
+ * Measures the time taken to lay out each frame of a {@link RestaurantListPanel} showing 100,000 restaurants while
+ * it is scrolled, both one row at a time and by jumping to random rows, which makes every visible cell show a new
+ * restaurant. The frame times are printed as their mean and percentiles.
+ *
+ * Run it with {@code ./gradlew scrollBenchmark}, which uses the headless Monocle platform so that no screen is
+ * needed. The number of restaurants can be changed with {@code -PscrollBenchmarkRows=<count>}.
+ */
+public class RestaurantListPanelScrollBenchmark {
+
+    private static final int DEFAULT_ROW_COUNT = 100_000;
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int WARMUP_FRAMES = 1_000;
+    private static final int MEASURED_FRAMES = 5_000;
+    private static final long SEED = 2103;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ListView<?> listView;
+    private final Parent root;
+    private final int rowCount;
+
+    private RestaurantListPanelScrollBenchmark(List<Restaurant> restaurants) {
+        RestaurantListPanel panel = new RestaurantListPanel(FXCollections.observableArrayList(restaurants));
+        Stage stage = new Stage();
+        stage.setScene(new Scene(panel.getRoot(), WIDTH, HEIGHT));
+        stage.show();
+
+        root = stage.getScene().getRoot();
+        listView = (ListView<?>) root.lookup("#restaurantListView");
+        rowCount = restaurants.size();
+    }
+
+    /**
+     * Runs the benchmark with the number of restaurants given as the only argument, if any.
+     */
+    public static void main(String[] args) throws Exception {
+        int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROW_COUNT;
+        List<Restaurant> restaurants = SyntheticRestaurants.getList(rowCount);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        try {
+            RestaurantListPanelScrollBenchmark benchmark =
+                    runOnFxThread(() -> new RestaurantListPanelScrollBenchmark(restaurants));
+            System.out.printf("Scrolling %,d restaurants in a %dx%d window (times in ms)%n", rowCount, WIDTH, HEIGHT);
+
+            benchmark.measure(WARMUP_FRAMES, frame -> frame);
+            report("one row per frame", benchmark.measure(MEASURED_FRAMES, frame -> frame));
+
+            Random random = new Random(SEED);
+            benchmark.measure(WARMUP_FRAMES, frame -> random.nextInt(rowCount));
+            report("random row per frame", benchmark.measure(MEASURED_FRAMES, frame -> random.nextInt(rowCount)));
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Scrolls to the row given by {@code rowOfFrame} for each of {@code frameCount} frames, letting the FX thread
+     * render between frames, and returns the time taken to lay out each frame in nanoseconds.
+     */
+    private long[] measure(int frameCount, RowOfFrame rowOfFrame) throws Exception {
+        long[] frameTimes = new long[frameCount];
+        for (int frame = 0; frame < frameCount; frame++) {
+            int row = rowOfFrame.get(frame) % rowCount;
+            frameTimes[frame] = runOnFxThread(() -> {
+                long start = System.nanoTime();
+                listView.scrollTo(row);
+                root.applyCss();
+                root.layout();
+                return System.nanoTime() - start;
+            });
+        }
+        return frameTimes;
+    }
+
+    private static void report(String scenario, long[] frameTimes) {
+        long[] sorted = frameTimes.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        System.out.printf("%-22s mean %7.3f  p50 %7.3f  p95 %7.3f  p99 %7.3f  max %7.3f%n", scenario,
+                mean / NANOS_PER_MILLI, percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted[sorted.length - 1] / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the {@code percent}-th percentile of the sorted frame times in milliseconds.
+     */
+    private static double percentile(long[] sortedFrameTimes, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sortedFrameTimes.length) - 1;
+        return sortedFrameTimes[Math.max(0, index)] / NANOS_PER_MILLI;
+    }
+
+    private static <T> T runOnFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        Platform.runLater(futureTask);
+        return futureTask.get();
+    }
+
+    /**
+     * Gives the row to scroll to in each frame.
+     */
+    @FunctionalInterface
+    private interface RowOfFrame {
+        int get(int frame);
+    }
+}
@@ -6,9 +6,12 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import foodtrail.commons.core.Config;
+import foodtrail.commons.core.DataFileFormat;
 import foodtrail.commons.core.LogsCenter;
 import foodtrail.commons.core.Version;
 import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.commons.metrics.MetricsDumper;
+import foodtrail.commons.metrics.MetricsRegistry;
 import foodtrail.commons.util.ConfigUtil;
 import foodtrail.commons.util.StringUtil;
 import foodtrail.logic.Logic;
@@ -20,6 +23,8 @@ import foodtrail.model.ReadOnlyUserPrefs;
 import foodtrail.model.RestaurantDirectory;
 import foodtrail.model.UserPrefs;
 import foodtrail.model.util.SampleDataUtil;
+import foodtrail.storage.BinaryRestaurantDirectoryStorage;
+import foodtrail.storage.JournaledRestaurantDirectoryStorage;
 import foodtrail.storage.JsonRestaurantDirectoryStorage;
 import foodtrail.storage.JsonUserPrefsStorage;
 import foodtrail.storage.RestaurantDirectoryStorage;
@@ -45,57 +50,133 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    // Null if metrics are not written to a file
+    protected MetricsDumper metricsDumper;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing RestaurantDirectory ]===========================");
         super.init();
 
+        StartupPhaseEvent phase = beginStartupPhase("config");
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        phase.commit();
 
+        phase = beginStartupPhase("storage");
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         RestaurantDirectoryStorage restaurantDirectoryStorage =
-                new JsonRestaurantDirectoryStorage(userPrefs.getRestaurantDirectoryFilePath());
+                userPrefs.getRestaurantDirectoryFormat() == DataFileFormat.BINARY
+                        ? new BinaryRestaurantDirectoryStorage(userPrefs.getRestaurantDirectoryFilePath(),
+                                userPrefs.getRestaurantDirectoryBackupCount())
+                        : new JsonRestaurantDirectoryStorage(userPrefs.getRestaurantDirectoryFilePath(),
+                                userPrefs.getRestaurantDirectoryBackupCount());
+        if (userPrefs.isRestaurantDirectoryJournaled()) {
+            restaurantDirectoryStorage = new JournaledRestaurantDirectoryStorage(restaurantDirectoryStorage);
+        }
         storage = new StorageManager(restaurantDirectoryStorage, userPrefsStorage);
+        phase.commit();
 
+        phase = beginStartupPhase("model");
         model = initModelManager(storage, userPrefs);
+        phase.commit();
 
-        logic = new LogicManager(model, storage);
+        phase = beginStartupPhase("logic");
+        MetricsRegistry metrics = new MetricsRegistry();
+        logic = new LogicManager(model, storage, metrics);
+        metricsDumper = initMetricsDumper(metrics, config);
+        phase.commit();
 
+        phase = beginStartupPhase("ui");
         ui = new UiManager(logic);
+        phase.commit();
+    }
+
+    /**
+     * Returns a {@code StartupPhaseEvent} for the phase of {@link #init()} named {@code name}, which has begun.
+     */
+    private static StartupPhaseEvent beginStartupPhase(String name) {
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.setPhase(name);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Returns a {@code MetricsDumper} that writes {@code metrics} to the file set in {@code config}, at the interval
+     * set in {@code config}, or null if metrics are not to be written as the interval is not positive.
+     */
+    private MetricsDumper initMetricsDumper(MetricsRegistry metrics, Config config) {
+        if (config.getMetricsDumpIntervalSeconds() <= 0) {
+            return null;
+        }
+        logger.info("Using metrics file : " + config.getMetricsFilePath());
+        MetricsDumper dumper = new MetricsDumper(metrics, config.getMetricsFilePath());
+        dumper.start(config.getMetricsDumpIntervalSeconds());
+        return dumper;
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s restaurant directory and {@code userPrefs}.
      * <br>
      * The data from the sample restaurant directory will be used instead if {@code storage}'s restaurant directory
-     * is not found, or an empty restaurant directory will be used instead if errors occur when reading
-     * {@code storage}'s restaurant directory.
+     * is not found. If errors occur when reading {@code storage}'s restaurant directory, the newest backup that can
+     * be read will be used instead, or an empty restaurant directory if there is none.
+     * If {@code storage} is journaled, such data is saved right away, as only the changes made to it will be saved.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getRestaurantDirectoryFilePath());
 
         Optional<ReadOnlyRestaurantDirectory> restaurantDirectoryOptional;
         ReadOnlyRestaurantDirectory initialData;
+        boolean isReadFromDataFile = false;
         try {
             restaurantDirectoryOptional = storage.readRestaurantDirectory();
+            isReadFromDataFile = restaurantDirectoryOptional.isPresent();
             if (!restaurantDirectoryOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getRestaurantDirectoryFilePath()
                         + " populated with a sample RestaurantDirectory.");
             }
             initialData = restaurantDirectoryOptional.orElseGet(SampleDataUtil::getSampleRestaurantDirectory);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getRestaurantDirectoryFilePath() + " could not be loaded."
-                    + " Will be starting with an empty RestaurantDirectory.");
-            initialData = new RestaurantDirectory();
+            logger.warning("Data file at " + storage.getRestaurantDirectoryFilePath() + " could not be loaded.");
+            initialData = readNewestBackup(storage).orElseGet(() -> {
+                logger.warning("No backup could be loaded. Will be starting with an empty RestaurantDirectory.");
+                return new RestaurantDirectory();
+            });
+        }
+
+        if (storage.isRestaurantDirectoryJournaled() && !isReadFromDataFile) {
+            try {
+                storage.saveRestaurantDirectory(initialData);
+            } catch (IOException e) {
+                logger.warning("Failed to save initial data : " + StringUtil.getDetails(e));
+            }
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the newest backup of {@code storage}'s restaurant directory that can be read, if any.
+     */
+    private Optional<ReadOnlyRestaurantDirectory> readNewestBackup(Storage storage) {
+        for (Path backupFilePath : storage.getRestaurantDirectoryBackupFilePaths()) {
+            try {
+                Optional<ReadOnlyRestaurantDirectory> backup = storage.readRestaurantDirectory(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Starting with the data from backup file " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup file at " + backupFilePath + " could not be loaded.");
+            }
+        }
+        return Optional.empty();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -180,6 +261,10 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping RestaurantDirectory ] =============================");
+        logic.flushPendingSaves();
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
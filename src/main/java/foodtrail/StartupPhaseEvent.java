@@ -0,0 +1,28 @@
+package foodtrail;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a phase of initializing the app in {@code MainApp#init()}.
+ * It is only recorded while a recording that enables it is running, such as one started with
+ * {@code -XX:StartFlightRecording}.
+ */
+@Name("foodtrail.StartupPhase")
+@Label("Startup Phase")
+@Category({"FoodTrail", "Startup"})
+@Description("A phase of initializing the app, such as loading the data file")
+@StackTrace(false)
+class StartupPhaseEvent extends Event {
+
+    @Label("Phase")
+    private String phase;
+
+    void setPhase(String phase) {
+        this.phase = phase;
+    }
+}
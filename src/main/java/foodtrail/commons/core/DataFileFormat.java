@@ -0,0 +1,11 @@
+package foodtrail.commons.core;
+
+/**
+ * The formats that the data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON that can be edited by hand. */
+    JSON,
+    /** Compact binary that is quicker to read and write, saved at the same path as JSON would be. */
+    BINARY
+}
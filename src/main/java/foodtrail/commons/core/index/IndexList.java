@@ -0,0 +1,145 @@
+package foodtrail.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+import foodtrail.commons.util.ToStringBuilder;
+
+/**
+ * Represents a set of indexes, such as {@code 3-40,52}, stored as ranges so that a long range takes no more space
+ * than a single index. The indexes are kept in ascending order.
+ */
+public class IndexList {
+    // Sorted, disjoint and non-adjacent pairs of zero-based (first, last) indexes
+    private final int[] ranges;
+
+    private IndexList(int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates an {@code IndexList} holding only {@code index}.
+     */
+    public static IndexList of(Index index) {
+        requireNonNull(index);
+        return new IndexList(new int[] {index.getZeroBased(), index.getZeroBased()});
+    }
+
+    /**
+     * Returns an {@code IndexList} holding the indexes in this list and every index from {@code first} to
+     * {@code last}, inclusive.
+     */
+    public IndexList withRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new IllegalArgumentException("The first index of a range cannot be after the last.");
+        }
+
+        int newFirst = first.getZeroBased();
+        int newLast = last.getZeroBased();
+        int[] merged = new int[ranges.length + 2];
+        int length = 0;
+        boolean isAdded = false;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if ((long) ranges[i + 1] + 1 < newFirst) {
+                // Range is entirely before the new range
+                merged[length++] = ranges[i];
+                merged[length++] = ranges[i + 1];
+            } else if (ranges[i] > (long) newLast + 1) {
+                // Range is entirely after the new range
+                if (!isAdded) {
+                    merged[length++] = newFirst;
+                    merged[length++] = newLast;
+                    isAdded = true;
+                }
+                merged[length++] = ranges[i];
+                merged[length++] = ranges[i + 1];
+            } else {
+                // Range overlaps or touches the new range
+                newFirst = Math.min(newFirst, ranges[i]);
+                newLast = Math.max(newLast, ranges[i + 1]);
+            }
+        }
+        if (!isAdded) {
+            merged[length++] = newFirst;
+            merged[length++] = newLast;
+        }
+        return new IndexList(Arrays.copyOf(merged, length));
+    }
+
+    /**
+     * Returns true if this list holds exactly one index.
+     */
+    public boolean isSingle() {
+        return ranges.length == 2 && ranges[0] == ranges[1];
+    }
+
+    public Index getFirst() {
+        return Index.fromZeroBased(ranges[0]);
+    }
+
+    public Index getLast() {
+        return Index.fromZeroBased(ranges[ranges.length - 1]);
+    }
+
+    /**
+     * Returns true if every index in this list is an index of a list with {@code size} elements.
+     */
+    public boolean isWithin(int size) {
+        return getLast().getZeroBased() < size;
+    }
+
+    /**
+     * Returns the elements of {@code list} at the indexes in this list, in the order of the indexes.
+     * Every index must be within {@code list}.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        if (!isWithin(list.size())) {
+            throw new IndexOutOfBoundsException(getLast().getZeroBased());
+        }
+        List<T> selected = new ArrayList<>();
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int index = ranges[i]; index <= ranges[i + 1]; index++) {
+                selected.add(list.get(index));
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexList)) {
+            return false;
+        }
+
+        IndexList otherIndexList = (IndexList) other;
+        return Arrays.equals(ranges, otherIndexList.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner oneBasedRanges = new StringJoiner(",");
+        for (int i = 0; i < ranges.length; i += 2) {
+            oneBasedRanges.add(ranges[i] == ranges[i + 1]
+                    ? String.valueOf(ranges[i] + 1)
+                    : (ranges[i] + 1) + "-" + (ranges[i + 1] + 1));
+        }
+        return new ToStringBuilder(this).add("oneBasedRanges", oneBasedRanges).toString();
+    }
+}
@@ -0,0 +1,110 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counts non-negative values, such as durations or sizes, in buckets that double in width, so that values from
+ * nanoseconds to minutes can be recorded in a fixed amount of memory.
+ * Percentiles are estimated to within a factor of two, but never exceed the largest value recorded.
+ * Values may be recorded and read from any thread.
+ */
+public class Histogram {
+
+    public static final String MESSAGE_NEGATIVE_VALUE = "Values recorded in a histogram cannot be negative.";
+
+    /**
+     * The unit of the values in a {@code Histogram}, which decides how they are shown.
+     */
+    public enum Unit {
+        NANOSECONDS, BYTES;
+
+        /**
+         * Returns {@code value} in this unit as text, with durations shown in milliseconds.
+         */
+        public String format(long value) {
+            if (this == NANOSECONDS) {
+                return String.format("%.3fms", value / 1_000_000.0);
+            }
+            return value + "B";
+        }
+    }
+
+    // Bucket 0 holds zero, and bucket i holds values from 2^(i-1) to 2^i - 1
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final Unit unit;
+
+    // Guarded by this
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    /**
+     * Creates an empty {@code Histogram} of values in {@code unit}.
+     */
+    public Histogram(Unit unit) {
+        requireNonNull(unit);
+        this.unit = unit;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Records {@code value}.
+     *
+     * @throws IllegalArgumentException if {@code value} is negative.
+     */
+    public synchronized void record(long value) {
+        checkArgument(value >= 0, MESSAGE_NEGATIVE_VALUE);
+        bucketCounts[Long.SIZE - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getSum() {
+        return sum;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an upper bound on the {@code percentile}th percentile of the values recorded, which is at most twice
+     * the actual percentile, or 0 if no values have been recorded.
+     *
+     * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100.
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100);
+        // Rank of the value at the percentile, counting from 1
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT && count > 0; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                // The upper bound of the last bucket overflows to Long.MAX_VALUE, as it should
+                return Math.min((1L << i) - 1, max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of values recorded and their mean, median, 99th percentile and maximum, as one line.
+     */
+    public synchronized String getSummary() {
+        long mean = count == 0 ? 0 : sum / count;
+        return String.format("count=%d mean=%s p50=%s p99=%s max=%s", count, unit.format(mean),
+                unit.format(getPercentile(50)), unit.format(getPercentile(99)), unit.format(max));
+    }
+}
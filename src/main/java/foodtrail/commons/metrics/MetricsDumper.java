@@ -0,0 +1,90 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.util.FileUtil;
+import foodtrail.commons.util.StringUtil;
+
+/**
+ * Writes the report of a {@code MetricsRegistry} to a file on a background thread at a fixed interval, replacing the
+ * report written before, so that the metrics of a session can be read while it runs and after it ends.
+ */
+public class MetricsDumper {
+
+    public static final String MESSAGE_INVALID_INTERVAL = "Interval between metrics dumps must be positive.";
+
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private final MetricsRegistry metrics;
+    private final Path filePath;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-dumper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code MetricsDumper} that writes the report of {@code metrics} to the file at {@code filePath}.
+     */
+    public MetricsDumper(MetricsRegistry metrics, Path filePath) {
+        requireAllNonNull(metrics, filePath);
+        this.metrics = metrics;
+        this.filePath = filePath;
+    }
+
+    /**
+     * Writes the report every {@code intervalSeconds} seconds, starting {@code intervalSeconds} seconds from now.
+     *
+     * @throws IllegalArgumentException if {@code intervalSeconds} is not positive.
+     */
+    public void start(long intervalSeconds) {
+        checkArgument(intervalSeconds > 0, MESSAGE_INVALID_INTERVAL);
+        executor.scheduleWithFixedDelay(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the report periodically, then writes it a final time once any report being written is done,
+     * so that the final report cannot be replaced by an earlier one.
+     */
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Metrics are still being written to " + filePath + ", so no final report is written");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        dumpQuietly();
+    }
+
+    /**
+     * Writes the report to the file now, replacing the file.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void dump() throws IOException {
+        FileUtil.writeToFile(filePath, metrics.getReport());
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + filePath + " " + StringUtil.getDetails(e));
+        }
+    }
+}
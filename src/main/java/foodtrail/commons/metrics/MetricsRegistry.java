@@ -0,0 +1,88 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import foodtrail.commons.metrics.Histogram.Unit;
+
+/**
+ * Holds the counters and histograms recorded by the app while it runs, by name.
+ * Counters and histograms are created the first time they are recorded to, and are listed in order of name.
+ * Metrics may be recorded and read from any thread.
+ */
+public class MetricsRegistry {
+
+    public static final String MESSAGE_UNIT_MISMATCH = "Histogram %s records values in %s, not %s.";
+
+    private final Instant startTime = Instant.now();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds one to the counter named {@code name}.
+     */
+    public void increment(String name) {
+        requireNonNull(name);
+        counters.computeIfAbsent(name, unused -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the value of the counter named {@code name}, which is 0 if it has never been incremented.
+     */
+    public long getCount(String name) {
+        requireNonNull(name);
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the histogram named {@code name}, creating an empty one of values in {@code unit} if there is none.
+     *
+     * @throws IllegalArgumentException if the histogram exists but records values in another unit.
+     */
+    public Histogram getHistogram(String name, Unit unit) {
+        requireAllNonNull(name, unit);
+        Histogram histogram = histograms.computeIfAbsent(name, unused -> new Histogram(unit));
+        if (histogram.getUnit() != unit) {
+            throw new IllegalArgumentException(String.format(MESSAGE_UNIT_MISMATCH, name, histogram.getUnit(), unit));
+        }
+        return histogram;
+    }
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds in the histogram named {@code name}.
+     */
+    public void recordDuration(String name, long nanos) {
+        getHistogram(name, Unit.NANOSECONDS).record(nanos);
+    }
+
+    /**
+     * Records a size of {@code bytes} bytes in the histogram named {@code name}.
+     */
+    public void recordBytes(String name, long bytes) {
+        getHistogram(name, Unit.BYTES).record(bytes);
+    }
+
+    /**
+     * Returns every counter and histogram, one per line, in order of name.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Metrics since ").append(startTime).append('\n');
+        report.append("Counters:\n");
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            report.append("  ").append(counter.getKey()).append(": ").append(counter.getValue().sum()).append('\n');
+        }
+        report.append("Histograms:\n");
+        for (Map.Entry<String, Histogram> histogram : histograms.entrySet()) {
+            report.append("  ").append(histogram.getKey()).append(": ").append(histogram.getValue().getSummary())
+                    .append('\n');
+        }
+        return report.toString();
+    }
+}
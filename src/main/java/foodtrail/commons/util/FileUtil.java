@@ -1,10 +1,14 @@
 package foodtrail.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -75,9 +79,61 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, tempFile -> Files.write(tempFile, content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes a file by having {@code writer} write a temporary file in the same directory, forcing the temporary
+     * file to disk, then moving it over {@code file} in a single atomic step.
+     * If the application crashes or {@code writer} fails, {@code file} is left either untouched or fully replaced,
+     * never partially written.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        try {
+            writer.writeTo(tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a completed move survives a crash.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms do not allow directories to be opened; the move has still been made
+        }
+    }
+
+    /**
+     * Writes the content of a file to the given path.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Path file) throws IOException;
     }
 
 }
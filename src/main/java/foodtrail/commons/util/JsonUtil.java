@@ -3,18 +3,25 @@ package foodtrail.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +46,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Does not flush after every value, as streamed files are written one small value at a time
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +103,50 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the given JSON file incrementally through a file channel.
+     * The parser must be closed by the caller, which also closes the file.
+     *
+     * @param filePath cannot be null, and the file must exist.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON incrementally to the given file through a file channel.
+     * Overwrites the file if it exists, creates a new file if it doesn't.
+     * The generator must be closed by the caller, which also closes the file.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return objectMapper.getFactory().createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Reads the JSON value that {@code parser} is positioned at as an instance of the given class.
+     * The parser is left positioned at the last token of the value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Writes the given instance as the next JSON value of {@code generator}.
+     */
+    public static <T> void writeValue(JsonGenerator generator, T instance) throws IOException {
+        streamingWriter.writeValue(generator, instance);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +166,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -7,12 +7,15 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern COMBINING_DIACRITICAL_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -59,12 +62,65 @@ public class StringUtil {
             return true; // Or false, depending on desired behavior for empty substring
         }
 
-        String normalizedSentence = Normalizer.normalize(sentence, Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        String normalizedSubstring = Normalizer.normalize(preppedSubstring, Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        return foldForSearch(sentence).contains(foldForSearch(preppedSubstring));
+    }
+
+    /**
+     * Returns {@code text} with its accents removed and converted to lower case.
+     * This is the form in which {@link #containsSubstringIgnoreCase(String, String)} compares strings.
+     *   <br>examples:<pre>
+     *       foldForSearch("KOI Thé") == "koi the"
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static String foldForSearch(String text) {
+        requireNonNull(text);
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_DIACRITICAL_MARKS.matcher(decomposed).replaceAll("").toLowerCase();
+    }
+
+    /**
+     * Returns {@code text} with every character folded the way {@link String#equalsIgnoreCase(String)} and
+     * {@link String#CASE_INSENSITIVE_ORDER} compare them, so that two strings fold to the same value exactly when
+     * they are equal ignoring case, and comparing folded strings gives the same order.
+     * @param text cannot be null
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(folded);
+    }
 
-        return normalizedSentence.toLowerCase().contains(normalizedSubstring.toLowerCase());
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression,
+     * that is, a space, tab, line feed, vertical tab, form feed or carriage return.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .} in a regular expression.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regular expression.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regular expression.
+     */
+    public static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
     /**
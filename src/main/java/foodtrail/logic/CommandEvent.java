@@ -0,0 +1,61 @@
+package foodtrail.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for a command executed by {@code LogicManager}, from parsing it to requesting that
+ * its changes be saved. It is only recorded while a recording that enables it is running.
+ */
+@Name("foodtrail.Command")
+@Label("Command")
+@Category({"FoodTrail", "Logic"})
+@Description("A command executed by the user, with the time taken by each phase")
+@StackTrace(false)
+class CommandEvent extends Event {
+
+    @Label("Command Word")
+    @Description("Empty if the command could not be parsed")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    @Description("Includes the sort duration")
+    private long executeDuration;
+
+    @Label("Sort Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long sortDuration;
+
+    @Label("Succeeded")
+    private boolean isSucceeded;
+
+    void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    void setParseDuration(long parseDuration) {
+        this.parseDuration = parseDuration;
+    }
+
+    void setExecuteDuration(long executeDuration) {
+        this.executeDuration = executeDuration;
+    }
+
+    void setSortDuration(long sortDuration) {
+        this.sortDuration = sortDuration;
+    }
+
+    void setSucceeded(boolean isSucceeded) {
+        this.isSucceeded = isSucceeded;
+    }
+}
@@ -0,0 +1,233 @@
+package foodtrail.logic;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.util.StringUtil;
+import foodtrail.logic.commands.CommandResult;
+import foodtrail.logic.commands.exceptions.CommandException;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.model.restaurant.Restaurant;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Executes commands one at a time, in the order they are submitted, on a background thread, so that a slow command
+ * does not hold up the thread that submits it. Previews of a find command being typed are executed the same way,
+ * but are cancelled once anything is submitted after them.
+ * As the model is modified on the background thread, the changes to the restaurants it shows are replayed on a
+ * separate list, which is only modified through {@code resultExecutor} along with the results of the commands. When
+ * {@code resultExecutor} runs tasks on the JavaFX application thread, that list can be shown in the UI.
+ * Once a command exits the application, the commands submitted after it are not executed.
+ */
+public class CommandQueue {
+
+    public static final String MESSAGE_EXITED = "The application is exiting, so no more commands are executed.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ObservableList<Restaurant> shownRestaurants;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Incremented by every submission, so that a preview knows it is stale once this has moved past it
+    private final AtomicLong submissionCount = new AtomicLong();
+
+    // Only accessed on the background thread, after the constructor has returned
+    private List<Consumer<ObservableList<Restaurant>>> shownListEdits = new ArrayList<>();
+    private boolean isExited = false;
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} and passes their results to
+     * {@code resultExecutor}.
+     * No other thread may execute commands with {@code logic} or modify its model after this.
+     */
+    public CommandQueue(Logic logic, Executor resultExecutor) {
+        requireAllNonNull(logic, resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+        shownRestaurants = FXCollections.observableArrayList(logic.getFilteredRestaurantList());
+        logic.getFilteredRestaurantList().addListener((ListChangeListener<Restaurant>) this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable list of the restaurants shown by the model after the last command whose result has
+     * been passed to the result executor. It is only modified by tasks run by the result executor.
+     */
+    public ObservableList<Restaurant> getShownRestaurantList() {
+        return FXCollections.unmodifiableObservableList(shownRestaurants);
+    }
+
+    /**
+     * Executes {@code commandText} after every command submitted before it.
+     * The returned future is completed by a task run by the result executor, after the shown list has been updated
+     * with the changes made by the command. It fails with a {@code CommandException} or {@code ParseException} if
+     * the command could not be executed, or with a {@code CommandException} if it was submitted after a command that
+     * exits the application.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        submissionCount.incrementAndGet();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        executor.execute(() -> execute(commandText, result));
+        return result;
+    }
+
+    /**
+     * Shows the restaurants containing {@code keyword} after every command and preview submitted before it, unless
+     * something else is submitted before it is done.
+     * The returned future is completed by a task run by the result executor, after the shown list has been updated.
+     * It holds the number of restaurants shown, or is empty if the preview was cancelled or submitted after a
+     * command that exits the application.
+     *
+     * @see Logic#previewFind(String, java.util.function.BooleanSupplier)
+     */
+    public CompletableFuture<OptionalInt> submitPreviewFind(String keyword) {
+        requireNonNull(keyword);
+        long submission = submissionCount.incrementAndGet();
+        CompletableFuture<OptionalInt> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            OptionalInt shownCount = OptionalInt.empty();
+            try {
+                if (!isExited) {
+                    shownCount = logic.previewFind(keyword, () -> submissionCount.get() != submission);
+                }
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected failure previewing find " + StringUtil.getDetails(e));
+            }
+            updateShownList();
+            OptionalInt finalShownCount = shownCount;
+            resultExecutor.execute(() -> result.complete(finalShownCount));
+        });
+        return result;
+    }
+
+    /**
+     * Shows the restaurants shown before the previews submitted since the last command, after every command and
+     * preview submitted before it, and cancels any of those previews not yet done.
+     * The returned future is completed by a task run by the result executor, after the shown list has been updated.
+     * It holds false if no previews were shown since the last command, so nothing changed.
+     *
+     * @see Logic#cancelPreviewFind()
+     */
+    public CompletableFuture<Boolean> cancelPreviewFind() {
+        submissionCount.incrementAndGet();
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            boolean isRestored = false;
+            try {
+                isRestored = !isExited && logic.cancelPreviewFind();
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected failure cancelling find preview " + StringUtil.getDetails(e));
+            }
+            updateShownList();
+            boolean finalIsRestored = isRestored;
+            resultExecutor.execute(() -> result.complete(finalIsRestored));
+        });
+        return result;
+    }
+
+    private void execute(String commandText, CompletableFuture<CommandResult> result) {
+        CommandResult commandResult = null;
+        Exception exception = null;
+        try {
+            if (isExited) {
+                throw new CommandException(MESSAGE_EXITED);
+            }
+            commandResult = logic.execute(commandText);
+            isExited = commandResult.isExit();
+        } catch (CommandException | ParseException e) {
+            exception = e;
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected failure executing command " + StringUtil.getDetails(e));
+            exception = e;
+        }
+
+        updateShownList();
+        CommandResult finalCommandResult = commandResult;
+        Exception finalException = exception;
+        resultExecutor.execute(() -> {
+            if (finalException != null) {
+                result.completeExceptionally(finalException);
+            } else {
+                result.complete(finalCommandResult);
+            }
+        });
+    }
+
+    /**
+     * Records the edits that replay {@code change} on a list holding the restaurants shown before it.
+     * Only the restaurants added by each part of the change are copied, as the model may be modified by the next
+     * command before the edits are replayed.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Restaurant> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int[] newIndexes = new int[change.getTo() - from];
+                Arrays.setAll(newIndexes, i -> change.getPermutation(from + i) - from);
+                shownListEdits.add(shown -> {
+                    Restaurant[] permuted = new Restaurant[newIndexes.length];
+                    for (int i = 0; i < newIndexes.length; i++) {
+                        permuted[newIndexes[i]] = shown.get(from + i);
+                    }
+                    replace(shown, from, permuted.length, Arrays.asList(permuted));
+                });
+            } else if (!change.wasUpdated()) {
+                int removedSize = change.getRemovedSize();
+                List<Restaurant> added = new ArrayList<>(change.getAddedSubList());
+                shownListEdits.add(shown -> replace(shown, from, removedSize, added));
+            }
+        }
+    }
+
+    /**
+     * Replaces the {@code removedSize} restaurants from {@code from} in {@code shown} with {@code added}, only
+     * setting, removing or adding the restaurants that differ.
+     */
+    private static void replace(ObservableList<Restaurant> shown, int from, int removedSize, List<Restaurant> added) {
+        int replacedSize = Math.min(removedSize, added.size());
+        for (int i = 0; i < replacedSize; i++) {
+            if (shown.get(from + i) != added.get(i)) {
+                shown.set(from + i, added.get(i));
+            }
+        }
+        if (removedSize > replacedSize) {
+            shown.remove(from + replacedSize, from + removedSize);
+        } else if (added.size() > replacedSize) {
+            shown.addAll(from + replacedSize, added.subList(replacedSize, added.size()));
+        }
+    }
+
+    /**
+     * Passes the edits recorded since the last call to the result executor, which replays them on the shown list.
+     */
+    private void updateShownList() {
+        if (!shownListEdits.isEmpty()) {
+            List<Consumer<ObservableList<Restaurant>>> edits = shownListEdits;
+            shownListEdits = new ArrayList<>();
+            resultExecutor.execute(() -> edits.forEach(edit -> edit.accept(shownRestaurants)));
+        }
+    }
+}
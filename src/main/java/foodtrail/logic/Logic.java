@@ -1,6 +1,9 @@
 package foodtrail.logic;
 
 import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import foodtrail.commons.core.GuiSettings;
 import foodtrail.logic.commands.CommandResult;
@@ -24,6 +27,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows the restaurants containing {@code keyword}, as a find command would, while the command is still being
+     * typed. Keywords that extend the one shown before are searched incrementally.
+     * @param isCancelled Returns true once the result is no longer needed, in which case nothing is shown.
+     * @return the number of restaurants shown, or an empty {@code OptionalInt} if the search was cancelled.
+     */
+    OptionalInt previewFind(String keyword, BooleanSupplier isCancelled);
+
+    /**
+     * Shows the restaurants shown before the previews made by {@link #previewFind} since the last command, once the
+     * find command being typed is no longer typed.
+     * @return true if the restaurants shown changed back, or false if there were no such previews.
+     */
+    boolean cancelPreviewFind();
+
+    /**
+     * Sets the handler that is notified when changes made by a command could not be saved.
+     * Changes are saved in the background after the command has returned, so the handler may be called on
+     * a thread other than the one that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<CommandException> saveFailureHandler);
+
+    /**
+     * Saves any changes that have not been saved yet, and waits until they have been written.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the RestaurantDirectory.
      *
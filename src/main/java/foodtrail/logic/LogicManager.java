@@ -1,12 +1,23 @@
 package foodtrail.logic;
 
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import com.sun.management.ThreadMXBean;
+
 import foodtrail.commons.core.GuiSettings;
 import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.metrics.MetricsRegistry;
 import foodtrail.logic.commands.Command;
 import foodtrail.logic.commands.CommandResult;
 import foodtrail.logic.commands.exceptions.CommandException;
@@ -14,8 +25,11 @@ import foodtrail.logic.parser.RestaurantDirectoryParser;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.Model;
 import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.storage.RestaurantDirectoryChange;
 import foodtrail.storage.Storage;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -27,40 +41,246 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    static final String METRIC_PARSE_DURATION = "parse";
+    static final String METRIC_EXECUTE_DURATION_PREFIX = "execute.";
+    static final String METRIC_SORT_DURATION = "sort";
+    static final String METRIC_SAVE_COPY_DURATION = "save.copy";
+    static final String METRIC_PREVIEW_DURATION = "preview.find";
+    static final String METRIC_ALLOCATED_BYTES_PREFIX = "allocated.";
+    static final String METRIC_COMMAND_COUNT_PREFIX = "commands.";
+    static final String METRIC_FAILURE_COUNT_SUFFIX = ".failed";
+    static final String METRIC_INVALID_COMMAND_COUNT = "commands.invalid";
+
+    // Null if the JVM cannot measure the memory allocated by a thread
+    private static final ThreadMXBean threadBean = getThreadBean();
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final MetricsRegistry metrics;
     private final RestaurantDirectoryParser restaurantDirectoryParser;
+    private final WriteBehindSaver saver;
+    private final boolean isJournaled;
+    private long lastSavedVersion;
+    // Version of the restaurant directory last saved in full, rather than as changes appended to the journal
+    private long lastFullySavedVersion;
+    // Set when appending to the journal fails, as later changes cannot be appended until the journal is reset
+    private volatile boolean needsFullSave = false;
+    private volatile Consumer<CommandException> saveFailureHandler = unused -> {};
+    // Time spent sorting by the command being executed
+    private long commandSortNanos;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new MetricsRegistry());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records the number
+     * of commands executed, and the time taken by each phase of executing and saving them, in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, MetricsRegistry metrics) {
+        this(model, storage, metrics, WriteBehindSaver.DEFAULT_COALESCE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which waits
+     * {@code coalesceDelayMillis} for further changes before saving.
+     * If {@code storage} is journaled, it must hold the restaurant directory of {@code model}, as the changes made
+     * to it are appended to the journal.
+     */
+    LogicManager(Model model, Storage storage, long coalesceDelayMillis) {
+        this(model, storage, new MetricsRegistry(), coalesceDelayMillis);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} as above, which records metrics in {@code metrics}.
+     */
+    LogicManager(Model model, Storage storage, MetricsRegistry metrics, long coalesceDelayMillis) {
+        requireNonNull(metrics);
         this.model = model;
-        this.storage = storage;
-        restaurantDirectoryParser = new RestaurantDirectoryParser();
+        this.metrics = metrics;
+        restaurantDirectoryParser = new RestaurantDirectoryParser(metrics);
+        saver = new WriteBehindSaver(storage, coalesceDelayMillis, this::handleSaveFailure, metrics, this);
+        model.setSortDurationListener(nanos -> {
+            metrics.recordDuration(METRIC_SORT_DURATION, nanos);
+            commandSortNanos += nanos;
+        });
+        lastSavedVersion = model.getRestaurantDirectory().getVersion();
+        lastFullySavedVersion = lastSavedVersion;
+
+        isJournaled = storage.isRestaurantDirectoryJournaled();
+        if (isJournaled) {
+            model.getRestaurantDirectory().getRestaurantList().addListener((ListChangeListener<Restaurant>) change ->
+                    saver.requestAppend(RestaurantDirectoryChange.listOf(change)));
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * Commands are not executed while the restaurant directory is being copied for saving, so that it is not copied
+     * while it is being modified.
+     * The time taken to parse and execute the command, and the memory it allocates, are recorded in the metrics,
+     * and in a {@code CommandEvent} while Java Flight Recorder is recording.
+     */
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = restaurantDirectoryParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        commandSortNanos = 0;
+        try {
+            return execute(commandText, event);
+        } finally {
+            event.setSortDuration(commandSortNanos);
+            event.commit();
+        }
+    }
 
+    /**
+     * Executes {@code commandText}, setting the fields of {@code event} as each phase is completed.
+     */
+    private CommandResult execute(String commandText, CommandEvent event) throws CommandException, ParseException {
+        long startAllocatedBytes = getAllocatedBytes();
+        long parseStartNanos = System.nanoTime();
+        Command command;
         try {
-            storage.saveRestaurantDirectory(model.getRestaurantDirectory());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            command = restaurantDirectoryParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            metrics.increment(METRIC_INVALID_COMMAND_COUNT);
+            throw e;
+        } finally {
+            long parseNanos = System.nanoTime() - parseStartNanos;
+            metrics.recordDuration(METRIC_PARSE_DURATION, parseNanos);
+            event.setParseDuration(parseNanos);
         }
 
+        // The parser has accepted the command word, so only known words are recorded
+        String commandWord = commandText.trim().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+        metrics.increment(METRIC_COMMAND_COUNT_PREFIX + commandWord);
+        event.setCommandWord(commandWord);
+        long executeStartNanos = System.nanoTime();
+        CommandResult commandResult;
+        // The memory allocated is recorded for failed commands too
+        try {
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                metrics.increment(METRIC_COMMAND_COUNT_PREFIX + commandWord + METRIC_FAILURE_COUNT_SUFFIX);
+                throw e;
+            } finally {
+                long executeNanos = System.nanoTime() - executeStartNanos;
+                metrics.recordDuration(METRIC_EXECUTE_DURATION_PREFIX + commandWord, executeNanos);
+                event.setExecuteDuration(executeNanos);
+            }
+
+            ReadOnlyRestaurantDirectory restaurantDirectory = model.getRestaurantDirectory();
+            if (restaurantDirectory.getVersion() != lastSavedVersion) {
+                lastSavedVersion = restaurantDirectory.getVersion();
+                if (!isJournaled || needsFullSave) {
+                    requestFullSave();
+                }
+            }
+        } finally {
+            if (startAllocatedBytes >= 0) {
+                metrics.recordBytes(METRIC_ALLOCATED_BYTES_PREFIX + commandWord,
+                        getAllocatedBytes() - startAllocatedBytes);
+            }
+        }
+        event.setSucceeded(true);
         return commandResult;
     }
 
+    @Override
+    public synchronized OptionalInt previewFind(String keyword, BooleanSupplier isCancelled) {
+        requireAllNonNull(keyword, isCancelled);
+        long startNanos = System.nanoTime();
+        boolean isCompleted = model.updateFilteredRestaurantListIncrementally(keyword, isCancelled);
+        metrics.recordDuration(METRIC_PREVIEW_DURATION, System.nanoTime() - startNanos);
+        if (!isCompleted) {
+            return OptionalInt.empty();
+        }
+        logger.fine("Previewed find for: " + keyword);
+        return OptionalInt.of(model.getFilteredRestaurantList().size());
+    }
+
+    @Override
+    public synchronized boolean cancelPreviewFind() {
+        boolean isRestored = model.restoreFilteredRestaurantList();
+        if (isRestored) {
+            logger.fine("Cancelled find preview");
+        }
+        return isRestored;
+    }
+
+    private void requestFullSave() {
+        needsFullSave = false;
+        lastFullySavedVersion = model.getRestaurantDirectory().getVersion();
+        // Copied by the saver just before it writes, so that commands coalesced into one save are copied once
+        saver.requestSave(this::copyRestaurantDirectory);
+    }
+
+    /**
+     * Returns a copy of the restaurant directory to save, as the model may be modified by further commands while
+     * it is being written.
+     * Called by the saver while holding the lock of this {@code LogicManager}, so no command is being executed.
+     */
+    private ReadOnlyRestaurantDirectory copyRestaurantDirectory() {
+        assert Thread.holdsLock(this);
+        long startNanos = System.nanoTime();
+        RestaurantDirectory copy = new RestaurantDirectory(model.getRestaurantDirectory());
+        metrics.recordDuration(METRIC_SAVE_COPY_DURATION, System.nanoTime() - startNanos);
+        return copy;
+    }
+
+    private static ThreadMXBean getThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if it cannot be measured.
+     */
+    private static long getAllocatedBytes() {
+        return threadBean == null ? -1 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<CommandException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the storage is journaled, the restaurant directory is saved in full if it has changed since it was last
+     * saved in full, so that the data file holds all the changes.
+     */
+    @Override
+    public void flushPendingSaves() {
+        synchronized (this) {
+            if (isJournaled && model.getRestaurantDirectory().getVersion() != lastFullySavedVersion) {
+                requestFullSave();
+            }
+        }
+        // Waited for without holding the lock, as the saver takes it to copy the restaurant directory
+        saver.flush();
+    }
+
+    private void handleSaveFailure(IOException ioe) {
+        needsFullSave = isJournaled;
+        String messageFormat = ioe instanceof AccessDeniedException
+                ? FILE_OPS_PERMISSION_ERROR_FORMAT
+                : FILE_OPS_ERROR_FORMAT;
+        saveFailureHandler.accept(new CommandException(String.format(messageFormat, ioe.getMessage()), ioe));
+    }
+
     @Override
     public ReadOnlyRestaurantDirectory getRestaurantDirectory() {
         return model.getRestaurantDirectory();
@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 
 import foodtrail.logic.parser.Prefix;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.Tag;
 
 /**
  * Container for user visible messages.
@@ -42,7 +43,7 @@ public class Messages {
                 .append("; Address: ")
                 .append(restaurant.getAddress())
                 .append("; Tags: ");
-        restaurant.getTags().forEach(builder::append);
+        restaurant.getTags().stream().sorted(Tag.BY_NAME).forEach(builder::append);
         return builder.toString();
     }
 
@@ -0,0 +1,182 @@
+package foodtrail.logic;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.metrics.MetricsRegistry;
+import foodtrail.commons.util.StringUtil;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.storage.RestaurantDirectoryChange;
+import foodtrail.storage.RestaurantDirectoryStorage;
+
+/**
+ * Saves restaurant directories, or changes to them, to a {@code RestaurantDirectoryStorage} on a background thread.
+ * Saves requested in quick succession are coalesced, so that only the latest restaurant directory is written,
+ * and changes are appended together.
+ * The restaurant directory to save is only taken on the background thread, just before it is written, so that
+ * saves coalesced together only take it once.
+ * The time taken by every save, and the size of every file saved, are recorded in a {@code MetricsRegistry}.
+ */
+class WriteBehindSaver {
+
+    /** How long to wait for further save requests before writing. */
+    static final long DEFAULT_COALESCE_DELAY_MILLIS = 200;
+
+    static final String METRIC_SAVE_DURATION = "save";
+    static final String METRIC_SAVE_BYTES = "save.bytes";
+    static final String METRIC_APPEND_DURATION = "append";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final RestaurantDirectoryStorage storage;
+    private final long coalesceDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    private final MetricsRegistry metrics;
+    // Held while the restaurant directory to save is taken, so that it is not modified meanwhile
+    private final Object modelLock;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "restaurant-directory-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private Supplier<? extends ReadOnlyRestaurantDirectory> pendingSave;
+    private List<RestaurantDirectoryChange> pendingChanges = new ArrayList<>();
+    private boolean isSaveScheduled = false;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage}, waiting {@code coalesceDelayMillis}
+     * after the first of a series of save requests, and passes any failure to {@code failureHandler}.
+     * {@code failureHandler} is called on the background thread.
+     */
+    WriteBehindSaver(RestaurantDirectoryStorage storage, long coalesceDelayMillis,
+            Consumer<IOException> failureHandler) {
+        this(storage, coalesceDelayMillis, failureHandler, new MetricsRegistry(), new Object());
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} as above, which records the time taken by every save, and the size of
+     * every file saved, in {@code metrics}.
+     * Restaurant directories to save are taken while holding {@code modelLock}, which must be held whenever the
+     * restaurant directory is modified. Saves and changes may be requested while holding {@code modelLock}, but
+     * {@link #flush()} must not be called while holding it.
+     */
+    WriteBehindSaver(RestaurantDirectoryStorage storage, long coalesceDelayMillis,
+            Consumer<IOException> failureHandler, MetricsRegistry metrics, Object modelLock) {
+        requireAllNonNull(storage, failureHandler, metrics, modelLock);
+        this.storage = storage;
+        this.coalesceDelayMillis = coalesceDelayMillis;
+        this.failureHandler = failureHandler;
+        this.metrics = metrics;
+        this.modelLock = modelLock;
+    }
+
+    /**
+     * Requests that the restaurant directory returned by {@code snapshotSupplier} be saved. It replaces any
+     * restaurant directory that has been requested but not yet saved.
+     * {@code snapshotSupplier} is called once on the background thread, while holding the model lock, just before
+     * the save is written. Changes requested before then are already part of the restaurant directory it returns,
+     * so they are not appended. The returned restaurant directory must not be modified afterwards.
+     */
+    synchronized void requestSave(Supplier<? extends ReadOnlyRestaurantDirectory> snapshotSupplier) {
+        requireNonNull(snapshotSupplier);
+        pendingSave = snapshotSupplier;
+        scheduleSave();
+    }
+
+    /**
+     * Requests that {@code changes} be appended to the journal of the storage, after any restaurant directory and
+     * changes requested before.
+     * The storage must be journaled.
+     */
+    synchronized void requestAppend(List<RestaurantDirectoryChange> changes) {
+        requireNonNull(changes);
+        pendingChanges.addAll(changes);
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        assert Thread.holdsLock(this);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePending, coalesceDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the pending restaurant directory and changes, if any, without waiting for the coalescing delay, and
+     * waits until they have been written.
+     * Must not be called while holding the model lock, as the restaurant directory cannot be taken until it is
+     * released.
+     */
+    void flush() {
+        try {
+            executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush pending save " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyRestaurantDirectory toSave = null;
+        List<RestaurantDirectoryChange> toAppend;
+        // Taken in the same order as by threads that modify the model and then request saves
+        synchronized (modelLock) {
+            synchronized (this) {
+                if (pendingSave != null) {
+                    toSave = pendingSave.get();
+                    // Every change requested so far was made before the snapshot, so it is already part of it
+                    pendingChanges.clear();
+                }
+                toAppend = pendingChanges;
+                pendingSave = null;
+                pendingChanges = new ArrayList<>();
+                isSaveScheduled = false;
+            }
+        }
+
+        try {
+            if (toSave != null) {
+                long startNanos = System.nanoTime();
+                storage.saveRestaurantDirectory(toSave);
+                metrics.recordDuration(METRIC_SAVE_DURATION, System.nanoTime() - startNanos);
+                recordSavedBytes();
+            }
+            if (!toAppend.isEmpty()) {
+                long startNanos = System.nanoTime();
+                storage.appendRestaurantDirectoryChanges(toAppend);
+                metrics.recordDuration(METRIC_APPEND_DURATION, System.nanoTime() - startNanos);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save restaurant directory " + StringUtil.getDetails(ioe));
+            failureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Records the size of the data file just saved, as the file is written in full by every save.
+     */
+    private void recordSavedBytes() {
+        try {
+            metrics.recordBytes(METRIC_SAVE_BYTES, Files.size(storage.getRestaurantDirectoryFilePath()));
+        } catch (IOException e) {
+            logger.fine("Could not read the size of the saved data file " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.commons.util.ToStringBuilder;
 import foodtrail.logic.Messages;
 import foodtrail.logic.commands.exceptions.CommandException;
@@ -14,23 +15,32 @@ import foodtrail.model.Model;
 import foodtrail.model.restaurant.Restaurant;
 
 /**
- * Deletes a restaurant identified using it's displayed index from the restaurant directory.
+ * Deletes restaurants identified using their displayed indexes from the restaurant directory.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the restaurant identified by the index number used in the displayed restaurant directory.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the restaurants identified by the index numbers used in the displayed restaurant directory.\n"
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas without spaces)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 3-5,8";
 
     public static final String MESSAGE_DELETE_RESTAURANT_SUCCESS = "Deleted restaurant: %1$s";
+    public static final String MESSAGE_DELETE_RESTAURANTS_SUCCESS = "Deleted %1$d restaurants.";
 
-    private final Index targetIndex;
+    private final IndexList targetIndexes;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexList.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the restaurants at {@code targetIndexes}, all at once.
+     */
+    public DeleteCommand(IndexList targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -38,11 +48,18 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Restaurant> lastShownList = model.getFilteredRestaurantList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
         }
 
-        Restaurant restaurantToDelete = lastShownList.get(targetIndex.getZeroBased());
+        if (!targetIndexes.isSingle()) {
+            // Every restaurant is found before any is deleted, as deleting shifts the displayed indexes.
+            List<Restaurant> restaurantsToDelete = targetIndexes.select(lastShownList);
+            model.deleteRestaurants(restaurantsToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_RESTAURANTS_SUCCESS, restaurantsToDelete.size()));
+        }
+
+        Restaurant restaurantToDelete = lastShownList.get(targetIndexes.getFirst().getZeroBased());
         model.deleteRestaurant(restaurantToDelete);
 
         StringBuilder detailsBuilder = new StringBuilder();
@@ -73,13 +90,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -0,0 +1,69 @@
+package foodtrail.logic.commands;
+
+import static foodtrail.logic.parser.CliSyntax.PREFIX_ANY_TAG;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_NO_TAG;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_TAG;
+import static java.util.Objects.requireNonNull;
+
+import foodtrail.commons.util.ToStringBuilder;
+import foodtrail.model.Model;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+
+/**
+ * Lists all restaurants in restaurant directory that have every one of some tags, at least one of some other tags,
+ * and none of some further tags.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all restaurants that have all the tags given "
+            + "with " + PREFIX_TAG + ", at least one of the tags given with " + PREFIX_ANY_TAG + " (if any), "
+            + "and none of the tags given with " + PREFIX_NO_TAG + ".\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG]... [" + PREFIX_ANY_TAG + "TAG]... [" + PREFIX_NO_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "halal " + PREFIX_ANY_TAG + "chicken "
+            + PREFIX_ANY_TAG + "burger " + PREFIX_NO_TAG + "fast food";
+
+    public static final String MESSAGE_NO_TAGS = "At least one tag must be given.";
+
+    public static final String MESSAGE_FILTER_SUCCESS = "%1$d restaurants listed with the tags given";
+
+    private final RestaurantHasTagsPredicate predicate;
+
+    /**
+     * Creates a FilterCommand to list the restaurants that match the specified {@code RestaurantHasTagsPredicate}.
+     */
+    public FilterCommand(RestaurantHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredRestaurantListByTags(predicate);
+        return new CommandResult(String.format(MESSAGE_FILTER_SUCCESS, model.getFilteredRestaurantList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
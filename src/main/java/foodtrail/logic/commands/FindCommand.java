@@ -36,7 +36,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredRestaurantList(predicate);
+        model.updateFilteredRestaurantListByKeywords(predicate);
         return new CommandResult(
                 String.format(MESSAGE_FIND_SUCCESS, model.getFilteredRestaurantList().size(), keyword));
     }
@@ -0,0 +1,120 @@
+package foodtrail.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.util.ToStringBuilder;
+import foodtrail.logic.commands.exceptions.CommandException;
+import foodtrail.model.Model;
+import foodtrail.storage.RestaurantImporter;
+import foodtrail.storage.RestaurantImporter.ImportResult;
+
+/**
+ * Adds the restaurants in a CSV or JSON file to the restaurant directory.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the restaurants in a CSV or JSON file to the "
+            + "restaurant directory. A CSV file needs a header with the columns name, phone and address, and may also "
+            + "have the columns tags (separated by ;), rating and visited. Rows that are invalid or already in the "
+            + "directory are skipped and listed in an error file next to the imported file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/restaurants.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d restaurants from %3$s.";
+    public static final String MESSAGE_REJECTED_ROWS = " %1$d were skipped; the reasons are in %2$s.";
+    public static final String MESSAGE_READ_FAILED = "Could not import %1$s: %2$s";
+    public static final String MESSAGE_ERROR_FILE_FAILED = "Could not write the skipped rows to %1$s: %2$s";
+    public static final String MESSAGE_OLD_ERROR_FILE_FAILED = "Could not delete the outdated %1$s: %2$s";
+
+    /** Appended to the name of the imported file to name the file that lists the rejected rows. */
+    public static final String ERROR_FILE_SUFFIX = ".errors.txt";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the restaurants in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the file that lists the rows of {@code filePath} that could not be imported.
+     */
+    public static Path getErrorFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ERROR_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+        ImportResult result;
+        try {
+            result = RestaurantImporter.importFile(filePath, model.newHasRestaurantChecker(), rowCount ->
+                    logger.info(String.format("Read %d rows of %s", rowCount, filePath)));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        logger.info(String.format("Read %d rows of %s in %.2f s (%.0f rows/s)", result.getRowCount(), filePath,
+                seconds, result.getRowCount() / Math.max(seconds, 1e-9)));
+
+        String message = String.format(MESSAGE_SUCCESS, result.getRestaurants().size(), result.getRowCount(),
+                filePath);
+        Path errorFilePath = getErrorFilePath(filePath);
+        if (result.getRejectedRows().isEmpty()) {
+            // An error file left by an earlier import of the file would no longer describe it
+            try {
+                Files.deleteIfExists(errorFilePath);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_OLD_ERROR_FILE_FAILED, errorFilePath,
+                        ioe.getMessage()), ioe);
+            }
+        } else {
+            try {
+                result.writeRejectedRows(errorFilePath);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_ERROR_FILE_FAILED, errorFilePath,
+                        ioe.getMessage()), ioe);
+            }
+            message += String.format(MESSAGE_REJECTED_ROWS, result.getRejectedRows().size(), errorFilePath);
+        }
+
+        model.addRestaurants(result.getRestaurants());
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -2,11 +2,13 @@ package foodtrail.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.commons.util.ToStringBuilder;
 import foodtrail.logic.Messages;
 import foodtrail.logic.commands.exceptions.CommandException;
@@ -15,25 +17,36 @@ import foodtrail.model.restaurant.IsMarked;
 import foodtrail.model.restaurant.Restaurant;
 
 /**
- * Marks a restaurant identified using its displayed index from the restaurant directory as visited.
+ * Marks restaurants identified using their displayed indexes from the restaurant directory as visited.
  */
 public class MarkCommand extends Command {
 
     public static final String COMMAND_WORD = "mark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the restaurant identified by the index number used in the displayed"
+            + ": Marks the restaurants identified by the index numbers used in the displayed"
             + " restaurant directory as visited.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas without spaces)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 3-5,8";
 
     public static final String MESSAGE_MARK_RESTAURANT_SUCCESS = "Marked restaurant as visited: %1$s";
     public static final String MESSAGE_RESTAURANT_ALREADY_MARKED = "This restaurant is already marked as visited: %1$s";
+    public static final String MESSAGE_MARK_RESTAURANTS_SUCCESS = "Marked %1$d restaurants as visited.";
+    public static final String MESSAGE_RESTAURANTS_ALREADY_MARKED =
+            "All the selected restaurants are already marked as visited.";
 
-    private final Index targetIndex;
+    private final IndexList targetIndexes;
 
     public MarkCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexList.of(targetIndex));
+    }
+
+    /**
+     * Creates a MarkCommand to mark the restaurants at {@code targetIndexes} as visited, all at once.
+     */
+    public MarkCommand(IndexList targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -41,11 +54,15 @@ public class MarkCommand extends Command {
         requireNonNull(model);
         List<Restaurant> lastShownList = model.getFilteredRestaurantList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
         }
 
-        Restaurant restaurantToMark = lastShownList.get(targetIndex.getZeroBased());
+        if (!targetIndexes.isSingle()) {
+            return markAll(model, targetIndexes.select(lastShownList));
+        }
+
+        Restaurant restaurantToMark = lastShownList.get(targetIndexes.getFirst().getZeroBased());
 
         StringBuilder detailsBuilder = new StringBuilder();
         detailsBuilder.append("\nName: ").append(restaurantToMark.getName());
@@ -71,6 +88,27 @@ public class MarkCommand extends Command {
         return new CommandResult(String.format(MESSAGE_MARK_RESTAURANT_SUCCESS, detailsBuilder.toString()));
     }
 
+    /**
+     * Marks the restaurants in {@code restaurants} that are not yet visited, leaving the others as they are.
+     */
+    private CommandResult markAll(Model model, List<Restaurant> restaurants) throws CommandException {
+        List<Restaurant> restaurantsToMark = new ArrayList<>();
+        List<Restaurant> markedRestaurants = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            if (!restaurant.getIsMarked().isVisited()) {
+                restaurantsToMark.add(restaurant);
+                markedRestaurants.add(restaurant.withIsMarked(new IsMarked(true)));
+            }
+        }
+
+        if (restaurantsToMark.isEmpty()) {
+            throw new CommandException(MESSAGE_RESTAURANTS_ALREADY_MARKED);
+        }
+
+        model.setRestaurants(restaurantsToMark, markedRestaurants);
+        return new CommandResult(String.format(MESSAGE_MARK_RESTAURANTS_SUCCESS, restaurantsToMark.size()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -83,13 +121,13 @@ public class MarkCommand extends Command {
         }
 
         MarkCommand otherMarkCommand = (MarkCommand) other;
-        return targetIndex.equals(otherMarkCommand.targetIndex);
+        return targetIndexes.equals(otherMarkCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -4,9 +4,11 @@ import static foodtrail.logic.Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDE
 import static foodtrail.logic.parser.CliSyntax.PREFIX_RATING;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.exceptions.CommandException;
 import foodtrail.model.Model;
 import foodtrail.model.restaurant.Rating;
@@ -20,15 +22,22 @@ public class RateCommand extends Command {
     public static final String COMMAND_WORD = "rate";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Rates a restaurant from 0 to 5.\n"
-            + "Parameters: INDEX (positive integer) " + PREFIX_RATING + "RATING (integer 0–5)\n"
-            + "Example: " + COMMAND_WORD + " 2 " + PREFIX_RATING + "4";
+            + ": Rates restaurants from 0 to 5.\n"
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas without spaces) "
+            + PREFIX_RATING + "RATING (integer 0–5)\n"
+            + "Example: " + COMMAND_WORD + " 2 " + PREFIX_RATING + "4 or " + COMMAND_WORD + " 3-5,8 "
+            + PREFIX_RATING + "4";
 
     public static final String MESSAGE_RATE_SUCCESS = "Rated %1$s: %2$d/5";
 
     public static final String MESSAGE_DUPLICATE_RATING = "This restaurant already has a rating of %1$d/5.";
 
-    private final Index index;
+    public static final String MESSAGE_RATE_RESTAURANTS_SUCCESS = "Rated %1$d restaurants: %2$d/5";
+
+    public static final String MESSAGE_RESTAURANTS_ALREADY_RATED =
+            "All the selected restaurants already have a rating of %1$d/5.";
+
+    private final IndexList indexes;
     private final int ratingValue;
 
     /**
@@ -36,7 +45,16 @@ public class RateCommand extends Command {
      * @param ratingValue of the rating to be set
      */
     public RateCommand(Index index, int ratingValue) {
-        this.index = index;
+        this(IndexList.of(index), ratingValue);
+    }
+
+    /**
+     * @param indexes     of the restaurants in the filtered restaurant list to edit
+     * @param ratingValue of the rating to be set
+     */
+    public RateCommand(IndexList indexes, int ratingValue) {
+        requireNonNull(indexes);
+        this.indexes = indexes;
         this.ratingValue = ratingValue;
     }
 
@@ -44,11 +62,15 @@ public class RateCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Restaurant> lastShownList = model.getFilteredRestaurantList();
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isWithin(lastShownList.size())) {
             throw new CommandException(MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
         }
 
-        Restaurant restaurantToEdit = lastShownList.get(index.getZeroBased());
+        if (!indexes.isSingle()) {
+            return rateAll(model, indexes.select(lastShownList));
+        }
+
+        Restaurant restaurantToEdit = lastShownList.get(indexes.getFirst().getZeroBased());
 
         if (restaurantToEdit.getRating().isPresent() && restaurantToEdit.getRating().get().value == ratingValue) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_RATING, ratingValue));
@@ -60,6 +82,29 @@ public class RateCommand extends Command {
         return new CommandResult(String.format(MESSAGE_RATE_SUCCESS, edited.getName(), ratingValue));
     }
 
+    /**
+     * Rates each restaurant in {@code restaurants} that does not already have the rating.
+     */
+    private CommandResult rateAll(Model model, List<Restaurant> restaurants) throws CommandException {
+        Rating rating = new Rating(ratingValue);
+        List<Restaurant> restaurantsToEdit = new ArrayList<>();
+        List<Restaurant> editedRestaurants = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            if (restaurant.getRating().isEmpty() || restaurant.getRating().get().value != ratingValue) {
+                restaurantsToEdit.add(restaurant);
+                editedRestaurants.add(restaurant.withRating(rating));
+            }
+        }
+
+        if (restaurantsToEdit.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_RESTAURANTS_ALREADY_RATED, ratingValue));
+        }
+
+        model.setRestaurants(restaurantsToEdit, editedRestaurants);
+        return new CommandResult(String.format(MESSAGE_RATE_RESTAURANTS_SUCCESS, restaurantsToEdit.size(),
+                ratingValue));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +114,12 @@ public class RateCommand extends Command {
             return false;
         }
         RateCommand o = (RateCommand) other;
-        return index.equals(o.index) && ratingValue == o.ratingValue;
+        return indexes.equals(o.indexes) && ratingValue == o.ratingValue;
     }
 
     @Override
     public String toString() {
-        return String.format("%s{index=%s, ratingValue=%d}",
-                getClass().getSimpleName(), index, ratingValue);
+        return String.format("%s{indexes=%s, ratingValue=%d}",
+                getClass().getSimpleName(), indexes, ratingValue);
     }
 }
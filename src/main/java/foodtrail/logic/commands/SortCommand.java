@@ -0,0 +1,63 @@
+package foodtrail.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import foodtrail.commons.util.ToStringBuilder;
+import foodtrail.model.Model;
+import foodtrail.model.restaurant.RestaurantComparator;
+
+/**
+ * Sorts the shown restaurants by one or more fields.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the shown restaurants by one or more keys, "
+            + "each in ascending (asc) or descending (desc) order. Each key breaks ties in the keys before it, "
+            + "and restaurants that are still tied are sorted by name.\n"
+            + "Keys: name, rating, visited, postal, tags\n"
+            + "Parameters: KEY [asc/desc] [MORE_KEYS [asc/desc]]...\n"
+            + "Example: " + COMMAND_WORD + " rating desc postal";
+
+    public static final String MESSAGE_SORT_SUCCESS = "Sorted restaurants by %1$s";
+
+    private final RestaurantComparator comparator;
+
+    /**
+     * Creates a SortCommand to sort the shown restaurants with the specified {@code RestaurantComparator}.
+     */
+    public SortCommand(RestaurantComparator comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedRestaurantList(comparator);
+        return new CommandResult(String.format(MESSAGE_SORT_SUCCESS, comparator.getDescription()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return comparator.equals(otherSortCommand.comparator);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("comparator", comparator)
+                .toString();
+    }
+}
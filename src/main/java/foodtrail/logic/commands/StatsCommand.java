@@ -0,0 +1,50 @@
+package foodtrail.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import foodtrail.commons.metrics.MetricsRegistry;
+import foodtrail.model.Model;
+
+/**
+ * Shows how many times each command has been executed and how long each phase of executing and saving has taken.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of times each command was executed, and the time taken to parse, execute, sort "
+            + "and save.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final MetricsRegistry metrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the metrics in {@code metrics}.
+     */
+    public StatsCommand(MetricsRegistry metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(metrics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return metrics == otherStatsCommand.metrics;
+    }
+}
@@ -3,6 +3,7 @@ package foodtrail.logic.commands;
 import static foodtrail.logic.parser.CliSyntax.PREFIX_TAG;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.Messages;
 import foodtrail.logic.commands.exceptions.CommandException;
 import foodtrail.model.Model;
@@ -17,24 +19,27 @@ import foodtrail.model.restaurant.Restaurant;
 import foodtrail.model.restaurant.Tag;
 
 /**
- * Adds a tag to an existing restaurant in the restaurant directory.
+ * Adds a tag to existing restaurants in the restaurant directory.
  */
 public class TagCommand extends Command {
 
     public static final String COMMAND_WORD = "tag";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a tag to the restaurant identified "
-            + "by the index number used in the displayed restaurant directory.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a tag to the restaurants identified "
+            + "by the index numbers used in the displayed restaurant directory.\n"
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas without spaces) "
             + PREFIX_TAG + "TAG\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_TAG + "halal";
+            + PREFIX_TAG + "halal or " + COMMAND_WORD + " 3-5,8 " + PREFIX_TAG + "halal";
 
     public static final String MESSAGE_ADD_TAG_SUCCESS = "Added %1$s tag(s) to restaurant:\n%2$s";
     public static final String MESSAGE_DUPLICATE_TAG = "The tag(s) %1$s already exist for this restaurant.";
     public static final String MESSAGE_EMPTY_TAG = "Tag name cannot be empty.";
+    public static final String MESSAGE_ADD_TAG_TO_RESTAURANTS_SUCCESS = "Added %1$s tag(s) to %2$d restaurants.";
+    public static final String MESSAGE_RESTAURANTS_ALREADY_TAGGED =
+            "All the selected restaurants already have the tag(s) %1$s.";
 
-    private final Index index;
+    private final IndexList indexes;
     private final Set<Tag> tag;
 
     /**
@@ -42,10 +47,18 @@ public class TagCommand extends Command {
      * @param tag to be added to the restaurant
      */
     public TagCommand(Index index, Set<Tag> tag) {
-        requireNonNull(index);
+        this(IndexList.of(index), tag);
+    }
+
+    /**
+     * @param indexes of the restaurants in the filtered restaurant list to add the tag to
+     * @param tag to be added to the restaurants
+     */
+    public TagCommand(IndexList indexes, Set<Tag> tag) {
+        requireNonNull(indexes);
         requireNonNull(tag);
 
-        this.index = index;
+        this.indexes = indexes;
         this.tag = tag;
     }
 
@@ -54,11 +67,15 @@ public class TagCommand extends Command {
         requireNonNull(model);
         List<Restaurant> lastShownList = model.getFilteredRestaurantList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
         }
 
-        Restaurant restaurantToEdit = lastShownList.get(index.getZeroBased());
+        if (!indexes.isSingle()) {
+            return tagAll(model, indexes.select(lastShownList));
+        }
+
+        Restaurant restaurantToEdit = lastShownList.get(indexes.getFirst().getZeroBased());
         Set<Tag> existingTags = restaurantToEdit.getTags();
 
         Set<Tag> duplicateTags = new LinkedHashSet<>(this.tag);
@@ -97,6 +114,35 @@ public class TagCommand extends Command {
         return new CommandResult(String.format(MESSAGE_ADD_TAG_SUCCESS, tagsAddedString, restaurantDetails));
     }
 
+    /**
+     * Adds the tags to each restaurant in {@code restaurants} that does not already have all of them.
+     */
+    private CommandResult tagAll(Model model, List<Restaurant> restaurants) throws CommandException {
+        List<Restaurant> restaurantsToEdit = new ArrayList<>();
+        List<Restaurant> editedRestaurants = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            if (restaurant.getTags().containsAll(this.tag)) {
+                continue;
+            }
+            Set<Tag> newTags = new LinkedHashSet<>(restaurant.getTags());
+            newTags.addAll(this.tag);
+            restaurantsToEdit.add(restaurant);
+            editedRestaurants.add(new Restaurant(restaurant.getName(), restaurant.getPhone(),
+                    restaurant.getAddress(), newTags, restaurant.getRating(), restaurant.getIsMarked()));
+        }
+
+        String tagsAddedString = this.tag.stream()
+                .map(t -> "'" + t.tagName + "'")
+                .collect(Collectors.joining(", "));
+        if (restaurantsToEdit.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_RESTAURANTS_ALREADY_TAGGED, tagsAddedString));
+        }
+
+        model.setRestaurants(restaurantsToEdit, editedRestaurants);
+        return new CommandResult(
+                String.format(MESSAGE_ADD_TAG_TO_RESTAURANTS_SUCCESS, tagsAddedString, restaurantsToEdit.size()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -109,7 +155,7 @@ public class TagCommand extends Command {
         }
 
         TagCommand otherTagCommand = (TagCommand) other;
-        return index.equals(otherTagCommand.index)
+        return indexes.equals(otherTagCommand.indexes)
                 && tag.equals(otherTagCommand.tag);
     }
 }
@@ -11,4 +11,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_RATING = new Prefix("r/");
+    public static final Prefix PREFIX_ANY_TAG = new Prefix("or/");
+    public static final Prefix PREFIX_NO_TAG = new Prefix("not/");
 }
@@ -2,7 +2,7 @@ package foodtrail.logic.parser;
 
 import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.DeleteCommand;
 import foodtrail.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            IndexList indexes = ParserUtil.parseIndexList(args);
+            return new DeleteCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
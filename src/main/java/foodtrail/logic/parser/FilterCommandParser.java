@@ -0,0 +1,57 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_ANY_TAG;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_NO_TAG;
+import static foodtrail.logic.parser.CliSyntax.PREFIX_TAG;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import foodtrail.logic.commands.FilterCommand;
+import foodtrail.logic.commands.TagCommand;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.TagSet;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_ANY_TAG, PREFIX_NO_TAG);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<String> allTagNames = argMultimap.getAllValues(PREFIX_TAG);
+        List<String> anyTagNames = argMultimap.getAllValues(PREFIX_ANY_TAG);
+        List<String> noTagNames = argMultimap.getAllValues(PREFIX_NO_TAG);
+
+        // Handles `filter` - no tag prefix provided
+        if (allTagNames.isEmpty() && anyTagNames.isEmpty() && noTagNames.isEmpty()) {
+            throw new ParseException(FilterCommand.MESSAGE_NO_TAGS + "\n" + FilterCommand.MESSAGE_USAGE);
+        }
+
+        return new FilterCommand(new RestaurantHasTagsPredicate(
+                parseTagSet(allTagNames), parseTagSet(anyTagNames), parseTagSet(noTagNames)));
+    }
+
+    private static TagSet parseTagSet(List<String> tagNames) throws ParseException {
+        // Handles `filter t/` - tag prefix is present but empty
+        if (tagNames.stream().anyMatch(String::isEmpty)) {
+            throw new ParseException(TagCommand.MESSAGE_EMPTY_TAG);
+        }
+        return TagSet.of(ParserUtil.parseTags(tagNames));
+    }
+
+}
@@ -0,0 +1,37 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import foodtrail.commons.util.FileUtil;
+import foodtrail.logic.commands.ImportCommand;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.storage.RestaurantImporter;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(trimmedArgs);
+        if (!RestaurantImporter.isSupportedFile(filePath)) {
+            throw new ParseException(RestaurantImporter.MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ImportCommand(filePath);
+    }
+}
@@ -2,7 +2,7 @@ package foodtrail.logic.parser;
 
 import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.MarkCommand;
 import foodtrail.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class MarkCommandParser implements Parser<MarkCommand> {
      */
     public MarkCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new MarkCommand(index);
+            IndexList indexes = ParserUtil.parseIndexList(args);
+            return new MarkCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE), pe);
@@ -7,6 +7,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.commons.util.StringUtil;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.restaurant.Address;
@@ -20,6 +21,7 @@ import foodtrail.model.restaurant.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The first index of a range cannot be after the last.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -34,6 +36,31 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma-separated list of one-based indexes and ranges of indexes such as
+     * {@code 3-40,52}, into an {@code IndexList} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if any index is invalid (not non-zero unsigned integer) or any range is reversed.
+     */
+    public static IndexList parseIndexList(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        String[] parts = oneBasedIndexes.trim().split(",", -1);
+        IndexList indexList = null;
+        for (String part : parts) {
+            if (part.chars().anyMatch(Character::isWhitespace)) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            int dash = part.indexOf('-');
+            Index first = parseIndex(dash == -1 ? part : part.substring(0, dash));
+            Index last = dash == -1 ? first : parseIndex(part.substring(dash + 1));
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            indexList = indexList == null ? IndexList.of(first).withRange(first, last)
+                    : indexList.withRange(first, last);
+        }
+        return indexList;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -91,7 +118,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
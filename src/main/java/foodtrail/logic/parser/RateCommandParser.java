@@ -4,7 +4,7 @@ import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static foodtrail.logic.parser.CliSyntax.PREFIX_RATING;
 import static java.util.Objects.requireNonNull;
 
-import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.RateCommand;
 import foodtrail.logic.parser.exceptions.ParseException;
 
@@ -31,7 +31,7 @@ public class RateCommandParser implements Parser<RateCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RateCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(tokens[0]);
+        IndexList indexes = ParserUtil.parseIndexList(tokens[0]);
 
         String ratingToken = tokens[1];
         String ratingPrefix = PREFIX_RATING.getPrefix();
@@ -53,6 +53,6 @@ public class RateCommandParser implements Parser<RateCommand> {
             throw new ParseException(MESSAGE_INVALID_RATING);
         }
 
-        return new RateCommand(index, rating);
+        return new RateCommand(indexes, rating);
     }
 }
@@ -2,23 +2,30 @@ package foodtrail.logic.parser;
 
 import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static foodtrail.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static java.util.Objects.requireNonNull;
 
+import java.util.Locale;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.metrics.MetricsRegistry;
 import foodtrail.logic.commands.AddCommand;
 import foodtrail.logic.commands.ClearCommand;
 import foodtrail.logic.commands.Command;
 import foodtrail.logic.commands.DeleteCommand;
 import foodtrail.logic.commands.EditCommand;
 import foodtrail.logic.commands.ExitCommand;
+import foodtrail.logic.commands.FilterCommand;
 import foodtrail.logic.commands.FindCommand;
 import foodtrail.logic.commands.HelpCommand;
+import foodtrail.logic.commands.ImportCommand;
 import foodtrail.logic.commands.ListCommand;
 import foodtrail.logic.commands.MarkCommand;
 import foodtrail.logic.commands.RateCommand;
+import foodtrail.logic.commands.SortCommand;
+import foodtrail.logic.commands.StatsCommand;
 import foodtrail.logic.commands.TagCommand;
 import foodtrail.logic.commands.UnmarkCommand;
 import foodtrail.logic.commands.UnrateCommand;
@@ -36,6 +43,23 @@ public class RestaurantDirectoryParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(RestaurantDirectoryParser.class);
 
+    private final MetricsRegistry metrics;
+
+    /**
+     * Creates a {@code RestaurantDirectoryParser} whose stats commands show metrics that are never recorded to.
+     */
+    public RestaurantDirectoryParser() {
+        this(new MetricsRegistry());
+    }
+
+    /**
+     * Creates a {@code RestaurantDirectoryParser} whose stats commands show the metrics in {@code metrics}.
+     */
+    public RestaurantDirectoryParser(MetricsRegistry metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -49,7 +73,7 @@ public class RestaurantDirectoryParser {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord").toLowerCase();
+        final String commandWord = matcher.group("commandWord").toLowerCase(Locale.ROOT);
         final String arguments = matcher.group("arguments");
 
         // Note to developers: Change the log level in config.json to enable lower level
@@ -75,6 +99,9 @@ public class RestaurantDirectoryParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case TagCommand.COMMAND_WORD:
             return new TagCommandParser().parse(arguments);
 
@@ -90,6 +117,15 @@ public class RestaurantDirectoryParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(metrics);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
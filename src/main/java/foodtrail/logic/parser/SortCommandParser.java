@@ -0,0 +1,61 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import foodtrail.logic.commands.SortCommand;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.model.restaurant.RestaurantComparator;
+import foodtrail.model.restaurant.RestaurantSortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_DUPLICATE_KEY = "Each sort key can only be given once.";
+
+    private static final String ASCENDING = "asc";
+    private static final String DESCENDING = "desc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        RestaurantComparator comparator = new RestaurantComparator();
+        int i = 0;
+        while (i < words.length) {
+            Optional<RestaurantSortField> field = RestaurantSortField.fromKeyword(words[i]);
+            if (field.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            if (comparator.hasField(field.get())) {
+                throw new ParseException(MESSAGE_DUPLICATE_KEY);
+            }
+            i++;
+
+            boolean isAscending = field.get().isAscendingByDefault();
+            if (i < words.length && words[i].equalsIgnoreCase(ASCENDING)) {
+                isAscending = true;
+                i++;
+            } else if (i < words.length && words[i].equalsIgnoreCase(DESCENDING)) {
+                isAscending = false;
+                i++;
+            }
+            comparator = comparator.thenBy(field.get(), isAscending);
+        }
+        return new SortCommand(comparator);
+    }
+
+}
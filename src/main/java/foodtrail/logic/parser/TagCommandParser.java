@@ -7,7 +7,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.Set;
 
-import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.TagCommand;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.restaurant.Tag;
@@ -27,10 +27,10 @@ public class TagCommandParser implements Parser<TagCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_TAG);
 
-        Index index;
+        IndexList indexes;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexList(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE), pe);
         }
@@ -49,7 +49,7 @@ public class TagCommandParser implements Parser<TagCommand> {
 
         Set<Tag> tagSet = ParserUtil.parseTags(tagNames);
 
-        return new TagCommand(index, tagSet);
+        return new TagCommand(indexes, tagSet);
     }
 
 }
@@ -0,0 +1,45 @@
+package foodtrail.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a new filter of the restaurants shown by {@code ModelManager}.
+ * It is only recorded while a recording that enables it is running.
+ */
+@Name("foodtrail.Filter")
+@Label("Filter")
+@Category({"FoodTrail", "Model"})
+@Description("The restaurants shown filtered anew, such as by find, filter or list")
+@StackTrace(false)
+class FilterEvent extends Event {
+
+    @Label("Kind")
+    @Description("What the restaurants were filtered by: a predicate, keywords, tags, a keyword being typed, or the "
+            + "filter restored once it is no longer typed")
+    private String kind;
+
+    @Label("Matched Count")
+    @Description("Number of restaurants shown after filtering")
+    private int matchedCount;
+
+    @Label("Restaurant Count")
+    @Description("Number of restaurants in the directory")
+    private int restaurantCount;
+
+    void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    void setRestaurantCount(int restaurantCount) {
+        this.restaurantCount = restaurantCount;
+    }
+}
@@ -1,10 +1,20 @@
 package foodtrail.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 
 import foodtrail.commons.core.GuiSettings;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantComparator;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.RestaurantSortField;
+import foodtrail.model.restaurant.Tag;
 import javafx.collections.ObservableList;
 
 /**
@@ -14,6 +24,17 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Restaurant> PREDICATE_SHOW_ALL_RESTAURANTS = unused -> true;
 
+    /** {@code Comparator} that orders restaurants by name, ignoring case */
+    Comparator<Restaurant> COMPARATOR_BY_NAME = new RestaurantComparator();
+
+    /** {@code Comparator} that orders restaurants from the highest rating to unrated, then by name */
+    Comparator<Restaurant> COMPARATOR_BY_RATING =
+            new RestaurantComparator().thenBy(RestaurantSortField.RATING, false);
+
+    /** {@code Comparator} that orders visited restaurants before unvisited ones, then by name */
+    Comparator<Restaurant> COMPARATOR_BY_VISITED =
+            new RestaurantComparator().thenBy(RestaurantSortField.VISITED, false);
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -59,18 +80,36 @@ public interface Model {
      */
     boolean hasRestaurant(Restaurant restaurant);
 
+    /**
+     * Returns a predicate equivalent to {@link #hasRestaurant(Restaurant)} for checking many restaurants at once.
+     * It may be used from several threads, as long as the restaurant directory is not modified while it is in use.
+     */
+    Predicate<Restaurant> newHasRestaurantChecker();
+
     /**
      * Deletes the given restaurant.
      * The restaurant must exist in the restaurant directory.
      */
     void deleteRestaurant(Restaurant target);
 
+    /**
+     * Deletes the given restaurants, all at once.
+     * The restaurants must exist in the restaurant directory.
+     */
+    void deleteRestaurants(List<Restaurant> targets);
+
     /**
      * Adds the given restaurant.
      * {@code restaurant} must not already exist in the restaurant directory.
      */
     void addRestaurant(Restaurant restaurant);
 
+    /**
+     * Adds the given restaurants, all at once.
+     * No restaurant may already exist in the restaurant directory or be given twice.
+     */
+    void addRestaurants(List<Restaurant> restaurants);
+
     /**
      * Replaces the given restaurant {@code target} with {@code editedRestaurant}.
      * {@code target} must exist in the restaurant directory.
@@ -79,10 +118,35 @@ public interface Model {
      */
     void setRestaurant(Restaurant target, Restaurant editedRestaurant);
 
-    /** Sorts the restaurant list by name in ascending order. */
+    /**
+     * Replaces each restaurant in {@code targets} with the restaurant at the same position in
+     * {@code editedRestaurants}, all at once.
+     * Every restaurant in {@code targets} must exist in the restaurant directory.
+     * The restaurant identity of each edited restaurant must not be the same as another existing restaurant in
+     * the restaurant directory.
+     */
+    void setRestaurants(List<Restaurant> targets, List<Restaurant> editedRestaurants);
+
+    /** Orders the filtered restaurant list by name in ascending order. */
     void sortRestaurantListByName();
 
-    /** Returns an unmodifiable view of the filtered restaurant list */
+    /**
+     * Orders the filtered restaurant list by the given {@code comparator}.
+     * The restaurant directory itself is not reordered.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateSortedRestaurantList(Comparator<Restaurant> comparator);
+
+    /**
+     * Sets the listener that is passed the time taken, in nanoseconds, every time the filtered restaurant list is
+     * ordered anew by {@link #updateSortedRestaurantList(Comparator)} or {@link #sortRestaurantListByName()}.
+     *
+     * @throws NullPointerException if {@code sortDurationListener} is null.
+     */
+    void setSortDurationListener(LongConsumer sortDurationListener);
+
+    /** Returns an unmodifiable view of the filtered restaurant list, in the order it is shown */
     ObservableList<Restaurant> getFilteredRestaurantList();
 
     /**
@@ -92,4 +156,50 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredRestaurantList(Predicate<Restaurant> predicate);
+
+    /**
+     * Updates the filter of the filtered restaurant list to filter by the given keyword
+     * {@code predicate}, using the search index of the restaurant directory to skip
+     * restaurants that cannot match.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredRestaurantListByKeywords(RestaurantContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered restaurant list to filter by the given tag
+     * {@code predicate}, using the tag index of the restaurant directory instead of
+     * checking the tags of every restaurant.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredRestaurantListByTags(RestaurantHasTagsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered restaurant list to show the restaurants containing
+     * {@code keyword}, as a keyword search would. When {@code keyword} contains the keyword of
+     * the previous such update, only the restaurants shown by that update are searched.
+     * The filter is left unchanged if {@code isCancelled} returns true before the search is done.
+     *
+     * @return true if the filter was updated.
+     * @throws NullPointerException if {@code keyword} or {@code isCancelled} is null.
+     */
+    boolean updateFilteredRestaurantListIncrementally(String keyword, BooleanSupplier isCancelled);
+
+    /**
+     * Restores the filter of the filtered restaurant list in force before the updates made by
+     * {@link #updateFilteredRestaurantListIncrementally} since the filter was last updated otherwise.
+     *
+     * @return true if the filter was restored, or false if there were no such updates.
+     */
+    boolean restoreFilteredRestaurantList();
+
+    /**
+     * Returns the restaurants in the restaurant directory with {@code tag}, as an
+     * unmodifiable view that changes with the restaurant directory.
+     * The returned set compares restaurants by identity.
+     *
+     * @throws NullPointerException if {@code tag} is null.
+     */
+    Set<Restaurant> getRestaurantsWithTag(Tag tag);
 }
@@ -5,14 +5,25 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import foodtrail.commons.core.GuiSettings;
 import foodtrail.commons.core.LogsCenter;
+import foodtrail.model.restaurant.IncrementalSearch;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the restaurant directory data.
@@ -23,6 +34,11 @@ public class ModelManager implements Model {
     private final RestaurantDirectory restaurantDirectory;
     private final UserPrefs userPrefs;
     private final FilteredList<Restaurant> filteredRestaurants;
+    private final SortedList<Restaurant> sortedRestaurants;
+    private final IncrementalSearch incrementalSearch;
+    // Filter in force before the incremental updates since the filter was last updated otherwise, or null if none
+    private Predicate<? super Restaurant> predicateBeforeIncrementalUpdates = null;
+    private LongConsumer sortDurationListener = unused -> {};
 
     /**
      * Initializes a ModelManager with the given restaurantDirectory and userPrefs.
@@ -36,6 +52,9 @@ public class ModelManager implements Model {
         this.restaurantDirectory = new RestaurantDirectory(restaurantDirectory);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredRestaurants = new FilteredList<>(this.restaurantDirectory.getRestaurantList());
+        // Compares the sort keys computed when each restaurant was created, so the first sort decodes nothing
+        sortedRestaurants = new SortedList<>(filteredRestaurants, COMPARATOR_BY_NAME);
+        incrementalSearch = this.restaurantDirectory.newIncrementalSearch();
     }
 
     public ModelManager() {
@@ -97,17 +116,35 @@ public class ModelManager implements Model {
         return restaurantDirectory.hasRestaurant(restaurant);
     }
 
+    @Override
+    public Predicate<Restaurant> newHasRestaurantChecker() {
+        return restaurantDirectory.newHasRestaurantChecker();
+    }
+
     @Override
     public void deleteRestaurant(Restaurant target) {
         restaurantDirectory.removeRestaurant(target);
     }
 
+    @Override
+    public void deleteRestaurants(List<Restaurant> targets) {
+        requireNonNull(targets);
+        restaurantDirectory.removeRestaurants(targets);
+    }
+
     @Override
     public void addRestaurant(Restaurant restaurant) {
         restaurantDirectory.addRestaurant(restaurant);
         updateFilteredRestaurantList(PREDICATE_SHOW_ALL_RESTAURANTS);
     }
 
+    @Override
+    public void addRestaurants(List<Restaurant> restaurants) {
+        requireNonNull(restaurants);
+        restaurantDirectory.addRestaurants(restaurants);
+        updateFilteredRestaurantList(PREDICATE_SHOW_ALL_RESTAURANTS);
+    }
+
     @Override
     public void setRestaurant(Restaurant target, Restaurant editedRestaurant) {
         requireAllNonNull(target, editedRestaurant);
@@ -115,15 +152,32 @@ public class ModelManager implements Model {
         restaurantDirectory.setRestaurant(target, editedRestaurant);
     }
 
+    @Override
+    public void setRestaurants(List<Restaurant> targets, List<Restaurant> editedRestaurants) {
+        requireAllNonNull(targets, editedRestaurants);
+
+        restaurantDirectory.setRestaurants(targets, editedRestaurants);
+    }
+
     @Override
     public void sortRestaurantListByName() {
-        // Sorts the backing list; FilteredList reflects the new order automatically.
-        restaurantDirectory.sortRestaurant(
-                Comparator.comparing((Restaurant r) -> r.getName().fullName, String.CASE_INSENSITIVE_ORDER)
-                        .thenComparing(r -> r.getName().fullName));
-        // Keep current filter predicate as-is so the user’s filtered view remains, just
-        // sorted.
-        filteredRestaurants.setPredicate(filteredRestaurants.getPredicate());
+        updateSortedRestaurantList(COMPARATOR_BY_NAME);
+    }
+
+    @Override
+    public void updateSortedRestaurantList(Comparator<Restaurant> comparator) {
+        requireNonNull(comparator);
+        // The sorted list keeps itself in order as restaurants are added, edited and removed, by moving only the
+        // restaurants that changed, so the directory is never reordered and the UI only sees those moves.
+        long startNanos = System.nanoTime();
+        sortedRestaurants.setComparator(comparator);
+        sortDurationListener.accept(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void setSortDurationListener(LongConsumer sortDurationListener) {
+        requireNonNull(sortDurationListener);
+        this.sortDurationListener = sortDurationListener;
     }
 
     // =========== Filtered Restaurant List Accessors
@@ -132,17 +186,98 @@ public class ModelManager implements Model {
     /**
      * Returns an unmodifiable view of the list of {@code Restaurant} backed by the
      * internal list of
-     * {@code versionedRestaurantDirectory}
+     * {@code versionedRestaurantDirectory}, filtered and then sorted
      */
     @Override
     public ObservableList<Restaurant> getFilteredRestaurantList() {
-        return filteredRestaurants;
+        return sortedRestaurants;
     }
 
     @Override
     public void updateFilteredRestaurantList(Predicate<Restaurant> predicate) {
         requireNonNull(predicate);
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        predicateBeforeIncrementalUpdates = null;
         filteredRestaurants.setPredicate(predicate);
+        commitFilterEvent(event, "predicate");
+    }
+
+    @Override
+    public void updateFilteredRestaurantListByKeywords(RestaurantContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        predicateBeforeIncrementalUpdates = null;
+        filteredRestaurants.setPredicate(restaurantDirectory.narrowSearch(predicate));
+        commitFilterEvent(event, "keywords");
+    }
+
+    @Override
+    public void updateFilteredRestaurantListByTags(RestaurantHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        predicateBeforeIncrementalUpdates = null;
+        filteredRestaurants.setPredicate(restaurantDirectory.narrowTagFilter(predicate));
+        commitFilterEvent(event, "tags");
+    }
+
+    @Override
+    public boolean updateFilteredRestaurantListIncrementally(String keyword, BooleanSupplier isCancelled) {
+        requireAllNonNull(keyword, isCancelled);
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        Optional<Set<Restaurant>> matches = incrementalSearch.search(keyword, isCancelled);
+        if (matches.isEmpty()) {
+            return false;
+        }
+
+        // Restaurants added or edited after the search are tested against the keyword instead. The version is
+        // increased before the filtered list tests them, as the restaurant directory changes it first.
+        long searchedVersion = restaurantDirectory.getVersion();
+        RestaurantContainsKeywordsPredicate predicate = new RestaurantContainsKeywordsPredicate(List.of(keyword));
+        if (predicateBeforeIncrementalUpdates == null) {
+            predicateBeforeIncrementalUpdates = Objects.requireNonNullElse(filteredRestaurants.getPredicate(),
+                    PREDICATE_SHOW_ALL_RESTAURANTS);
+        }
+        filteredRestaurants.setPredicate(restaurant -> restaurantDirectory.getVersion() == searchedVersion
+                ? matches.get().contains(restaurant)
+                : predicate.test(restaurant));
+        commitFilterEvent(event, "incremental");
+        return true;
+    }
+
+    @Override
+    public boolean restoreFilteredRestaurantList() {
+        if (predicateBeforeIncrementalUpdates == null) {
+            return false;
+        }
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        filteredRestaurants.setPredicate(predicateBeforeIncrementalUpdates);
+        predicateBeforeIncrementalUpdates = null;
+        commitFilterEvent(event, "restore");
+        return true;
+    }
+
+    /**
+     * Ends {@code event} and records it with the number of restaurants now shown, if it is being recorded.
+     */
+    private void commitFilterEvent(FilterEvent event, String kind) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setKind(kind);
+            event.setMatchedCount(filteredRestaurants.size());
+            event.setRestaurantCount(restaurantDirectory.getRestaurantList().size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public Set<Restaurant> getRestaurantsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return restaurantDirectory.getRestaurantsWithTag(tag);
     }
 
     @Override
@@ -159,7 +294,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return restaurantDirectory.equals(otherModelManager.restaurantDirectory)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredRestaurants.equals(otherModelManager.filteredRestaurants);
+                && sortedRestaurants.equals(otherModelManager.sortedRestaurants);
     }
 
 }
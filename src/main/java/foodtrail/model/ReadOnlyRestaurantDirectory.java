@@ -14,4 +14,11 @@ public interface ReadOnlyRestaurantDirectory {
      */
     ObservableList<Restaurant> getRestaurantList();
 
+    /**
+     * Returns the modification version of the restaurant directory.
+     * It increases with every change to the restaurant directory, including reordering of the restaurants list,
+     * so an unchanged version means that nothing has changed since the version was last read.
+     */
+    long getVersion();
+
 }
@@ -2,6 +2,7 @@ package foodtrail.model;
 
 import java.nio.file.Path;
 
+import foodtrail.commons.core.DataFileFormat;
 import foodtrail.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getRestaurantDirectoryFilePath();
 
+    int getRestaurantDirectoryBackupCount();
+
+    DataFileFormat getRestaurantDirectoryFormat();
+
+    boolean isRestaurantDirectoryJournaled();
+
 }
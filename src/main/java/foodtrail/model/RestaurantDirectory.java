@@ -2,11 +2,16 @@ package foodtrail.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import foodtrail.commons.util.ToStringBuilder;
+import foodtrail.model.restaurant.IncrementalSearch;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
 import foodtrail.model.restaurant.UniqueRestaurantList;
 import javafx.collections.ObservableList;
 
@@ -54,13 +59,21 @@ public class RestaurantDirectory implements ReadOnlyRestaurantDirectory {
         this.restaurants.setRestaurants(restaurants);
     }
 
+
     /**
      * Resets the existing data of this {@code RestaurantDirectory} with
      * {@code newData}.
+     * If {@code newData} is itself a {@code RestaurantDirectory}, its restaurants are copied without
+     * being checked for duplicates again.
      */
     public void resetData(ReadOnlyRestaurantDirectory newData) {
         requireNonNull(newData);
 
+        if (newData instanceof RestaurantDirectory) {
+            // Already validated to be unique, so the contents can be copied over without re-checking.
+            restaurants.setRestaurants(((RestaurantDirectory) newData).restaurants);
+            return;
+        }
         setRestaurants(newData.getRestaurantList());
     }
 
@@ -83,10 +96,20 @@ public class RestaurantDirectory implements ReadOnlyRestaurantDirectory {
         restaurants.add(p);
     }
 
-    /** Sorts restaurants using the provided comparator. */
-    public void sortRestaurant(Comparator<Restaurant> comparator) {
-        requireNonNull(comparator);
-        restaurants.sort(comparator);
+    /**
+     * Adds every restaurant in {@code toAdd} to the restaurant directory, all at once.
+     * No restaurant may already exist in the restaurant directory or be given twice.
+     */
+    public void addRestaurants(List<Restaurant> toAdd) {
+        restaurants.addAll(toAdd);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@link #hasRestaurant(Restaurant)} for checking many restaurants at once.
+     * It may be used from several threads, as long as the restaurant directory is not modified while it is in use.
+     */
+    public Predicate<Restaurant> newHasRestaurantChecker() {
+        return restaurants.newContainsChecker();
     }
 
     /**
@@ -102,6 +125,17 @@ public class RestaurantDirectory implements ReadOnlyRestaurantDirectory {
         restaurants.setRestaurant(target, editedRestaurant);
     }
 
+    /**
+     * Replaces each restaurant in {@code targets} with the restaurant at the same position in
+     * {@code editedRestaurants}, all at once.
+     * Every restaurant in {@code targets} must exist in the restaurant directory.
+     * The restaurant identity of each edited restaurant must not be the same as another restaurant in the
+     * restaurant directory or in {@code editedRestaurants}.
+     */
+    public void setRestaurants(List<Restaurant> targets, List<Restaurant> editedRestaurants) {
+        restaurants.setRestaurants(targets, editedRestaurants);
+    }
+
     /**
      * Removes {@code key} from this {@code RestaurantDirectory}.
      * {@code key} must exist in the restaurant directory.
@@ -110,6 +144,45 @@ public class RestaurantDirectory implements ReadOnlyRestaurantDirectory {
         restaurants.remove(key);
     }
 
+    /**
+     * Removes every restaurant in {@code keys} from this {@code RestaurantDirectory}, all at once.
+     * Every restaurant in {@code keys} must exist in the restaurant directory.
+     */
+    public void removeRestaurants(List<Restaurant> keys) {
+        restaurants.removeAll(keys);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this restaurant directory
+     * to skip restaurants that cannot match.
+     */
+    public Predicate<Restaurant> narrowSearch(RestaurantContainsKeywordsPredicate predicate) {
+        return restaurants.narrowSearch(predicate);
+    }
+
+    /**
+     * Returns a new {@code IncrementalSearch} over the restaurants in this restaurant directory.
+     */
+    public IncrementalSearch newIncrementalSearch() {
+        return restaurants.newIncrementalSearch();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the tag index of this restaurant directory
+     * instead of checking the tags of every restaurant.
+     */
+    public Predicate<Restaurant> narrowTagFilter(RestaurantHasTagsPredicate predicate) {
+        return restaurants.narrowTagFilter(predicate);
+    }
+
+    /**
+     * Returns the restaurants with {@code tag}, as an unmodifiable view that changes with this restaurant
+     * directory. The returned set compares restaurants by identity.
+     */
+    public Set<Restaurant> getRestaurantsWithTag(Tag tag) {
+        return restaurants.getRestaurantsWithTag(tag);
+    }
+
     //// util methods
 
     @Override
@@ -124,6 +197,11 @@ public class RestaurantDirectory implements ReadOnlyRestaurantDirectory {
         return restaurants.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return restaurants.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,11 +1,13 @@
 package foodtrail.model;
 
+import static foodtrail.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import foodtrail.commons.core.DataFileFormat;
 import foodtrail.commons.core.GuiSettings;
 
 /**
@@ -13,8 +15,13 @@ import foodtrail.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_BACKUP_COUNT = "Number of backups cannot be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path restaurantDirectoryFilePath = Paths.get("data" , "foodtrail.json");
+    private int restaurantDirectoryBackupCount = 3;
+    private DataFileFormat restaurantDirectoryFormat = DataFileFormat.JSON;
+    private boolean isRestaurantDirectoryJournaled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRestaurantDirectoryFilePath(newUserPrefs.getRestaurantDirectoryFilePath());
+        setRestaurantDirectoryBackupCount(newUserPrefs.getRestaurantDirectoryBackupCount());
+        setRestaurantDirectoryFormat(newUserPrefs.getRestaurantDirectoryFormat());
+        setRestaurantDirectoryJournaled(newUserPrefs.isRestaurantDirectoryJournaled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.restaurantDirectoryFilePath = restaurantDirectoryFilePath;
     }
 
+    public int getRestaurantDirectoryBackupCount() {
+        return restaurantDirectoryBackupCount;
+    }
+
+    public void setRestaurantDirectoryBackupCount(int restaurantDirectoryBackupCount) {
+        checkArgument(restaurantDirectoryBackupCount >= 0, MESSAGE_INVALID_BACKUP_COUNT);
+        this.restaurantDirectoryBackupCount = restaurantDirectoryBackupCount;
+    }
+
+    public DataFileFormat getRestaurantDirectoryFormat() {
+        return restaurantDirectoryFormat;
+    }
+
+    public void setRestaurantDirectoryFormat(DataFileFormat restaurantDirectoryFormat) {
+        requireNonNull(restaurantDirectoryFormat);
+        this.restaurantDirectoryFormat = restaurantDirectoryFormat;
+    }
+
+    public boolean isRestaurantDirectoryJournaled() {
+        return isRestaurantDirectoryJournaled;
+    }
+
+    public void setRestaurantDirectoryJournaled(boolean isRestaurantDirectoryJournaled) {
+        this.isRestaurantDirectoryJournaled = isRestaurantDirectoryJournaled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +105,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && restaurantDirectoryFilePath.equals(otherUserPrefs.restaurantDirectoryFilePath);
+                && restaurantDirectoryFilePath.equals(otherUserPrefs.restaurantDirectoryFilePath)
+                && restaurantDirectoryBackupCount == otherUserPrefs.restaurantDirectoryBackupCount
+                && restaurantDirectoryFormat == otherUserPrefs.restaurantDirectoryFormat
+                && isRestaurantDirectoryJournaled == otherUserPrefs.isRestaurantDirectoryJournaled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, restaurantDirectoryFilePath);
+        return Objects.hash(guiSettings, restaurantDirectoryFilePath, restaurantDirectoryBackupCount,
+                restaurantDirectoryFormat, isRestaurantDirectoryJournaled);
     }
 
     @Override
@@ -82,6 +122,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + restaurantDirectoryFilePath);
+        sb.append("\nNumber of data file backups : " + restaurantDirectoryBackupCount);
+        sb.append("\nData file format : " + restaurantDirectoryFormat);
+        sb.append("\nData file journaled : " + isRestaurantDirectoryJournaled);
         return sb.toString();
     }
 
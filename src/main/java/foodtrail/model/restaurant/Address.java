@@ -1,11 +1,12 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.commons.util.StringUtil.isAsciiDigit;
+import static foodtrail.commons.util.StringUtil.isAsciiLetterOrDigit;
+import static foodtrail.commons.util.StringUtil.isLineTerminator;
+import static foodtrail.commons.util.StringUtil.isRegexWhitespace;
 import static java.util.Objects.requireNonNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Represents a Restaurant's address in the restaurant directory.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -23,6 +24,10 @@ public class Address {
             Example: 123 Clementi Ave 3, #01-01, Singapore 120123
             """;
 
+    private static final String POSTAL_CODE_PREFIX = "Singapore";
+    private static final int POSTAL_CODE_LENGTH = 6;
+    private static final String ADDRESS_PART_SPECIAL_CHARACTERS = ",#'/.+-";
+
     public final String value;
 
     /**
@@ -38,48 +43,72 @@ public class Address {
 
     /**
      * Returns true if a given string is a valid address.
+     * The string is checked character by character, without compiling any regular expression.
      */
     public static boolean isValidAddress(String test) {
-        // 1. Check if empty or blank
-        if (test.trim().isEmpty()) {
-            return false; // "Address cannot be empty"
-        }
-
-        // 2. Check if length > 100
+        // 1. Check if length > 100
         if (test.length() > 100) {
             return false; // "Address cannot exceed 100 characters"
         }
 
-        // 3. Use regex to split address into main part and postal code
-        // The postal code must be preceded by a comma, "Singapore", and mandatory whitespace.
-        Pattern addressPattern = Pattern.compile("^(.*),\\s+Singapore\\s((\\d){6})$");
-        Matcher addressMatcher = addressPattern.matcher(test);
-
-        if (!addressMatcher.matches()) {
+        // 2. Check for the postal code, which must be preceded by a comma, "Singapore", and mandatory whitespace.
+        int end = test.length() - POSTAL_CODE_LENGTH;
+        if (end < 0) {
             return false;
         }
-
-        // We have a match, let's validate the parts.
-        String addressPart = addressMatcher.group(1);
-        String rawPostalCode = addressMatcher.group(2);
-
-        // Validate address part
-        if (addressPart.trim().isEmpty()) {
-            return false; // Address part before comma is empty
+        for (int i = end; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
         }
-
-        if (!addressPart.matches("^[a-zA-Z0-9\\s,#'/.+-]*$")) {
+        end--;
+        if (end < 0 || !isRegexWhitespace(test.charAt(end))) {
             return false;
         }
-
-        // Validate postal code part
-        String cleanedPostalCode = rawPostalCode.replaceAll("\\s", "");
-        if (!cleanedPostalCode.matches("\\d{6}")) {
-            // This is a safeguard, the main regex should have caught this.
+        end -= POSTAL_CODE_PREFIX.length();
+        if (end < 0 || !test.startsWith(POSTAL_CODE_PREFIX, end)) {
+            return false;
+        }
+        int whitespaceEnd = end;
+        while (end > 0 && isRegexWhitespace(test.charAt(end - 1))) {
+            end--;
+        }
+        if (end == whitespaceEnd || end == 0 || test.charAt(end - 1) != ',') {
             return false;
         }
 
-        return true;
+        // 3. Validate the address part before the comma, which must not be blank.
+        int addressPartEnd = end - 1;
+        boolean hasNonWhitespace = false;
+        for (int i = 0; i < addressPartEnd; i++) {
+            char c = test.charAt(i);
+            if (!isValidAddressPartCharacter(c)) {
+                return false;
+            }
+            hasNonWhitespace |= !isRegexWhitespace(c);
+        }
+        return hasNonWhitespace;
+    }
+
+    /**
+     * Returns true if {@code c} may appear in the part of an address before ", Singapore".
+     * Line terminators are not allowed, as the part must be a single line.
+     */
+    private static boolean isValidAddressPartCharacter(char c) {
+        return isAsciiLetterOrDigit(c)
+                || (isRegexWhitespace(c) && !isLineTerminator(c))
+                || ADDRESS_PART_SPECIAL_CHARACTERS.indexOf(c) != -1;
+    }
+
+    /**
+     * Returns the postal code at the end of this address, as a number.
+     */
+    public int getPostalCode() {
+        int postalCode = 0;
+        for (int i = value.length() - POSTAL_CODE_LENGTH; i < value.length(); i++) {
+            postalCode = postalCode * 10 + (value.charAt(i) - '0');
+        }
+        return postalCode;
     }
 
     @Override
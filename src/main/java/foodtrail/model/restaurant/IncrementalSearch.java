@@ -0,0 +1,83 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import foodtrail.commons.util.StringUtil;
+
+/**
+ * Finds the restaurants in a {@code UniqueRestaurantList} that contain a keyword, as {@code find} would, for a
+ * keyword that is searched again every time it is typed a little further.
+ * When a keyword contains the one searched before, only the restaurants that matched before are tested, as no other
+ * restaurant can contain it. A search can be abandoned part of the way through once it is no longer needed.
+ */
+public class IncrementalSearch {
+
+    /** Number of restaurants tested between checks for whether the search has been cancelled. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final UniqueRestaurantList restaurants;
+
+    // The last search that was not cancelled, which later keywords may refine
+    private String lastFoldedKeyword;
+    // Kept as a list as well as the returned set, as a list is much faster to go through
+    private List<Restaurant> lastMatches;
+    private long lastVersion;
+
+    /**
+     * Creates an {@code IncrementalSearch} over the restaurants in {@code restaurants}.
+     */
+    IncrementalSearch(UniqueRestaurantList restaurants) {
+        requireNonNull(restaurants);
+        this.restaurants = restaurants;
+    }
+
+    /**
+     * Returns the restaurants that contain {@code keyword}, or an empty {@code Optional} if {@code isCancelled}
+     * returned true before they were all found.
+     * The returned set compares restaurants by identity.
+     */
+    public Optional<Set<Restaurant>> search(String keyword, BooleanSupplier isCancelled) {
+        requireAllNonNull(keyword, isCancelled);
+        if (isCancelled.getAsBoolean()) {
+            return Optional.empty();
+        }
+
+        String foldedKeyword = StringUtil.foldForSearch(keyword.trim());
+        Iterable<Restaurant> candidates;
+        if (lastMatches != null && lastVersion == restaurants.getVersion()
+                && foldedKeyword.contains(lastFoldedKeyword)) {
+            candidates = lastMatches;
+        } else {
+            candidates = restaurants.getSearchCandidates(foldedKeyword).<Iterable<Restaurant>>map(set -> set)
+                    .orElse(restaurants);
+        }
+
+        RestaurantContainsKeywordsPredicate predicate = new RestaurantContainsKeywordsPredicate(List.of(keyword));
+        List<Restaurant> matches = new ArrayList<>();
+        int tested = 0;
+        for (Restaurant candidate : candidates) {
+            if (++tested % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        lastFoldedKeyword = foldedKeyword;
+        lastMatches = matches;
+        lastVersion = restaurants.getVersion();
+        Set<Restaurant> matchSet = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        matchSet.addAll(matches);
+        return Optional.of(Collections.unmodifiableSet(matchSet));
+    }
+}
@@ -1,6 +1,8 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.commons.util.StringUtil.isLineTerminator;
+import static foodtrail.commons.util.StringUtil.isRegexWhitespace;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -32,12 +34,25 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Accepts the same strings as {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidName(String test) {
         if (test.length() > 60) {
             return false;
         }
-        return test.matches(VALIDATION_REGEX);
+
+        // Line terminators are not matched by ".", but one that is not whitespace can be matched by "\S".
+        boolean hasNonWhitespace = false;
+        int lineTerminatorCount = 0;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isRegexWhitespace(c) && isLineTerminator(c)) {
+                return false;
+            }
+            hasNonWhitespace |= !isRegexWhitespace(c);
+            lineTerminatorCount += isLineTerminator(c) ? 1 : 0;
+        }
+        return hasNonWhitespace && lineTerminatorCount <= 1;
     }
 
 
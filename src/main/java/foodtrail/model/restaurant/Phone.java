@@ -1,6 +1,7 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.commons.util.StringUtil.isAsciiDigit;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -33,9 +34,23 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Accepts the same strings as {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != 8) {
+            return false;
+        }
+
+        char first = test.charAt(0);
+        if (first != '6' && first != '8' && first != '9') {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
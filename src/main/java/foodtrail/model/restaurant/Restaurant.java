@@ -2,8 +2,6 @@ package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,10 +19,14 @@ public class Restaurant {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new LinkedHashSet<>();
+    private final TagSet tags;
     private final Optional<Rating> rating;
     private final IsMarked isMarked; // Added IsMarked field
 
+    // Derived fields
+    private final RestaurantSearchKey searchKey;
+    private final RestaurantSortKey sortKey;
+
     /**
      * Every field must be present and not null.
      */
@@ -34,9 +36,11 @@ public class Restaurant {
         this.name = name;
         this.phone = phone;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.rating = rating == null ? Optional.empty() : rating;
         this.isMarked = isMarked; // Initialize isMarked
+        this.searchKey = new RestaurantSearchKey(name, phone, address, this.tags);
+        this.sortKey = new RestaurantSortKey(name, phone, address, this.tags, this.rating, isMarked);
     }
 
     // Backward-compatible 4-arg constructor (no rating provided -> blank)
@@ -70,6 +74,20 @@ public class Restaurant {
         return isMarked;
     }
 
+    /**
+     * Returns the searchable fields of this restaurant in the folded form used by keyword searches.
+     */
+    public RestaurantSearchKey getSearchKey() {
+        return searchKey;
+    }
+
+    /**
+     * Returns the fields of this restaurant in the form used to sort restaurants.
+     */
+    public RestaurantSortKey getSortKey() {
+        return sortKey;
+    }
+
     /**
      * Returns a new Restaurant with the same details as this restaurant, except with the given rating.
      */
@@ -90,8 +108,8 @@ public class Restaurant {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
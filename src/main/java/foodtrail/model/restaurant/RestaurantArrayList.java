@@ -0,0 +1,206 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of restaurants backed by an array, which reports bulk operations as a single change rather
+ * than one change per restaurant.
+ */
+class RestaurantArrayList extends ModifiableObservableListBase<Restaurant> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Replaced rather than changed by bulk operations, so that views of the old contents stay valid.
+    private Restaurant[] restaurants = new Restaurant[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public Restaurant get(int index) {
+        Objects.checkIndex(index, size);
+        return restaurants[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code other}.
+     */
+    void setContents(RestaurantArrayList other) {
+        requireNonNull(other);
+        if (other == this) {
+            return;
+        }
+        replaceContents(Arrays.copyOf(other.restaurants, other.size), other.size);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code restaurants} in one change, rather than one change per
+     * restaurant removed and added.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Restaurant> restaurants) {
+        Restaurant[] newRestaurants = restaurants.toArray(new Restaurant[0]);
+        for (Restaurant restaurant : newRestaurants) {
+            requireNonNull(restaurant);
+        }
+        replaceContents(newRestaurants, newRestaurants.length);
+        return true;
+    }
+
+    private void replaceContents(Restaurant[] newRestaurants, int newSize) {
+        List<Restaurant> removed = new ContentsView(restaurants, size);
+        restaurants = newRestaurants;
+        size = newSize;
+        modCount++;
+
+        if (removed.isEmpty() && newSize == 0) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (newSize > 0) {
+            nextAdd(0, newSize);
+        }
+        endChange();
+    }
+
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        removeRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Removes the restaurants from {@code fromIndex} to {@code toIndex} in one change, rather than one change per
+     * restaurant removed.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<Restaurant> removed = new ContentsView(Arrays.copyOfRange(restaurants, fromIndex, toIndex),
+                toIndex - fromIndex);
+        System.arraycopy(restaurants, toIndex, restaurants, fromIndex, size - toIndex);
+        Arrays.fill(restaurants, size - (toIndex - fromIndex), size, null);
+        size -= toIndex - fromIndex;
+        modCount++;
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    /**
+     * Removes the restaurants at {@code sortedIndices}, which must be in ascending order without repeats, in one
+     * change and a single pass over the list, rather than one change and one shift per restaurant removed.
+     */
+    void removeAll(int[] sortedIndices) {
+        if (sortedIndices.length == 0) {
+            return;
+        }
+        Objects.checkIndex(sortedIndices[sortedIndices.length - 1], size);
+        beginChange();
+        int removedCount = 0;
+        int write = sortedIndices[0];
+        for (int read = write; read < size; read++) {
+            if (removedCount < sortedIndices.length && read == sortedIndices[removedCount]) {
+                // Reported as if the restaurants were removed one by one, from the first to the last.
+                nextRemove(read - removedCount, restaurants[read]);
+                removedCount++;
+            } else {
+                restaurants[write] = restaurants[read];
+                write++;
+            }
+        }
+        Arrays.fill(restaurants, write, size, null);
+        size = write;
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Replaces the restaurant at each of {@code indices} with the restaurant at the same position in
+     * {@code replacements}, in one change rather than one change per restaurant replaced.
+     */
+    void setEach(int[] indices, List<Restaurant> replacements) {
+        if (indices.length != replacements.size()) {
+            throw new IllegalArgumentException("Every index must have a replacement.");
+        }
+        beginChange();
+        try {
+            for (int i = 0; i < indices.length; i++) {
+                set(indices[i], replacements.get(i));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Restaurant element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size + 1);
+        if (size == restaurants.length) {
+            restaurants = Arrays.copyOf(restaurants, restaurants.length + (restaurants.length >> 1) + 1);
+        }
+        System.arraycopy(restaurants, index, restaurants, index + 1, size - index);
+        restaurants[index] = element;
+        size++;
+    }
+
+    @Override
+    protected Restaurant doSet(int index, Restaurant element) {
+        requireNonNull(element);
+        Restaurant old = get(index);
+        restaurants[index] = element;
+        return old;
+    }
+
+    @Override
+    protected Restaurant doRemove(int index) {
+        Restaurant old = get(index);
+        System.arraycopy(restaurants, index + 1, restaurants, index, size - index - 1);
+        size--;
+        restaurants[size] = null;
+        return old;
+    }
+
+    /**
+     * An unmodifiable view of contents that have since been replaced, for telling listeners what was removed.
+     */
+    private static class ContentsView extends AbstractList<Restaurant> implements RandomAccess {
+        private final Restaurant[] restaurants;
+        private final int size;
+
+        ContentsView(Restaurant[] restaurants, int size) {
+            this.restaurants = restaurants;
+            this.size = size;
+        }
+
+        @Override
+        public Restaurant get(int index) {
+            Objects.checkIndex(index, size);
+            return restaurants[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.StringJoiner;
+
+import foodtrail.commons.util.ToStringBuilder;
+
+/**
+ * Compares restaurants by a sequence of fields, each in ascending or descending order, with each field breaking
+ * ties in the ones before it.
+ * Restaurants that are tied on every field are ordered by name, and then by phone, so that the order is the same
+ * whatever order the restaurants started in.
+ *
+ * Restaurants are compared by their precomputed {@link RestaurantSortKey}, so comparing allocates nothing.
+ */
+public class RestaurantComparator implements Comparator<Restaurant> {
+
+    private final RestaurantSortField[] fields;
+    private final boolean[] isAscending;
+
+    /**
+     * Creates a comparator that orders restaurants by name.
+     */
+    public RestaurantComparator() {
+        this(new RestaurantSortField[0], new boolean[0]);
+    }
+
+    private RestaurantComparator(RestaurantSortField[] fields, boolean[] isAscending) {
+        this.fields = fields;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Returns a comparator that orders restaurants like this one, and then by {@code field} in ascending order if
+     * {@code isAscending} is true, or in descending order otherwise.
+     */
+    public RestaurantComparator thenBy(RestaurantSortField field, boolean isAscending) {
+        requireNonNull(field);
+        RestaurantSortField[] newFields = Arrays.copyOf(fields, fields.length + 1);
+        boolean[] newIsAscending = Arrays.copyOf(this.isAscending, this.isAscending.length + 1);
+        newFields[fields.length] = field;
+        newIsAscending[fields.length] = isAscending;
+        return new RestaurantComparator(newFields, newIsAscending);
+    }
+
+    /**
+     * Returns true if this comparator orders restaurants by {@code field}.
+     */
+    public boolean hasField(RestaurantSortField field) {
+        requireNonNull(field);
+        for (RestaurantSortField existingField : fields) {
+            if (existingField == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int compare(Restaurant first, Restaurant second) {
+        RestaurantSortKey firstKey = first.getSortKey();
+        RestaurantSortKey secondKey = second.getSortKey();
+        for (int i = 0; i < fields.length; i++) {
+            int result = fields[i].compare(firstKey, secondKey);
+            if (result != 0) {
+                return isAscending[i] ? result : -result;
+            }
+        }
+
+        int result = RestaurantSortField.NAME.compare(firstKey, secondKey);
+        if (result == 0) {
+            result = firstKey.getName().compareTo(secondKey.getName());
+        }
+        if (result == 0) {
+            result = firstKey.getPhone().compareTo(secondKey.getPhone());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a description of the order, for showing to users.
+     */
+    public String getDescription() {
+        if (fields.length == 0) {
+            return RestaurantSortField.NAME.getKeyword() + " (ascending)";
+        }
+        StringJoiner description = new StringJoiner(", then ");
+        for (int i = 0; i < fields.length; i++) {
+            description.add(fields[i].getKeyword() + (isAscending[i] ? " (ascending)" : " (descending)"));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestaurantComparator)) {
+            return false;
+        }
+
+        RestaurantComparator otherRestaurantComparator = (RestaurantComparator) other;
+        return Arrays.equals(fields, otherRestaurantComparator.fields)
+                && Arrays.equals(isAscending, otherRestaurantComparator.isAscending);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(fields) + Arrays.hashCode(isAscending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fields", Arrays.toString(fields))
+                .add("isAscending", Arrays.toString(isAscending))
+                .toString();
+    }
+}
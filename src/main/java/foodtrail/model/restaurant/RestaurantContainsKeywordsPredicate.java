@@ -2,6 +2,7 @@ package foodtrail.model.restaurant;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import foodtrail.commons.util.StringUtil;
 import foodtrail.commons.util.ToStringBuilder;
@@ -11,20 +12,33 @@ import foodtrail.commons.util.ToStringBuilder;
  */
 public class RestaurantContainsKeywordsPredicate implements Predicate<Restaurant> {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches restaurants containing any of the given {@code keywords}.
+     */
     public RestaurantContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        // Folded once here so that testing a restaurant only compares against its precomputed search key.
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldForSearch(keyword.trim()))
+                .collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Restaurant restaurant) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsSubstringIgnoreCase(restaurant.getName().fullName, keyword)
-                        || StringUtil.containsSubstringIgnoreCase(restaurant.getPhone().value, keyword)
-                        || StringUtil.containsSubstringIgnoreCase(restaurant.getAddress().value, keyword)
-                        || restaurant.getTags().stream().anyMatch(tag -> StringUtil
-                                .containsSubstringIgnoreCase(tag.tagName, keyword)));
+        RestaurantSearchKey searchKey = restaurant.getSearchKey();
+        for (String keyword : foldedKeywords) {
+            // An empty keyword matches everything, as in StringUtil#containsSubstringIgnoreCase.
+            if (keyword.isEmpty() || searchKey.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
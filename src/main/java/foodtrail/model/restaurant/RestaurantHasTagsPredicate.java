@@ -0,0 +1,75 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import foodtrail.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Restaurant} has every one of some tags, at least one of some other tags, and none of
+ * some further tags.
+ * A group of tags that is empty places no condition on restaurants.
+ */
+public class RestaurantHasTagsPredicate implements Predicate<Restaurant> {
+    private final TagSet allTags;
+    private final TagSet anyTags;
+    private final TagSet noTags;
+
+    /**
+     * Creates a predicate that matches restaurants with all of {@code allTags}, any of {@code anyTags} and none of
+     * {@code noTags}.
+     */
+    public RestaurantHasTagsPredicate(TagSet allTags, TagSet anyTags, TagSet noTags) {
+        requireAllNonNull(allTags, anyTags, noTags);
+        this.allTags = allTags;
+        this.anyTags = anyTags;
+        this.noTags = noTags;
+    }
+
+    public TagSet getAllTags() {
+        return allTags;
+    }
+
+    public TagSet getAnyTags() {
+        return anyTags;
+    }
+
+    public TagSet getNoTags() {
+        return noTags;
+    }
+
+    @Override
+    public boolean test(Restaurant restaurant) {
+        TagSet tags = restaurant.getTags();
+        return tags.containsAll(allTags)
+                && (anyTags.isEmpty() || tags.containsAny(anyTags))
+                && !tags.containsAny(noTags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestaurantHasTagsPredicate)) {
+            return false;
+        }
+
+        RestaurantHasTagsPredicate otherRestaurantHasTagsPredicate = (RestaurantHasTagsPredicate) other;
+        return allTags.equals(otherRestaurantHasTagsPredicate.allTags)
+                && anyTags.equals(otherRestaurantHasTagsPredicate.anyTags)
+                && noTags.equals(otherRestaurantHasTagsPredicate.noTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("allTags", allTags)
+                .add("anyTags", anyTags)
+                .add("noTags", noTags)
+                .toString();
+    }
+}
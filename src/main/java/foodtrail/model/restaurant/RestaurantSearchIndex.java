@@ -0,0 +1,203 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import foodtrail.commons.util.StringUtil;
+
+/**
+ * An inverted index from character trigrams to the restaurants whose name, phone, address or tags contain them.
+ * Fields are indexed in the form produced by {@link StringUtil#foldForSearch(String)}, so a restaurant can only
+ * match a keyword under {@link RestaurantContainsKeywordsPredicate} if it contains every trigram of that keyword.
+ *
+ * The index is maintained by {@link UniqueRestaurantList} and is used to narrow down the restaurants that have
+ * to be tested against a keyword search.
+ */
+public class RestaurantSearchIndex {
+
+    /** Length of the character n-grams that are indexed. Keywords shorter than this cannot use the index. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Restaurant>> postings = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Indexes all searchable fields of {@code restaurant}.
+     */
+    void add(Restaurant restaurant) {
+        requireNonNull(restaurant);
+        for (String gram : getGrams(restaurant)) {
+            postings.computeIfAbsent(gram, unused -> newRestaurantSet()).add(restaurant);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code restaurant} from the index.
+     * {@code restaurant} must be the same instance that was added.
+     */
+    void remove(Restaurant restaurant) {
+        requireNonNull(restaurant);
+        for (String gram : getGrams(restaurant)) {
+            Set<Restaurant> posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(restaurant);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(RestaurantSearchIndex other) {
+        requireNonNull(other);
+        postings.clear();
+        for (Map.Entry<String, Set<Restaurant>> entry : other.postings.entrySet()) {
+            Set<Restaurant> posting = newRestaurantSet();
+            posting.addAll(entry.getValue());
+            postings.put(entry.getKey(), posting);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the given {@code restaurants}.
+     */
+    void setAll(Iterable<Restaurant> restaurants) {
+        requireNonNull(restaurants);
+        postings.clear();
+        for (Restaurant restaurant : restaurants) {
+            add(restaurant);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of this index change.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the restaurants that can possibly match any of the {@code keywords}, or an empty {@code Optional}
+     * if some keyword is too short to be looked up, in which case every restaurant is a candidate.
+     * The returned set compares restaurants by identity.
+     */
+    public Optional<Set<Restaurant>> getCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Restaurant> candidates = newRestaurantSet();
+        for (String keyword : keywords) {
+            String foldedKeyword = StringUtil.foldForSearch(keyword.trim());
+            if (foldedKeyword.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            addCandidates(foldedKeyword, candidates);
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests restaurants this index reports as
+     * candidates. The candidates are looked up again whenever this index has changed since the last lookup.
+     */
+    public Predicate<Restaurant> narrow(RestaurantContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedPredicate(predicate);
+    }
+
+    /**
+     * Adds to {@code candidates} every restaurant that contains all trigrams of {@code foldedKeyword}.
+     */
+    private void addCandidates(String foldedKeyword, Set<Restaurant> candidates) {
+        List<Set<Restaurant>> keywordPostings = new ArrayList<>();
+        for (String gram : getGrams(foldedKeyword)) {
+            Set<Restaurant> posting = postings.get(gram);
+            if (posting == null) {
+                return; // no restaurant contains this trigram, so none can contain the keyword
+            }
+            keywordPostings.add(posting);
+        }
+
+        // Intersect starting from the smallest posting so that the fewest restaurants are checked.
+        keywordPostings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        Set<Restaurant> smallest = keywordPostings.get(0);
+        List<Set<Restaurant>> others = keywordPostings.subList(1, keywordPostings.size());
+        for (Restaurant restaurant : smallest) {
+            if (others.stream().allMatch(posting -> posting.contains(restaurant))) {
+                candidates.add(restaurant);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of all searchable fields of {@code restaurant}.
+     * A trigram never spans two fields.
+     */
+    private static Set<String> getGrams(Restaurant restaurant) {
+        Set<String> grams = new HashSet<>();
+        for (String field : restaurant.getSearchKey().getFields()) {
+            addGrams(field, grams);
+        }
+        return grams;
+    }
+
+    private static Set<String> getGrams(String foldedText) {
+        Set<String> grams = new HashSet<>();
+        addGrams(foldedText, grams);
+        return grams;
+    }
+
+    private static void addGrams(String foldedText, Set<String> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            grams.add(foldedText.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    private static Set<Restaurant> newRestaurantSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Tests restaurants against a {@code RestaurantContainsKeywordsPredicate}, skipping those that the
+     * enclosing index rules out.
+     */
+    private class IndexedPredicate implements Predicate<Restaurant> {
+        private final RestaurantContainsKeywordsPredicate predicate;
+        private Optional<Set<Restaurant>> candidates;
+        private int candidatesModificationCount;
+
+        IndexedPredicate(RestaurantContainsKeywordsPredicate predicate) {
+            this.predicate = predicate;
+            refreshCandidates();
+        }
+
+        @Override
+        public boolean test(Restaurant restaurant) {
+            if (candidatesModificationCount != modificationCount) {
+                refreshCandidates();
+            }
+            return candidates.map(set -> set.contains(restaurant)).orElse(true) && predicate.test(restaurant);
+        }
+
+        private void refreshCandidates() {
+            candidates = getCandidates(predicate.getKeywords());
+            candidatesModificationCount = modificationCount;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import foodtrail.commons.util.StringUtil;
+
+/**
+ * The searchable fields of a {@code Restaurant} (name, phone, address and tags), folded once by
+ * {@link StringUtil#foldForSearch(String)} so that keyword searches do not have to fold them again.
+ * Guarantees: immutable.
+ */
+public class RestaurantSearchKey {
+
+    private final String name;
+    private final String phone;
+    private final String address;
+    private final List<String> tags;
+
+    /**
+     * Folds the searchable fields of a restaurant with the given details.
+     */
+    RestaurantSearchKey(Name name, Phone phone, Address address, Iterable<Tag> tags) {
+        this.name = StringUtil.foldForSearch(name.fullName);
+        this.phone = StringUtil.foldForSearch(phone.value);
+        this.address = StringUtil.foldForSearch(address.value);
+        List<String> foldedTags = new ArrayList<>();
+        for (Tag tag : tags) {
+            foldedTags.add(StringUtil.foldForSearch(tag.tagName));
+        }
+        this.tags = Collections.unmodifiableList(foldedTags);
+    }
+
+    /**
+     * Returns true if any searchable field contains {@code foldedKeyword}.
+     * {@code foldedKeyword} must already be folded by {@link StringUtil#foldForSearch(String)}.
+     */
+    public boolean contains(String foldedKeyword) {
+        requireNonNull(foldedKeyword);
+        if (name.contains(foldedKeyword) || phone.contains(foldedKeyword) || address.contains(foldedKeyword)) {
+            return true;
+        }
+        for (String tag : tags) {
+            if (tag.contains(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the folded searchable fields, in the order name, phone, address, then tags.
+     */
+    public List<String> getFields() {
+        List<String> fields = new ArrayList<>(3 + tags.size());
+        fields.add(name);
+        fields.add(phone);
+        fields.add(address);
+        fields.addAll(tags);
+        return fields;
+    }
+}
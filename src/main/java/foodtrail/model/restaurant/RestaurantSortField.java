@@ -0,0 +1,86 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * The fields that restaurants can be sorted by.
+ */
+public enum RestaurantSortField {
+    /** Sorts by name, ignoring case. */
+    NAME("name", true) {
+        @Override
+        public int compare(RestaurantSortKey first, RestaurantSortKey second) {
+            return first.getFoldedName().compareTo(second.getFoldedName());
+        }
+    },
+    /** Sorts by rating, with unrated restaurants below every rating. */
+    RATING("rating", false) {
+        @Override
+        public int compare(RestaurantSortKey first, RestaurantSortKey second) {
+            return Integer.compare(first.getRating(), second.getRating());
+        }
+    },
+    /** Sorts by whether the restaurant has been visited, with unvisited restaurants below visited ones. */
+    VISITED("visited", false) {
+        @Override
+        public int compare(RestaurantSortKey first, RestaurantSortKey second) {
+            return Boolean.compare(first.isVisited(), second.isVisited());
+        }
+    },
+    /** Sorts by the postal code of the address. */
+    POSTAL("postal", true) {
+        @Override
+        public int compare(RestaurantSortKey first, RestaurantSortKey second) {
+            return Integer.compare(first.getPostalCode(), second.getPostalCode());
+        }
+    },
+    /** Sorts by the number of tags. */
+    TAGS("tags", false) {
+        @Override
+        public int compare(RestaurantSortKey first, RestaurantSortKey second) {
+            return Integer.compare(first.getTagCount(), second.getTagCount());
+        }
+    };
+
+    private final String keyword;
+    private final boolean isAscendingByDefault;
+
+    RestaurantSortField(String keyword, boolean isAscendingByDefault) {
+        this.keyword = keyword;
+        this.isAscendingByDefault = isAscendingByDefault;
+    }
+
+    /**
+     * Returns the word used to choose this field in commands.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if restaurants are sorted by this field in ascending order when no order is given.
+     */
+    public boolean isAscendingByDefault() {
+        return isAscendingByDefault;
+    }
+
+    /**
+     * Compares two restaurants by this field in ascending order.
+     */
+    public abstract int compare(RestaurantSortKey first, RestaurantSortKey second);
+
+    /**
+     * Returns the field chosen by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<RestaurantSortField> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (RestaurantSortField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
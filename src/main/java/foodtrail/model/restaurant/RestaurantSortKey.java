@@ -0,0 +1,71 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.commons.util.StringUtil.foldCase;
+
+import java.util.Optional;
+
+/**
+ * The fields of a restaurant that restaurants are sorted by, computed once so that comparing restaurants does not
+ * need to derive them again.
+ */
+public class RestaurantSortKey {
+
+    /** The rating of restaurants that are not rated, which sorts before every rating. */
+    static final int NO_RATING = -1;
+
+    private final String foldedName;
+    private final String name;
+    private final String phone;
+    private final int rating;
+    private final boolean isVisited;
+    private final int postalCode;
+    private final int tagCount;
+
+    /**
+     * Computes the sort key of a restaurant with the given details.
+     */
+    RestaurantSortKey(Name name, Phone phone, Address address, TagSet tags, Optional<Rating> rating,
+            IsMarked isMarked) {
+        this.foldedName = foldCase(name.fullName);
+        this.name = name.fullName;
+        this.phone = phone.value;
+        this.rating = rating.map(value -> value.value).orElse(NO_RATING);
+        this.isVisited = isMarked.isVisited();
+        this.postalCode = address.getPostalCode();
+        this.tagCount = tags.size();
+    }
+
+    /**
+     * Returns the name, folded so that names differing only in case are equal.
+     */
+    public String getFoldedName() {
+        return foldedName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * Returns the rating, or {@code NO_RATING} if the restaurant is not rated.
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    public boolean isVisited() {
+        return isVisited;
+    }
+
+    public int getPostalCode() {
+        return postalCode;
+    }
+
+    public int getTagCount() {
+        return tagCount;
+    }
+}
@@ -0,0 +1,203 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from tags to the restaurants that have them, so that the restaurants with some tags are found
+ * by combining their postings rather than by testing every restaurant.
+ *
+ * The index is maintained by {@link UniqueRestaurantList}.
+ */
+public class RestaurantTagIndex {
+
+    private final Map<Tag, Set<Restaurant>> postings = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Indexes the tags of {@code restaurant}.
+     */
+    void add(Restaurant restaurant) {
+        requireNonNull(restaurant);
+        for (Tag tag : restaurant.getTags()) {
+            postings.computeIfAbsent(tag, unused -> newRestaurantSet()).add(restaurant);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code restaurant} from the index.
+     * {@code restaurant} must be the same instance that was added.
+     */
+    void remove(Restaurant restaurant) {
+        requireNonNull(restaurant);
+        for (Tag tag : restaurant.getTags()) {
+            Set<Restaurant> posting = postings.get(tag);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(restaurant);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(RestaurantTagIndex other) {
+        requireNonNull(other);
+        postings.clear();
+        for (Map.Entry<Tag, Set<Restaurant>> entry : other.postings.entrySet()) {
+            Set<Restaurant> posting = newRestaurantSet();
+            posting.addAll(entry.getValue());
+            postings.put(entry.getKey(), posting);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the given {@code restaurants}.
+     */
+    void setAll(Iterable<Restaurant> restaurants) {
+        requireNonNull(restaurants);
+        postings.clear();
+        for (Restaurant restaurant : restaurants) {
+            add(restaurant);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the restaurants with {@code tag}, as an unmodifiable view that changes with this index.
+     * The returned set compares restaurants by identity.
+     */
+    public Set<Restaurant> getRestaurants(Tag tag) {
+        requireNonNull(tag);
+        Set<Restaurant> posting = postings.get(tag);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns the restaurants that match {@code predicate}, or an empty {@code Optional} if {@code predicate} only
+     * rules out restaurants, in which case they are all candidates.
+     * The returned set compares restaurants by identity.
+     */
+    public Optional<Set<Restaurant>> getMatches(RestaurantHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        List<Set<Restaurant>> allPostings = getPostings(predicate.getAllTags());
+        List<Set<Restaurant>> anyPostings = getPostings(predicate.getAnyTags());
+        List<Set<Restaurant>> noPostings = getPostings(predicate.getNoTags());
+        if (allPostings.size() < predicate.getAllTags().size()) {
+            return Optional.of(Collections.emptySet()); // no restaurant has one of the tags
+        }
+
+        Set<Restaurant> matches = newRestaurantSet();
+        if (!allPostings.isEmpty()) {
+            // Intersect starting from the smallest posting so that the fewest restaurants are checked.
+            allPostings.sort(Comparator.comparingInt(Set::size));
+            List<Set<Restaurant>> others = allPostings.subList(1, allPostings.size());
+            for (Restaurant restaurant : allPostings.get(0)) {
+                if (containsAll(others, restaurant)
+                        && (predicate.getAnyTags().isEmpty() || containsAny(anyPostings, restaurant))
+                        && !containsAny(noPostings, restaurant)) {
+                    matches.add(restaurant);
+                }
+            }
+        } else if (!predicate.getAnyTags().isEmpty()) {
+            for (Set<Restaurant> anyPosting : anyPostings) {
+                for (Restaurant restaurant : anyPosting) {
+                    if (!containsAny(noPostings, restaurant)) {
+                        matches.add(restaurant);
+                    }
+                }
+            }
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks restaurants up in this index instead of
+     * checking their tags. The matches are looked up again whenever this index has changed since the last lookup.
+     */
+    public Predicate<Restaurant> narrow(RestaurantHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedPredicate(predicate);
+    }
+
+    private List<Set<Restaurant>> getPostings(TagSet tags) {
+        List<Set<Restaurant>> tagPostings = new ArrayList<>();
+        for (Tag tag : tags) {
+            Set<Restaurant> posting = postings.get(tag);
+            if (posting != null) {
+                tagPostings.add(posting);
+            }
+        }
+        return tagPostings;
+    }
+
+    private static boolean containsAll(List<Set<Restaurant>> tagPostings, Restaurant restaurant) {
+        for (Set<Restaurant> posting : tagPostings) {
+            if (!posting.contains(restaurant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAny(List<Set<Restaurant>> tagPostings, Restaurant restaurant) {
+        for (Set<Restaurant> posting : tagPostings) {
+            if (posting.contains(restaurant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Restaurant> newRestaurantSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Tests restaurants against a {@code RestaurantHasTagsPredicate} by looking them up in the matches found by
+     * the enclosing index.
+     */
+    private class IndexedPredicate implements Predicate<Restaurant> {
+        private final RestaurantHasTagsPredicate predicate;
+        private Optional<Set<Restaurant>> matches;
+        private int matchesModificationCount;
+
+        IndexedPredicate(RestaurantHasTagsPredicate predicate) {
+            this.predicate = predicate;
+            refreshMatches();
+        }
+
+        @Override
+        public boolean test(Restaurant restaurant) {
+            if (matchesModificationCount != modificationCount) {
+                refreshMatches();
+            }
+            // Restaurants are only ruled out by their tags when there are no matches to look up.
+            return matches.map(set -> set.contains(restaurant)).orElseGet(() -> predicate.test(restaurant));
+        }
+
+        private void refreshMatches() {
+            matches = getMatches(predicate);
+            matchesModificationCount = modificationCount;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.commons.util.StringUtil.isAsciiLetterOrDigit;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+
 /**
  * Represents a Tag in the restaurant directory.
+ * Every tag name has one shared {@code Tag}, returned by {@link #of(String)}, and an id that no other tag name has.
  * Guarantees: immutable; is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -12,10 +16,15 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags should be alphanumeric, and be at most 30 characters.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
+    /** Orders tags by name, the order they are shown to the user in. */
+    public static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
     public final String tagName;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(String)}, which returns the shared tag instead of a new one.
      *
      * @param tagName A valid tag name.
      */
@@ -23,16 +32,51 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName.toLowerCase();
+        this.id = TagRegistry.intern(this.tagName).id;
+    }
+
+    /**
+     * Constructs the shared {@code Tag} for the valid, lower case {@code tagName}, with the given id.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return TagRegistry.intern(tagName.toLowerCase());
+    }
+
+    /**
+     * Returns the id of this tag's name, which is the same for every tag with this name.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Accepts the same strings as {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidTagName(String test) {
-        if (test.length() > 30) {
+        if (test.isEmpty() || test.length() > 30) {
             return false;
         }
-        return test.matches(VALIDATION_REGEX);
+
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiLetterOrDigit(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -47,7 +91,7 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return id == otherTag.id;
     }
 
     @Override
@@ -0,0 +1,29 @@
+package foodtrail.model.restaurant;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The shared {@code Tag} of every tag name in use, so that restaurants with the same tag share one {@code Tag}.
+ * Ids are given out in the order tag names are first seen. Tags are never removed, as there are few tag names and
+ * each is short. Safe to use from several threads at once.
+ */
+final class TagRegistry {
+
+    private static final ConcurrentMap<String, Tag> tags = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the shared {@code Tag} for the valid, lower case {@code tagName}, creating it if there is none.
+     */
+    static Tag intern(String tagName) {
+        Tag tag = tags.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        return tags.computeIfAbsent(tagName, name -> new Tag(name, nextId.getAndIncrement()));
+    }
+}
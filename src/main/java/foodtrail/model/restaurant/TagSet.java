@@ -0,0 +1,188 @@
+package foodtrail.model.restaurant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable set of tags, holding the shared {@code Tag} of each tag name in an array sorted by id.
+ * Takes a few bytes per tag, rather than the several objects per tag of a {@code HashSet}, and is compared with
+ * other tag sets by merging their arrays rather than by hashing.
+ * Iterates over its tags in order of id, which is the order their names were first seen.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+    private static final Comparator<Tag> BY_ID = Comparator.comparingInt(Tag::getId);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sharedTags = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            sharedTags[size++] = TagRegistry.intern(tag.tagName);
+        }
+        Arrays.sort(sharedTags, BY_ID);
+
+        // Drops equal tags, in case tags is not a set.
+        int distinctSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinctSize == 0 || sharedTags[distinctSize - 1] != sharedTags[i]) {
+                sharedTags[distinctSize++] = sharedTags[i];
+            }
+        }
+        return new TagSet(distinctSize == size ? sharedTags : Arrays.copyOf(sharedTags, distinctSize));
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && indexOf(((Tag) o).getId()) >= 0;
+    }
+
+    private int indexOf(int id) {
+        int low = 0;
+        int high = tags.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = tags[middle].getId();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof TagSet)) {
+            return super.containsAll(c);
+        }
+        Tag[] otherTags = ((TagSet) c).tags;
+        int i = 0;
+        for (Tag otherTag : otherTags) {
+            while (i < tags.length && tags[i].getId() < otherTag.getId()) {
+                i++;
+            }
+            if (i == tags.length || tags[i] != otherTag) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this set has any of the tags in {@code other}.
+     */
+    public boolean containsAny(TagSet other) {
+        requireNonNull(other);
+        int i = 0;
+        int j = 0;
+        while (i < tags.length && j < other.tags.length) {
+            int id = tags[i].getId();
+            int otherId = other.tags[j].getId();
+            if (id == otherId) {
+                return true;
+            }
+            if (id < otherId) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Must be the same as that of any other set of the same tags, as equal sets can be of different classes.
+        return super.hashCode();
+    }
+}
@@ -1,11 +1,19 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+import static foodtrail.commons.util.StringUtil.foldCase;
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import foodtrail.model.restaurant.exceptions.DuplicateRestaurantException;
 import foodtrail.model.restaurant.exceptions.RestaurantNotFoundException;
@@ -31,17 +39,57 @@ import javafx.collections.ObservableList;
  */
 public class UniqueRestaurantList implements Iterable<Restaurant> {
 
-    private final ObservableList<Restaurant> internalList = FXCollections.observableArrayList();
+    private final RestaurantArrayList internalList = new RestaurantArrayList();
     private final ObservableList<Restaurant> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
 
+    /*
+     * The case-folded identity fields of every restaurant in internalList, so that duplicate detection does not
+     * need to scan the whole list.
+     * Must be kept in sync with internalList by every mutating method.
+     */
+    private final Set<IdentityKey> identityIndex = new HashSet<>();
+
+    /*
+     * Trigram index over the searchable fields of every restaurant in internalList, used to narrow down keyword
+     * searches. It is only built on the first keyword search, as it is much larger than the list itself.
+     * Once built, it must be kept in sync with internalList by every mutating method, as predicates created by
+     * narrowSearch keep using it.
+     */
+    private final RestaurantSearchIndex searchIndex = new RestaurantSearchIndex();
+    private boolean isSearchIndexBuilt = false;
+
+    /*
+     * An index from tags to restaurants, used to find the restaurants with some tags. Like the search index, it is
+     * only built when it is first used, and must then be kept in sync with internalList by every mutating method.
+     */
+    private final RestaurantTagIndex tagIndex = new RestaurantTagIndex();
+    private boolean isTagIndexBuilt = false;
+
+    /*
+     * Incremented by every mutation of internalList.
+     * Every mutating method updates the indexes and this version before internalList, as listeners of internalList,
+     * such as a FilteredList, test the restaurants added to it as soon as it changes. Predicates that look
+     * restaurants up in the indexes, or compare the version, must then already see the new contents.
+     */
+    private long version = 0;
+
     /**
      * Returns true if the list contains an equivalent restaurant as the given
      * argument.
      */
     public boolean contains(Restaurant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRestaurant);
+        return identityIndex.contains(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns a predicate that tests whether the list contains an equivalent restaurant, like
+     * {@link #contains(Restaurant)}. It is meant for checking many restaurants at once, and may be used from
+     * several threads as long as the list is not modified while it is in use.
+     */
+    public Predicate<Restaurant> newContainsChecker() {
+        return this::contains;
     }
 
     /**
@@ -53,9 +101,48 @@ public class UniqueRestaurantList implements Iterable<Restaurant> {
         if (contains(toAdd)) {
             throw new DuplicateRestaurantException();
         }
+        identityIndex.add(new IdentityKey(toAdd));
+        version++;
+        if (isSearchIndexBuilt) {
+            searchIndex.add(toAdd);
+        }
+        if (isTagIndexBuilt) {
+            tagIndex.add(toAdd);
+        }
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds every restaurant in {@code toAdd} to the end of the list, in one change to the list.
+     * No restaurant may already exist in the list or be given twice. If any does, the list is left unchanged.
+     */
+    public void addAll(List<Restaurant> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        Predicate<Restaurant> isInList = newContainsChecker();
+        Set<IdentityKey> addedIndex = new HashSet<>();
+        for (Restaurant restaurant : toAdd) {
+            if (!addedIndex.add(new IdentityKey(restaurant)) || isInList.test(restaurant)) {
+                throw new DuplicateRestaurantException();
+            }
+        }
+
+        identityIndex.addAll(addedIndex);
+        version++;
+        for (Restaurant restaurant : toAdd) {
+            if (isSearchIndexBuilt) {
+                searchIndex.add(restaurant);
+            }
+            if (isTagIndexBuilt) {
+                tagIndex.add(restaurant);
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the restaurant {@code target} in the list with
      * {@code editedRestaurant}.
@@ -75,6 +162,18 @@ public class UniqueRestaurantList implements Iterable<Restaurant> {
             throw new DuplicateRestaurantException();
         }
 
+        Restaurant replaced = internalList.get(index);
+        identityIndex.remove(new IdentityKey(target));
+        identityIndex.add(new IdentityKey(editedRestaurant));
+        version++;
+        if (isSearchIndexBuilt) {
+            searchIndex.remove(replaced);
+            searchIndex.add(editedRestaurant);
+        }
+        if (isTagIndexBuilt) {
+            tagIndex.remove(replaced);
+            tagIndex.add(editedRestaurant);
+        }
         internalList.set(index, editedRestaurant);
     }
 
@@ -84,33 +183,249 @@ public class UniqueRestaurantList implements Iterable<Restaurant> {
      */
     public void remove(Restaurant toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new RestaurantNotFoundException();
+        }
+        Restaurant removed = internalList.get(index);
+        identityIndex.remove(new IdentityKey(toRemove));
+        version++;
+        if (isSearchIndexBuilt) {
+            searchIndex.remove(removed);
+        }
+        if (isTagIndexBuilt) {
+            tagIndex.remove(removed);
+        }
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces each restaurant in {@code targets} with the restaurant at the same position in
+     * {@code editedRestaurants}, in one change to the list.
+     * Every restaurant in {@code targets} must exist in the list, and the restaurant identity of each edited
+     * restaurant must not be the same as another restaurant in the list or in {@code editedRestaurants}.
+     * If any of them is not, the list is left unchanged.
+     */
+    public void setRestaurants(List<Restaurant> targets, List<Restaurant> editedRestaurants) {
+        requireAllNonNull(targets, editedRestaurants);
+        if (targets.size() != editedRestaurants.size()) {
+            throw new IllegalArgumentException("Every target must have an edited restaurant.");
+        }
+
+        int[] indices = indicesOf(targets);
+        Set<IdentityKey> editedKeys = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Restaurant target = targets.get(i);
+            Restaurant editedRestaurant = editedRestaurants.get(i);
+            if (!editedKeys.add(new IdentityKey(editedRestaurant))
+                    || (!target.isSameRestaurant(editedRestaurant) && contains(editedRestaurant))) {
+                throw new DuplicateRestaurantException();
+            }
+        }
+
+        List<Restaurant> replaced = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            replaced.add(internalList.get(index));
+        }
+        for (int i = 0; i < indices.length; i++) {
+            identityIndex.remove(new IdentityKey(targets.get(i)));
+        }
+        for (Restaurant editedRestaurant : editedRestaurants) {
+            identityIndex.add(new IdentityKey(editedRestaurant));
+        }
+        version++;
+        for (int i = 0; i < indices.length; i++) {
+            if (isSearchIndexBuilt) {
+                searchIndex.remove(replaced.get(i));
+                searchIndex.add(editedRestaurants.get(i));
+            }
+            if (isTagIndexBuilt) {
+                tagIndex.remove(replaced.get(i));
+                tagIndex.add(editedRestaurants.get(i));
+            }
+        }
+        internalList.setEach(indices, editedRestaurants);
+    }
+
+    /**
+     * Removes the equivalent restaurant of each restaurant in {@code toRemove} from the list, in one change to the
+     * list.
+     * Every restaurant must exist in the list. If any does not, the list is left unchanged.
+     */
+    public void removeAll(List<Restaurant> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] indices = indicesOf(toRemove);
+        Arrays.sort(indices);
+        List<Restaurant> removed = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            removed.add(internalList.get(index));
+        }
+        for (Restaurant restaurant : removed) {
+            identityIndex.remove(new IdentityKey(restaurant));
+            if (isSearchIndexBuilt) {
+                searchIndex.remove(restaurant);
+            }
+            if (isTagIndexBuilt) {
+                tagIndex.remove(restaurant);
+            }
+        }
+        version++;
+        internalList.removeAll(indices);
+    }
+
+    /**
+     * Returns the index in the list of the equivalent restaurant of each restaurant in {@code restaurants}, found in
+     * a single pass over the list.
+     *
+     * @throws RestaurantNotFoundException if any restaurant is not in the list, or is given twice.
+     */
+    private int[] indicesOf(List<Restaurant> restaurants) {
+        Map<Restaurant, Integer> positions = new HashMap<>();
+        for (int i = 0; i < restaurants.size(); i++) {
+            if (positions.put(restaurants.get(i), i) != null) {
+                throw new RestaurantNotFoundException();
+            }
+        }
+        int[] indices = new int[restaurants.size()];
+        int foundCount = 0;
+        for (int i = 0; i < internalList.size() && foundCount < indices.length; i++) {
+            Integer position = positions.get(internalList.get(i));
+            if (position != null) {
+                indices[position] = i;
+                foundCount++;
+            }
+        }
+        if (foundCount < indices.length) {
             throw new RestaurantNotFoundException();
         }
+        return indices;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} already guarantees uniqueness, no duplicate check is performed.
+     */
     public void setRestaurants(UniqueRestaurantList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        if (replacement == this) {
+            return;
+        }
+        identityIndex.clear();
+        identityIndex.addAll(replacement.identityIndex);
+        version++;
+        if (isSearchIndexBuilt && replacement.isSearchIndexBuilt) {
+            searchIndex.setAll(replacement.searchIndex);
+        } else if (isSearchIndexBuilt) {
+            searchIndex.setAll(replacement.internalList);
+        }
+        if (isTagIndexBuilt && replacement.isTagIndexBuilt) {
+            tagIndex.setAll(replacement.tagIndex);
+        } else if (isTagIndexBuilt) {
+            tagIndex.setAll(replacement.internalList);
+        }
+        internalList.setContents(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code restaurants}.
      * {@code restaurants} must not contain duplicate restaurants.
+     *
+     * @throws DuplicateRestaurantException listing every duplicate pair if {@code restaurants} is not unique.
      */
     public void setRestaurants(List<Restaurant> restaurants) {
         requireAllNonNull(restaurants);
-        if (!restaurantsAreUnique(restaurants)) {
-            throw new DuplicateRestaurantException();
+        Map<IdentityKey, Restaurant> replacementIndex = new HashMap<>();
+        List<Map.Entry<Restaurant, Restaurant>> duplicatePairs = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            Restaurant existing = replacementIndex.putIfAbsent(new IdentityKey(restaurant), restaurant);
+            if (existing != null) {
+                duplicatePairs.add(Map.entry(existing, restaurant));
+            }
+        }
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateRestaurantException(duplicatePairs);
         }
 
+        identityIndex.clear();
+        identityIndex.addAll(replacementIndex.keySet());
+        version++;
+        if (isSearchIndexBuilt) {
+            searchIndex.setAll(restaurants);
+        }
+        if (isTagIndexBuilt) {
+            tagIndex.setAll(restaurants);
+        }
         internalList.setAll(restaurants);
     }
 
-    /** Sorts the internal list with the given comparator. */
-    public void sort(Comparator<Restaurant> comparator) {
-        requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this list to skip
+     * restaurants that cannot match.
+     * It should only be used to test restaurants in this list.
+     */
+    public Predicate<Restaurant> narrowSearch(RestaurantContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return getSearchIndex().narrow(predicate);
+    }
+
+    /**
+     * Returns a new {@code IncrementalSearch} over the restaurants in this list.
+     */
+    public IncrementalSearch newIncrementalSearch() {
+        return new IncrementalSearch(this);
+    }
+
+    /**
+     * Returns the restaurants in this list that can possibly contain {@code keyword}, as reported by the search
+     * index of this list, or an empty {@code Optional} if every restaurant is a candidate.
+     * The returned set compares restaurants by identity.
+     */
+    Optional<Set<Restaurant>> getSearchCandidates(String keyword) {
+        requireNonNull(keyword);
+        return getSearchIndex().getCandidates(List.of(keyword));
+    }
+
+    private RestaurantSearchIndex getSearchIndex() {
+        if (!isSearchIndexBuilt) {
+            searchIndex.setAll(internalList);
+            isSearchIndexBuilt = true;
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks restaurants up in the tag index of this list
+     * instead of checking their tags.
+     * It should only be used to test restaurants in this list.
+     */
+    public Predicate<Restaurant> narrowTagFilter(RestaurantHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return getTagIndex().narrow(predicate);
+    }
+
+    /**
+     * Returns the restaurants in this list with {@code tag}, as an unmodifiable view that changes with this list.
+     * The returned set compares restaurants by identity.
+     */
+    public Set<Restaurant> getRestaurantsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return getTagIndex().getRestaurants(tag);
+    }
+
+    private RestaurantTagIndex getTagIndex() {
+        if (!isTagIndexBuilt) {
+            tagIndex.setAll(internalList);
+            isTagIndexBuilt = true;
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Returns the modification version of this list.
+     * It increases with every change to the list, including reordering, and never decreases.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -151,16 +466,44 @@ public class UniqueRestaurantList implements Iterable<Restaurant> {
     }
 
     /**
-     * Returns true if {@code restaurants} contains only unique restaurants.
+     * The identity of a restaurant as defined by {@link Restaurant#isSameRestaurant(Restaurant)}, i.e. its
+     * name, address and phone compared case-insensitively, in a form that can be hashed.
+     * Two restaurants have equal keys if and only if they are the same restaurant.
      */
-    private boolean restaurantsAreUnique(List<Restaurant> restaurants) {
-        for (int i = 0; i < restaurants.size() - 1; i++) {
-            for (int j = i + 1; j < restaurants.size(); j++) {
-                if (restaurants.get(i).isSameRestaurant(restaurants.get(j))) {
-                    return false;
-                }
+    private static final class IdentityKey {
+        private final String name;
+        private final String address;
+        private final String phone;
+        private final int hash;
+
+        IdentityKey(Restaurant restaurant) {
+            name = foldCase(restaurant.getName().toString());
+            address = foldCase(restaurant.getAddress().toString());
+            phone = foldCase(restaurant.getPhone().toString());
+            hash = (name.hashCode() * 31 + address.hashCode()) * 31 + phone.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return hash == otherKey.hash
+                    && name.equals(otherKey.name)
+                    && address.equals(otherKey.address)
+                    && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return true;
     }
 }
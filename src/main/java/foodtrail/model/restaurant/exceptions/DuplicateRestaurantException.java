@@ -1,11 +1,40 @@
 package foodtrail.model.restaurant.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import foodtrail.model.restaurant.Restaurant;
+
 /**
  * Signals that the operation will result in duplicate Restaurant (Restaurants are considered duplicates if they have
  * the same identity).
  */
 public class DuplicateRestaurantException extends RuntimeException {
+
+    private final List<Map.Entry<Restaurant, Restaurant>> duplicatePairs;
+
     public DuplicateRestaurantException() {
         super("Operation would result in duplicate restaurants");
+        duplicatePairs = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicateRestaurantException} listing every offending pair. The key of each pair is the
+     * restaurant that was encountered first and the value is the later restaurant with the same identity.
+     */
+    public DuplicateRestaurantException(List<Map.Entry<Restaurant, Restaurant>> duplicatePairs) {
+        super("Operation would result in duplicate restaurants: " + duplicatePairs.stream()
+                .map(pair -> pair.getValue().getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicatePairs = List.copyOf(duplicatePairs);
+    }
+
+    /**
+     * Returns the duplicate pairs that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<Map.Entry<Restaurant, Restaurant>> getDuplicatePairs() {
+        return duplicatePairs;
     }
 }
@@ -0,0 +1,286 @@
+package foodtrail.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Address;
+import foodtrail.model.restaurant.IsMarked;
+import foodtrail.model.restaurant.Name;
+import foodtrail.model.restaurant.Phone;
+import foodtrail.model.restaurant.Rating;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.Tag;
+
+/**
+ * A class to access RestaurantDirectory data stored as a binary file on the hard disk.
+ * The file is much smaller and quicker to read and write than a json file, but cannot be edited by hand.
+ *
+ * <p>Version 2 of the format is laid out as below, where counts and numbers are unsigned varints of 7 bits per
+ * byte, least significant first, and strings are a count of bytes followed by their UTF-8 encoding.
+ * <ol>
+ *     <li>The bytes of {@link #MAGIC}, then the format version.</li>
+ *     <li>The number of distinct tags, then their names, so that each tag name is stored once.</li>
+ *     <li>The number of restaurants, then whether each restaurant is visited, packed 8 restaurants to a byte.</li>
+ *     <li>For each restaurant, its name, phone and address, its rating plus one (0 if it has no rating), its
+ *     number of tags, then the position of each of its tags among the tag names.</li>
+ *     <li>The offset in the file of each restaurant, then the offset of the first of these offsets, each as 4 bytes,
+ *     most significant first. The offsets are not read, but are still written so that files stay readable by
+ *     earlier versions of FoodTrail. Version 1 files do not have offsets.</li>
+ *     <li>The CRC32 of all the bytes before it, as 4 bytes, most significant first.</li>
+ * </ol>
+ */
+public class BinaryRestaurantDirectoryStorage extends FileRestaurantDirectoryStorage {
+
+    /** Bytes that start every binary restaurant directory file. The first byte cannot start a text file. */
+    static final byte[] MAGIC = {(byte) 0x89, 'F', 'T', 'D'};
+    static final int FORMAT_VERSION = 2;
+    private static final int FIRST_VERSION_WITH_OFFSETS = 2;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file is corrupted.";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Creates a {@code BinaryRestaurantDirectoryStorage} for the file at {@code filePath} that keeps no backups.
+     */
+    public BinaryRestaurantDirectoryStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryRestaurantDirectoryStorage} for the file at {@code filePath} that keeps the
+     * {@code backupCount} most recent versions of the file as backups.
+     */
+    public BinaryRestaurantDirectoryStorage(Path filePath, int backupCount) {
+        super(filePath, backupCount);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary restaurant directory file.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Reads the binary restaurant directory file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read, or is not a complete binary restaurant directory file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static RestaurantDirectory readRestaurants(Path filePath) throws IOException, IllegalValueException {
+        // No count in a valid file can be larger than the file, so larger counts are not allocated for.
+        long fileSize = Files.size(filePath);
+        CheckedInputStream checkedIn = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE), new CRC32());
+        try (DataInputStream in = new DataInputStream(checkedIn)) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            int version = readVarint(in);
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            Tag[] tags = new Tag[readCount(in, fileSize)];
+            for (int i = 0; i < tags.length; i++) {
+                String tagName = readString(in, fileSize);
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[i] = Tag.of(tagName);
+            }
+
+            int restaurantCount = readCount(in, fileSize);
+            byte[] visitedFlags = new byte[(restaurantCount + Byte.SIZE - 1) / Byte.SIZE];
+            in.readFully(visitedFlags);
+
+            RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
+            for (int i = 0; i < restaurantCount; i++) {
+                boolean isVisited = (visitedFlags[i / Byte.SIZE] & (1 << (i % Byte.SIZE))) != 0;
+                Restaurant restaurant = readRestaurant(in, fileSize, tags, isVisited);
+                if (restaurantDirectory.hasRestaurant(restaurant)) {
+                    throw new IllegalValueException(JsonSerializableRestaurantDirectory.MESSAGE_DUPLICATE_RESTAURANT);
+                }
+                restaurantDirectory.addRestaurant(restaurant);
+            }
+            if (version >= FIRST_VERSION_WITH_OFFSETS) {
+                // Offsets are not needed to read every restaurant in order.
+                skipFully(in, (restaurantCount + 1L) * Integer.BYTES);
+            }
+
+            int expectedChecksum = (int) checkedIn.getChecksum().getValue();
+            if (in.readInt() != expectedChecksum || in.read() != -1) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            return restaurantDirectory;
+        }
+    }
+
+    private static Restaurant readRestaurant(DataInput in, long fileSize, Tag[] tags, boolean isVisited)
+            throws IOException, IllegalValueException {
+        String name = readString(in, fileSize);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(in, fileSize);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String address = readString(in, fileSize);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int rating = readVarint(in);
+        final Optional<Rating> modelRating;
+        try {
+            modelRating = rating == 0 ? Optional.empty() : Optional.of(new Rating(rating - 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS, e);
+        }
+
+        int tagCount = readCount(in, fileSize);
+        Set<Tag> modelTags = new LinkedHashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagId = readVarint(in);
+            if (tagId < 0 || tagId >= tags.length) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            modelTags.add(tags[tagId]);
+        }
+
+        return new Restaurant(new Name(name), new Phone(phone), new Address(address), modelTags, modelRating,
+                new IsMarked(isVisited));
+    }
+
+    @Override
+    protected void writeRestaurants(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+            throws IOException {
+        List<Restaurant> restaurants = restaurantDirectory.getRestaurantList();
+        Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            for (Tag tag : restaurant.getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(Files.newOutputStream(filePath), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checkedOut, BUFFER_SIZE))) {
+            out.write(MAGIC);
+            writeVarint(out, FORMAT_VERSION);
+
+            writeVarint(out, tagIds.size());
+            for (Tag tag : tagIds.keySet()) {
+                writeString(out, tag.tagName);
+            }
+
+            writeVarint(out, restaurants.size());
+            byte[] visitedFlags = new byte[(restaurants.size() + Byte.SIZE - 1) / Byte.SIZE];
+            for (int i = 0; i < restaurants.size(); i++) {
+                if (restaurants.get(i).getIsMarked().isVisited()) {
+                    visitedFlags[i / Byte.SIZE] |= (byte) (1 << (i % Byte.SIZE));
+                }
+            }
+            out.write(visitedFlags);
+
+            int[] recordOffsets = new int[restaurants.size()];
+            for (int i = 0; i < restaurants.size(); i++) {
+                Restaurant restaurant = restaurants.get(i);
+                recordOffsets[i] = out.size();
+                writeString(out, restaurant.getName().fullName);
+                writeString(out, restaurant.getPhone().value);
+                writeString(out, restaurant.getAddress().value);
+                writeVarint(out, restaurant.getRating().map(rating -> rating.value + 1).orElse(0));
+                writeVarint(out, restaurant.getTags().size());
+                for (Tag tag : restaurant.getTags()) {
+                    writeVarint(out, tagIds.get(tag));
+                }
+            }
+
+            int recordOffsetsOffset = out.size();
+            for (int recordOffset : recordOffsets) {
+                out.writeInt(recordOffset);
+            }
+            out.writeInt(recordOffsetsOffset);
+
+            out.flush();
+            out.writeInt((int) checkedOut.getChecksum().getValue());
+        }
+    }
+
+    private static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED_FILE);
+    }
+
+    private static int readCount(DataInput in, long fileSize) throws IOException {
+        int count = readVarint(in);
+        if (count < 0 || count > fileSize) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static void skipFully(DataInput in, long count) throws IOException {
+        byte[] skipped = new byte[BUFFER_SIZE];
+        for (long remaining = count; remaining > 0; remaining -= skipped.length) {
+            in.readFully(skipped, 0, (int) Math.min(remaining, skipped.length));
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in, long fileSize) throws IOException {
+        byte[] bytes = new byte[readCount(in, fileSize)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,156 @@
+package foodtrail.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, as described by RFC 4180: fields are separated by commas, and a
+ * field enclosed in double quotes may contain commas, line breaks and double quotes written twice.
+ * Blank lines and a leading byte order mark are skipped.
+ */
+class CsvRecordReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Line %d: A quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Line %d: A quoted field is followed by more text.";
+
+    private static final int END = -1;
+    private static final int NONE = -2;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position = 0;
+    private int limit = 0;
+    private int pushedBack = NONE;
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+    private boolean isStarted = false;
+
+    /**
+     * Creates a {@code CsvRecordReader} that reads from {@code reader}.
+     */
+    CsvRecordReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the file could not be read or is not valid CSV.
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (!isStarted) {
+            isStarted = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == END) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"') {
+                c = readQuotedField(field);
+                if (c != ',' && c != '\r' && c != '\n' && c != END) {
+                    throw new IOException(String.format(MESSAGE_TEXT_AFTER_QUOTE, lineNumber));
+                }
+            } else {
+                while (c != ',' && c != '\r' && c != '\n' && c != END) {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+
+            if (c != ',') {
+                skipLineBreak(c);
+                return fields;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line of the file on which the record last read starts.
+     */
+    int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the rest of a quoted field, whose opening quote has been read, into {@code field}.
+     * Returns the character after the closing quote.
+     */
+    private int readQuotedField(StringBuilder field) throws IOException {
+        int quoteLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            if (c == END) {
+                throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, quoteLineNumber));
+            }
+            if (c == '"') {
+                int afterQuote = read();
+                if (afterQuote != '"') {
+                    return afterQuote;
+                }
+            } else if (c == '\n') {
+                lineNumber++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Skips the line break that starts with {@code c}, which may also be the end of the file.
+     */
+    private void skipLineBreak(int c) throws IOException {
+        if (c == END) {
+            return;
+        }
+        if (c == '\r') {
+            int afterReturn = read();
+            if (afterReturn != '\n') {
+                pushedBack = afterReturn;
+            }
+        }
+        lineNumber++;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
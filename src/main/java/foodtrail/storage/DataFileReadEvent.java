@@ -0,0 +1,43 @@
+package foodtrail.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a data file read by a {@code FileRestaurantDirectoryStorage}.
+ * It is only recorded while a recording that enables it is running.
+ */
+@Name("foodtrail.DataFileRead")
+@Label("Data File Read")
+@Category({"FoodTrail", "Storage"})
+@Description("A restaurant directory data file read")
+@StackTrace(false)
+class DataFileReadEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long byteCount;
+
+    @Label("Restaurants Read")
+    private int restaurantCount;
+
+    void setPath(String path) {
+        this.path = path;
+    }
+
+    void setByteCount(long byteCount) {
+        this.byteCount = byteCount;
+    }
+
+    void setRestaurantCount(int restaurantCount) {
+        this.restaurantCount = restaurantCount;
+    }
+}
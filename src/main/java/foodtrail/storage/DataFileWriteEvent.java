@@ -0,0 +1,43 @@
+package foodtrail.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a data file written by a {@code FileRestaurantDirectoryStorage}.
+ * It is only recorded while a recording that enables it is running.
+ */
+@Name("foodtrail.DataFileWrite")
+@Label("Data File Write")
+@Category({"FoodTrail", "Storage"})
+@Description("A restaurant directory data file written in full")
+@StackTrace(false)
+class DataFileWriteEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long byteCount;
+
+    @Label("Restaurants Written")
+    private int restaurantCount;
+
+    void setPath(String path) {
+        this.path = path;
+    }
+
+    void setByteCount(long byteCount) {
+        this.byteCount = byteCount;
+    }
+
+    void setRestaurantCount(int restaurantCount) {
+        this.restaurantCount = restaurantCount;
+    }
+}
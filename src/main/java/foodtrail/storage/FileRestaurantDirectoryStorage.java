@@ -0,0 +1,190 @@
+package foodtrail.storage;
+
+import static foodtrail.commons.util.AppUtil.checkArgument;
+import static foodtrail.model.UserPrefs.MESSAGE_INVALID_BACKUP_COUNT;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.commons.util.FileUtil;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
+
+/**
+ * A class to access RestaurantDirectory data stored as a file on the hard disk.
+ * Files are read in whichever format they were saved in, so that the format files are saved in can be changed.
+ * Saves replace the file atomically, and the previous versions of the file can be kept as backups.
+ * Every read and save is recorded as an event while Java Flight Recorder is recording.
+ */
+public abstract class FileRestaurantDirectoryStorage implements RestaurantDirectoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileRestaurantDirectoryStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+
+    /**
+     * Creates a {@code FileRestaurantDirectoryStorage} for the file at {@code filePath} that keeps the
+     * {@code backupCount} most recent versions of the file as backups.
+     */
+    protected FileRestaurantDirectoryStorage(Path filePath, int backupCount) {
+        checkArgument(backupCount >= 0, MESSAGE_INVALID_BACKUP_COUNT);
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    public Path getRestaurantDirectoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getRestaurantDirectoryBackupFilePaths() {
+        return getBackupFilePaths(filePath);
+    }
+
+    private List<Path> getBackupFilePaths(Path filePath) {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int i = 1; i <= backupCount; i++) {
+            backupFilePaths.add(filePath.resolveSibling(filePath.getFileName() + ".bak" + i));
+        }
+        return backupFilePaths;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory() throws DataLoadingException {
+        return readRestaurantDirectory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRestaurantDirectory()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        DataFileReadEvent event = new DataFileReadEvent();
+        event.begin();
+        try {
+            RestaurantDirectory restaurantDirectory = BinaryRestaurantDirectoryStorage.isBinaryFile(filePath)
+                    ? BinaryRestaurantDirectoryStorage.readRestaurants(filePath)
+                    : JsonRestaurantDirectoryStorage.readRestaurants(filePath);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPath(filePath.toString());
+                readSizeQuietly(filePath, event::setByteCount);
+                event.setRestaurantCount(restaurantDirectory.getRestaurantList().size());
+                event.commit();
+            }
+            return Optional.of(restaurantDirectory);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory) throws IOException {
+        saveRestaurantDirectory(restaurantDirectory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRestaurantDirectory(ReadOnlyRestaurantDirectory)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+            throws IOException {
+        requireNonNull(restaurantDirectory);
+        requireNonNull(filePath);
+
+        rotateBackups(filePath);
+        DataFileWriteEvent event = new DataFileWriteEvent();
+        event.begin();
+        FileUtil.writeAtomically(filePath, tempFile -> writeRestaurants(restaurantDirectory, tempFile));
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPath(filePath.toString());
+            readSizeQuietly(filePath, event::setByteCount);
+            event.setRestaurantCount(restaurantDirectory.getRestaurantList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes {@code restaurantDirectory} to the new file at {@code filePath} in the format of this storage.
+     */
+    protected abstract void writeRestaurants(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+            throws IOException;
+
+    @Override
+    public boolean isRestaurantDirectoryJournaled() {
+        return false;
+    }
+
+    @Override
+    public void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes) {
+        throw new UnsupportedOperationException("Restaurant directory files do not have a journal.");
+    }
+
+    /**
+     * Shifts every backup of the file at {@code filePath} one place older, dropping the oldest, and makes the
+     * current file the newest backup.
+     * The current file is hard-linked where possible, so that it is never copied nor missing.
+     */
+    private void rotateBackups(Path filePath) throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+
+        List<Path> backupFilePaths = getBackupFilePaths(filePath);
+        for (int i = backupFilePaths.size() - 1; i > 0; i--) {
+            if (Files.exists(backupFilePaths.get(i - 1))) {
+                Files.move(backupFilePaths.get(i - 1), backupFilePaths.get(i), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackupFilePath = backupFilePaths.get(0);
+        Files.deleteIfExists(newestBackupFilePath);
+        try {
+            Files.createLink(newestBackupFilePath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.fine("Could not link backup " + newestBackupFilePath + ", copying instead: " + e);
+            Files.copy(filePath, newestBackupFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+
+    /**
+     * Passes the size of the file at {@code filePath} to {@code sizeConsumer}, unless it cannot be read, as the size
+     * is only recorded in an event and must not fail the read or save the event describes.
+     */
+    private static void readSizeQuietly(Path filePath, LongConsumer sizeConsumer) {
+        try {
+            sizeConsumer.accept(Files.size(filePath));
+        } catch (IOException e) {
+            logger.fine("Could not read the size of data file " + filePath + ": " + e);
+        }
+    }
+
+}
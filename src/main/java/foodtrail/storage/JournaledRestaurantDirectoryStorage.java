@@ -0,0 +1,332 @@
+package foodtrail.storage;
+
+import static foodtrail.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import foodtrail.commons.core.LogsCenter;
+import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.commons.util.FileUtil;
+import foodtrail.commons.util.JsonUtil;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.exceptions.DuplicateRestaurantException;
+
+/**
+ * A class to access RestaurantDirectory data stored as a snapshot file, together with a journal of the changes made
+ * since the snapshot was saved.
+ * Changes are appended to the journal, so that saving them takes time proportional to the changes rather than to
+ * the whole restaurant directory. Once the journal grows past a threshold, it is folded into a new snapshot.
+ * <p>
+ * The journal is kept next to the snapshot file, with one change per line. Its first line records the checksum of
+ * the snapshot it applies to, so that a journal that has already been folded into the snapshot, or that belongs to
+ * an older snapshot, is never replayed.
+ */
+public class JournaledRestaurantDirectoryStorage implements RestaurantDirectoryStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    public static final String MESSAGE_INVALID_COMPACTION_THRESHOLD = "Compaction threshold cannot be negative.";
+    public static final String MESSAGE_INVALID_HEADER = "Journal does not start with a valid header.";
+    public static final String MESSAGE_INVALID_LINE = "Journal line %d is not a valid change.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledRestaurantDirectoryStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final RestaurantDirectoryStorage snapshotStorage;
+    private final long compactionThresholdBytes;
+
+    /**
+     * Creates a {@code JournaledRestaurantDirectoryStorage} that saves snapshots with {@code snapshotStorage}, and
+     * compacts its journal once it is larger than {@link #DEFAULT_COMPACTION_THRESHOLD_BYTES}.
+     */
+    public JournaledRestaurantDirectoryStorage(RestaurantDirectoryStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournaledRestaurantDirectoryStorage} that saves snapshots with {@code snapshotStorage}, and
+     * compacts its journal once it is larger than {@code compactionThresholdBytes}.
+     */
+    public JournaledRestaurantDirectoryStorage(RestaurantDirectoryStorage snapshotStorage,
+            long compactionThresholdBytes) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThresholdBytes >= 0, MESSAGE_INVALID_COMPACTION_THRESHOLD);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    @Override
+    public Path getRestaurantDirectoryFilePath() {
+        return snapshotStorage.getRestaurantDirectoryFilePath();
+    }
+
+    @Override
+    public List<Path> getRestaurantDirectoryBackupFilePaths() {
+        return snapshotStorage.getRestaurantDirectoryBackupFilePaths();
+    }
+
+    /**
+     * Returns the file path of the journal of the data file.
+     */
+    public Path getJournalFilePath() {
+        return getJournalFilePath(getRestaurantDirectoryFilePath());
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public boolean isRestaurantDirectoryJournaled() {
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory() throws DataLoadingException {
+        return readRestaurantDirectory(getRestaurantDirectoryFilePath());
+    }
+
+    /**
+     * Similar to {@link #readRestaurantDirectory()}.
+     * The journal of the file at {@code filePath}, if any, is replayed over it.
+     * A journal whose last change was cut short is truncated after the last complete change, and a journal that
+     * does not apply to the file is discarded, so that further changes can be appended to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyRestaurantDirectory> snapshot = snapshotStorage.readRestaurantDirectory(filePath);
+        if (!Files.exists(getJournalFilePath(filePath))) {
+            return snapshot;
+        }
+
+        try {
+            List<RestaurantDirectoryChange> changes = readJournal(filePath);
+            if (changes.isEmpty()) {
+                return snapshot;
+            }
+
+            List<Restaurant> restaurants = new ArrayList<>();
+            if (snapshot.isPresent()) {
+                restaurants.addAll(snapshot.get().getRestaurantList());
+            }
+            for (RestaurantDirectoryChange change : changes) {
+                change.applyTo(restaurants);
+            }
+            RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
+            restaurantDirectory.setRestaurants(restaurants);
+            return Optional.of(restaurantDirectory);
+        } catch (IOException | IllegalValueException | DuplicateRestaurantException e) {
+            logger.warning("Error replaying journal of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the changes in the journal of the file at {@code filePath}.
+     * Repairs the journal as described in {@link #readRestaurantDirectory(Path)}.
+     */
+    private List<RestaurantDirectoryChange> readJournal(Path filePath) throws IOException, IllegalValueException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        long journalSize = Files.size(journalFilePath);
+        List<RestaurantDirectoryChange> changes = new ArrayList<>();
+        long validLength;
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !isJournalOf(header, filePath)) {
+                logger.warning("Discarding journal " + journalFilePath + " as it does not apply to " + filePath);
+                resetJournal(filePath);
+                return changes;
+            }
+            validLength = getLength(header) + 1;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long lineEnd = validLength + getLength(line);
+                boolean isLastLine = lineEnd + 1 >= journalSize;
+                if (lineEnd == journalSize) {
+                    // Not followed by a line break, so it was cut short
+                    break;
+                }
+                try {
+                    changes.add(JsonUtil.fromJsonString(line, JsonAdaptedRestaurantDirectoryChange.class)
+                            .toModelType());
+                } catch (JsonProcessingException e) {
+                    if (isLastLine) {
+                        break;
+                    }
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, changes.size() + 2), e);
+                }
+                validLength = lineEnd + 1;
+            }
+        }
+
+        if (validLength < journalSize) {
+            logger.warning("Truncating incomplete change at the end of journal " + journalFilePath);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isJournalOf(String header, Path filePath) throws IOException, IllegalValueException {
+        JsonJournalHeader journalHeader;
+        try {
+            journalHeader = JsonUtil.fromJsonString(header, JsonJournalHeader.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER, e);
+        }
+        if (journalHeader.snapshotChecksum == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER);
+        }
+        return journalHeader.snapshotChecksum == getChecksum(filePath);
+    }
+
+    private static long getLength(String line) {
+        return line.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the content of the file at {@code filePath}, or 0 if there is no such file.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Replaces the journal of the file at {@code filePath} with an empty journal that applies to the file.
+     */
+    private static void resetJournal(Path filePath) throws IOException {
+        String header = JsonUtil.toJsonLine(new JsonJournalHeader(getChecksum(filePath)));
+        FileUtil.writeToFile(getJournalFilePath(filePath), header + "\n");
+    }
+
+    @Override
+    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory) throws IOException {
+        saveRestaurantDirectory(restaurantDirectory, getRestaurantDirectoryFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveRestaurantDirectory(ReadOnlyRestaurantDirectory)}.
+     * The journal of the file at {@code filePath} is emptied, as the file now holds all of its changes.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+            throws IOException {
+        requireNonNull(restaurantDirectory);
+        requireNonNull(filePath);
+
+        snapshotStorage.saveRestaurantDirectory(restaurantDirectory, filePath);
+        resetJournal(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The journal is compacted once it is larger than the compaction threshold of this storage.
+     */
+    @Override
+    public void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Path filePath = getRestaurantDirectoryFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            resetJournal(filePath);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (RestaurantDirectoryChange change : changes) {
+            lines.append(JsonUtil.toJsonLine(new JsonAdaptedRestaurantDirectoryChange(change))).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        long journalSize;
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            journalSize = channel.size();
+        }
+
+        if (journalSize > compactionThresholdBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot, leaving the journal empty.
+     * The snapshot is rebuilt from the files alone, so this takes time proportional to the whole restaurant
+     * directory.
+     *
+     * @throws IOException if the current data cannot be read or the new snapshot cannot be written.
+     */
+    public void compact() throws IOException {
+        logger.info("Compacting journal " + getJournalFilePath());
+        ReadOnlyRestaurantDirectory restaurantDirectory;
+        try {
+            restaurantDirectory = readRestaurantDirectory().orElseGet(RestaurantDirectory::new);
+        } catch (DataLoadingException e) {
+            throw new IOException("Could not read the data to compact: " + e.getMessage(), e);
+        }
+        saveRestaurantDirectory(restaurantDirectory);
+    }
+
+    /**
+     * Jackson-friendly header of a journal, identifying the snapshot that the journal applies to.
+     */
+    private static class JsonJournalHeader {
+        private final Long snapshotChecksum;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package foodtrail.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.model.restaurant.Restaurant;
+
+/**
+ * Jackson-friendly version of {@link RestaurantDirectoryChange}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedRestaurantDirectoryChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+
+    private final Integer index;
+    private final Integer removed;
+    private final List<JsonAdaptedRestaurant> added;
+    private final int[] moves;
+
+    /**
+     * Constructs a {@code JsonAdaptedRestaurantDirectoryChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedRestaurantDirectoryChange(@JsonProperty("index") Integer index,
+            @JsonProperty("removed") Integer removed, @JsonProperty("added") List<JsonAdaptedRestaurant> added,
+            @JsonProperty("moves") int[] moves) {
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+        this.moves = moves;
+    }
+
+    /**
+     * Converts a given {@code RestaurantDirectoryChange} into this class for Jackson use.
+     */
+    public JsonAdaptedRestaurantDirectoryChange(RestaurantDirectoryChange source) {
+        if (source.isMove()) {
+            index = null;
+            removed = null;
+            added = null;
+            moves = source.getMoves();
+        } else {
+            index = source.getIndex();
+            removed = source.getRemovedCount();
+            added = source.getAdded().stream().map(JsonAdaptedRestaurant::new).collect(Collectors.toList());
+            moves = null;
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into a {@code RestaurantDirectoryChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public RestaurantDirectoryChange toModelType() throws IllegalValueException {
+        if (moves != null) {
+            return RestaurantDirectoryChange.move(moves);
+        }
+
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (removed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "removed"));
+        }
+        final List<Restaurant> modelAdded = new ArrayList<>();
+        if (added != null) {
+            for (JsonAdaptedRestaurant restaurant : added) {
+                modelAdded.add(restaurant.toModelType());
+            }
+        }
+        return RestaurantDirectoryChange.replace(index, removed, modelAdded);
+    }
+
+}
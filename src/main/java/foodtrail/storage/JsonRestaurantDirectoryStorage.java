@@ -1,81 +1,125 @@
 package foodtrail.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
-import foodtrail.commons.core.LogsCenter;
-import foodtrail.commons.exceptions.DataLoadingException;
 import foodtrail.commons.exceptions.IllegalValueException;
-import foodtrail.commons.util.FileUtil;
 import foodtrail.commons.util.JsonUtil;
 import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Restaurant;
 
 /**
  * A class to access RestaurantDirectory data stored as a json file on the hard disk.
+ * The file is read and written one restaurant at a time, so that the whole file is never held in memory.
  */
-public class JsonRestaurantDirectoryStorage implements RestaurantDirectoryStorage {
+public class JsonRestaurantDirectoryStorage extends FileRestaurantDirectoryStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonRestaurantDirectoryStorage.class);
-
-    private Path filePath;
+    private static final String RESTAURANTS_FIELD = "restaurants";
 
+    /**
+     * Creates a {@code JsonRestaurantDirectoryStorage} for the file at {@code filePath} that keeps no backups.
+     */
     public JsonRestaurantDirectoryStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getRestaurantDirectoryFilePath() {
-        return filePath;
+        this(filePath, 0);
     }
 
-    @Override
-    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory() throws DataLoadingException {
-        return readRestaurantDirectory(filePath);
+    /**
+     * Creates a {@code JsonRestaurantDirectoryStorage} for the file at {@code filePath} that keeps the
+     * {@code backupCount} most recent versions of the file as backups.
+     */
+    public JsonRestaurantDirectoryStorage(Path filePath, int backupCount) {
+        super(filePath, backupCount);
     }
 
     /**
-     * Similar to {@link #readRestaurantDirectory()}.
+     * Reads the json restaurant directory file at {@code filePath}.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws IOException if the file could not be read or is not a JSON restaurant directory.
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableRestaurantDirectory> jsonRestaurantDirectory = JsonUtil.readJsonFile(
-                filePath, JsonSerializableRestaurantDirectory.class);
-        if (!jsonRestaurantDirectory.isPresent()) {
-            return Optional.empty();
+    static RestaurantDirectory readRestaurants(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return readRestaurants(parser);
         }
+    }
 
-        try {
-            return Optional.of(jsonRestaurantDirectory.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+    /**
+     * Reads a restaurant directory from {@code parser}, converting restaurants in batches as they are read.
+     *
+     * @throws IOException if the content is not a JSON restaurant directory.
+     * @throws IllegalValueException if there were any data constraints violated, with the position of every
+     *     restaurant that violates them.
+     */
+    private static RestaurantDirectory readRestaurants(JsonParser parser) throws IOException, IllegalValueException {
+        RestaurantDirectoryConverter converter = new RestaurantDirectoryConverter();
+        forEachRestaurant(parser, converter::add);
+        return converter.toModelType();
     }
 
-    @Override
-    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory) throws IOException {
-        saveRestaurantDirectory(restaurantDirectory, filePath);
+    /**
+     * Reads the restaurants of the json restaurant directory file at {@code filePath} one at a time, passing each
+     * to {@code action} without validating it.
+     *
+     * @throws IOException if the file could not be read or is not a JSON restaurant directory.
+     */
+    static void forEachRestaurant(Path filePath, Consumer<JsonAdaptedRestaurant> action) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            forEachRestaurant(parser, action);
+        }
     }
 
     /**
-     * Similar to {@link #saveRestaurantDirectory(ReadOnlyRestaurantDirectory)}.
+     * Reads the restaurants of a restaurant directory from {@code parser} one at a time, passing each to
+     * {@code action}. Fields other than the restaurants are skipped.
      *
-     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if the content is not a JSON restaurant directory.
      */
-    public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+    private static void forEachRestaurant(JsonParser parser, Consumer<JsonAdaptedRestaurant> action)
             throws IOException {
-        requireNonNull(restaurantDirectory);
-        requireNonNull(filePath);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a restaurant directory object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!RESTAURANTS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of restaurants");
+            }
+
+            JsonToken elementToken;
+            while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (elementToken != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a restaurant object");
+                }
+                action.accept(JsonUtil.readValue(parser, JsonAdaptedRestaurant.class));
+            }
+        }
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableRestaurantDirectory(restaurantDirectory), filePath);
+    @Override
+    protected void writeRestaurants(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(RESTAURANTS_FIELD);
+            for (Restaurant restaurant : restaurantDirectory.getRestaurantList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedRestaurant(restaurant));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
 }
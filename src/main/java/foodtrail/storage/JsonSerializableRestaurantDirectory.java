@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import foodtrail.commons.exceptions.IllegalValueException;
 import foodtrail.model.ReadOnlyRestaurantDirectory;
 import foodtrail.model.RestaurantDirectory;
-import foodtrail.model.restaurant.Restaurant;
 
 /**
  * An Immutable RestaurantDirectory that is serializable to JSON format.
@@ -44,18 +43,13 @@ class JsonSerializableRestaurantDirectory {
     /**
      * Converts this restaurant directory into the model's {@code RestaurantDirectory} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, with the position of every
+     *     restaurant that violates them.
      */
     public RestaurantDirectory toModelType() throws IllegalValueException {
-        RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
-        for (JsonAdaptedRestaurant jsonAdaptedRestaurant : restaurants) {
-            Restaurant restaurant = jsonAdaptedRestaurant.toModelType();
-            if (restaurantDirectory.hasRestaurant(restaurant)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RESTAURANT);
-            }
-            restaurantDirectory.addRestaurant(restaurant);
-        }
-        return restaurantDirectory;
+        RestaurantDirectoryConverter converter = new RestaurantDirectoryConverter();
+        restaurants.forEach(converter::add);
+        return converter.toModelType();
     }
 
 }
@@ -0,0 +1,204 @@
+package foodtrail.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.commons.util.ToStringBuilder;
+import foodtrail.model.restaurant.Restaurant;
+import javafx.collections.ListChangeListener;
+
+/**
+ * A change to the list of restaurants of a restaurant directory, in a form that can be saved to a journal and
+ * replayed later.
+ * A change either replaces a range of restaurants with other restaurants, or moves restaurants within the list.
+ * Guarantees: immutable.
+ */
+public class RestaurantDirectoryChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Change %s does not fit a list of %d restaurants.";
+
+    private final int index;
+    private final int removedCount;
+    private final List<Restaurant> added;
+
+    // Flattened (from, to, length) triples, each moving length restaurants starting at from to start at to.
+    // Null if this change replaces restaurants.
+    private final int[] moves;
+
+    private RestaurantDirectoryChange(int index, int removedCount, List<Restaurant> added, int[] moves) {
+        this.index = index;
+        this.removedCount = removedCount;
+        this.added = added;
+        this.moves = moves;
+    }
+
+    /**
+     * Returns a change that removes {@code removedCount} restaurants starting at {@code index}, then inserts
+     * {@code added} at {@code index}.
+     */
+    public static RestaurantDirectoryChange replace(int index, int removedCount, List<? extends Restaurant> added) {
+        requireNonNull(added);
+        return new RestaurantDirectoryChange(index, removedCount, List.copyOf(added), null);
+    }
+
+    /**
+     * Returns a change that moves restaurants within the list.
+     *
+     * @param moves flattened (from, to, length) triples, each moving the {@code length} restaurants starting at
+     *     {@code from} to start at {@code to}. Restaurants that are not moved keep their positions.
+     */
+    public static RestaurantDirectoryChange move(int[] moves) {
+        requireNonNull(moves);
+        return new RestaurantDirectoryChange(0, 0, List.of(), moves.clone());
+    }
+
+    /**
+     * Returns the changes that together have the same effect as {@code change} on the list it was fired by.
+     * Updates of restaurants in place are ignored, as restaurants are immutable.
+     */
+    public static List<RestaurantDirectoryChange> listOf(ListChangeListener.Change<? extends Restaurant> change) {
+        requireNonNull(change);
+        List<RestaurantDirectoryChange> changes = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                changes.add(fromPermutation(change));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                changes.add(replace(change.getFrom(), change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Encodes the permutation of {@code change} as runs of consecutive restaurants that keep their order,
+     * so that moving a single restaurant takes a few runs rather than one entry per restaurant.
+     */
+    private static RestaurantDirectoryChange fromPermutation(ListChangeListener.Change<? extends Restaurant> change) {
+        List<Integer> moves = new ArrayList<>();
+        int runStart = change.getFrom();
+        while (runStart < change.getTo()) {
+            int runEnd = runStart + 1;
+            while (runEnd < change.getTo()
+                    && change.getPermutation(runEnd) == change.getPermutation(runEnd - 1) + 1) {
+                runEnd++;
+            }
+            if (change.getPermutation(runStart) != runStart) {
+                moves.add(runStart);
+                moves.add(change.getPermutation(runStart));
+                moves.add(runEnd - runStart);
+            }
+            runStart = runEnd;
+        }
+        return move(moves.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public boolean isMove() {
+        return moves != null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Returns an immutable list of the restaurants inserted by this change.
+     */
+    public List<Restaurant> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the flattened (from, to, length) triples of the restaurants moved by this change, or an empty array
+     * if this change replaces restaurants.
+     */
+    public int[] getMoves() {
+        return moves == null ? new int[0] : moves.clone();
+    }
+
+    /**
+     * Applies this change to {@code restaurants}.
+     *
+     * @throws IllegalValueException if this change refers to positions outside of {@code restaurants}.
+     */
+    public void applyTo(List<Restaurant> restaurants) throws IllegalValueException {
+        requireNonNull(restaurants);
+        if (isMove()) {
+            applyMovesTo(restaurants);
+            return;
+        }
+
+        if (index < 0 || removedCount < 0 || index + removedCount > restaurants.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, this, restaurants.size()));
+        }
+        List<Restaurant> removed = restaurants.subList(index, index + removedCount);
+        removed.clear();
+        removed.addAll(added);
+    }
+
+    private void applyMovesTo(List<Restaurant> restaurants) throws IllegalValueException {
+        if (moves.length % 3 != 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, this, restaurants.size()));
+        }
+        for (int i = 0; i < moves.length; i += 3) {
+            int from = moves[i];
+            int to = moves[i + 1];
+            int length = moves[i + 2];
+            if (from < 0 || to < 0 || length < 0
+                    || from + length > restaurants.size() || to + length > restaurants.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, this, restaurants.size()));
+            }
+        }
+
+        List<Restaurant> original = new ArrayList<>(restaurants);
+        for (int i = 0; i < moves.length; i += 3) {
+            for (int j = 0; j < moves[i + 2]; j++) {
+                restaurants.set(moves[i + 1] + j, original.get(moves[i] + j));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestaurantDirectoryChange)) {
+            return false;
+        }
+
+        RestaurantDirectoryChange otherChange = (RestaurantDirectoryChange) other;
+        return index == otherChange.index
+                && removedCount == otherChange.removedCount
+                && added.equals(otherChange.added)
+                && Arrays.equals(moves, otherChange.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removedCount, added, Arrays.hashCode(moves));
+    }
+
+    @Override
+    public String toString() {
+        if (isMove()) {
+            return new ToStringBuilder(this).add("moves", Arrays.toString(moves)).toString();
+        }
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("removedCount", removedCount)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -0,0 +1,147 @@
+package foodtrail.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Restaurant;
+
+/**
+ * Converts json restaurants into the model's {@code RestaurantDirectory}, validating them on every core.
+ * Restaurants are converted in batches as they are added, so that a file can be converted while it is still being
+ * read. Every invalid or duplicate restaurant is reported with its position, rather than only the first.
+ */
+class RestaurantDirectoryConverter {
+
+    public static final String MESSAGE_INVALID_RESTAURANT = "Restaurant %d: %s";
+
+    /** Number of restaurants held before they are converted. */
+    static final int BATCH_SIZE = 4096;
+
+    /** Number of restaurants below which a batch is converted by one thread rather than split further. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
+    private final List<JsonAdaptedRestaurant> batch = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int batchPosition = 1;
+
+    /**
+     * Adds {@code restaurant} to be converted after those added before it.
+     */
+    void add(JsonAdaptedRestaurant restaurant) {
+        batch.add(restaurant);
+        if (batch.size() == BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Returns the restaurant directory of every restaurant added.
+     *
+     * @throws IllegalValueException if any restaurant violates data constraints or is a duplicate, with one line
+     *     of the message for each such restaurant.
+     */
+    RestaurantDirectory toModelType() throws IllegalValueException {
+        convertBatch();
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return restaurantDirectory;
+    }
+
+    /**
+     * Converts the batch in parallel, then adds its restaurants in order, so that the first of any duplicates is
+     * the one kept.
+     */
+    private void convertBatch() {
+        Restaurant[] restaurants = new Restaurant[batch.size()];
+        String[] batchErrors = new String[batch.size()];
+        convertInParallel(batch, restaurants, batchErrors, restaurant -> false, null);
+
+        for (int i = 0; i < restaurants.length; i++) {
+            if (batchErrors[i] != null) {
+                errors.add(String.format(MESSAGE_INVALID_RESTAURANT, batchPosition + i, batchErrors[i]));
+            } else if (restaurantDirectory.hasRestaurant(restaurants[i])) {
+                errors.add(String.format(MESSAGE_INVALID_RESTAURANT, batchPosition + i,
+                        JsonSerializableRestaurantDirectory.MESSAGE_DUPLICATE_RESTAURANT));
+            } else {
+                restaurantDirectory.addRestaurant(restaurants[i]);
+            }
+        }
+        batchPosition += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * Converts each restaurant in {@code batch} into the same position of {@code restaurants} on every core, or puts
+     * the reason it could not be converted into the same position of {@code errors}.
+     * Positions that already have a reason are skipped. A converted restaurant that satisfies {@code isRejected} is
+     * given the reason {@code rejectedMessage} instead, so {@code isRejected} must be safe to call from several
+     * threads.
+     */
+    static void convertInParallel(List<JsonAdaptedRestaurant> batch, Restaurant[] restaurants, String[] errors,
+            Predicate<Restaurant> isRejected, String rejectedMessage) {
+        ConvertTask task = new ConvertTask(batch, restaurants, errors, isRejected, rejectedMessage, 0, batch.size());
+        if (batch.size() <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    /**
+     * Converts the restaurants from {@code from} to {@code to} in a batch, splitting the range in half until it is
+     * small enough. Each restaurant is converted into its own slot, so that no slot is written by two threads.
+     */
+    private static class ConvertTask extends RecursiveAction {
+        private final List<JsonAdaptedRestaurant> batch;
+        private final Restaurant[] restaurants;
+        private final String[] errors;
+        private final Predicate<Restaurant> isRejected;
+        private final String rejectedMessage;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<JsonAdaptedRestaurant> batch, Restaurant[] restaurants, String[] errors,
+                Predicate<Restaurant> isRejected, String rejectedMessage, int from, int to) {
+            this.batch = batch;
+            this.restaurants = restaurants;
+            this.errors = errors;
+            this.isRejected = isRejected;
+            this.rejectedMessage = rejectedMessage;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertTask(batch, restaurants, errors, isRejected, rejectedMessage, from, middle),
+                        new ConvertTask(batch, restaurants, errors, isRejected, rejectedMessage, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (errors[i] != null) {
+                    continue;
+                }
+                try {
+                    Restaurant restaurant = batch.get(i).toModelType();
+                    if (isRejected.test(restaurant)) {
+                        errors[i] = rejectedMessage;
+                    } else {
+                        restaurants[i] = restaurant;
+                    }
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package foodtrail.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import foodtrail.commons.exceptions.DataLoadingException;
@@ -18,6 +19,12 @@ public interface RestaurantDirectoryStorage {
      */
     Path getRestaurantDirectoryFilePath();
 
+    /**
+     * Returns the file paths of the backups of the data file, newest first.
+     * The backups need not exist.
+     */
+    List<Path> getRestaurantDirectoryBackupFilePaths();
+
     /**
      * Returns RestaurantDirectory data as a {@link ReadOnlyRestaurantDirectory}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -43,4 +50,18 @@ public interface RestaurantDirectoryStorage {
      */
     void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath) throws IOException;
 
+    /**
+     * Returns true if changes can be saved with {@link #appendRestaurantDirectoryChanges(List)}.
+     */
+    boolean isRestaurantDirectoryJournaled();
+
+    /**
+     * Saves the given changes, made to the restaurant directory last read from or saved to the storage after any
+     * changes saved before them.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws UnsupportedOperationException if the storage is not journaled.
+     */
+    void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes) throws IOException;
+
 }
@@ -0,0 +1,269 @@
+package foodtrail.storage;
+
+import static foodtrail.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import foodtrail.commons.util.FileUtil;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Rating;
+import foodtrail.model.restaurant.Restaurant;
+
+/**
+ * Imports restaurants from a CSV file, or from a JSON file in the format of the restaurant directory data file.
+ * Rows are read one at a time and validated in batches on every core while the rest of the file is read, so the
+ * file is never held in memory. Unlike loading the data file, a row that is invalid or repeats a restaurant that is
+ * already known is skipped and reported, rather than failing the whole import.
+ *
+ * A CSV file must start with a header naming its columns, in any order. The {@code name}, {@code phone} and
+ * {@code address} columns are required, while the {@code tags} (separated by {@code ;}), {@code rating} and
+ * {@code visited} columns are optional. Other columns are ignored.
+ */
+public class RestaurantImporter {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only .csv and .json files can be imported.";
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV file has no %s column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_INVALID_VISITED = "Visited should be true, false or left empty.";
+    public static final String MESSAGE_EXISTING_RESTAURANT = "This restaurant is already in the restaurant directory.";
+    public static final String MESSAGE_REPEATED_RESTAURANT = "This restaurant is the same as an earlier one.";
+    public static final String MESSAGE_INVALID_CSV_ROW = "Line %d: %s";
+    public static final String MESSAGE_INVALID_JSON_ROW = RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT;
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_RATING = "rating";
+    public static final String COLUMN_VISITED = "visited";
+    public static final String TAG_SEPARATOR = ";";
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String JSON_EXTENSION = ".json";
+    private static final int NO_COLUMN = -1;
+
+    private final Predicate<Restaurant> isExisting;
+    private final IntConsumer progressListener;
+    private final String rowMessageFormat;
+    private final RestaurantDirectory imported = new RestaurantDirectory();
+    private final List<String> rejectedRows = new ArrayList<>();
+
+    private final List<JsonAdaptedRestaurant> batch = new ArrayList<>();
+    private final List<String> batchErrors = new ArrayList<>();
+    private final List<Integer> batchRowNumbers = new ArrayList<>();
+    private int rowCount = 0;
+
+    private RestaurantImporter(Predicate<Restaurant> isExisting, IntConsumer progressListener,
+            String rowMessageFormat) {
+        this.isExisting = isExisting;
+        this.progressListener = progressListener;
+        this.rowMessageFormat = rowMessageFormat;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file that can be imported, judging by its extension.
+     */
+    public static boolean isSupportedFile(Path filePath) {
+        return isCsvFile(filePath) || isJsonFile(filePath);
+    }
+
+    /**
+     * Reads the restaurants in the file at {@code filePath}, skipping those that are invalid, those that satisfy
+     * {@code isExisting} and those that repeat an earlier restaurant in the file.
+     * {@code isExisting} is called from several threads at once. {@code progressListener} is given the number of
+     * rows read so far after every batch of rows.
+     *
+     * @throws IOException if the file could not be read, is not supported or is not valid CSV or JSON.
+     */
+    public static ImportResult importFile(Path filePath, Predicate<Restaurant> isExisting,
+            IntConsumer progressListener) throws IOException {
+        requireAllNonNull(filePath, isExisting, progressListener);
+        if (isCsvFile(filePath)) {
+            RestaurantImporter importer = new RestaurantImporter(isExisting, progressListener,
+                    MESSAGE_INVALID_CSV_ROW);
+            importer.readCsv(filePath);
+            return importer.finish();
+        } else if (isJsonFile(filePath)) {
+            RestaurantImporter importer = new RestaurantImporter(isExisting, progressListener,
+                    MESSAGE_INVALID_JSON_ROW);
+            JsonRestaurantDirectoryStorage.forEachRestaurant(filePath, restaurant ->
+                    importer.addRow(restaurant, null, importer.rowCount + 1));
+            return importer.finish();
+        }
+        throw new IOException(MESSAGE_UNSUPPORTED_FILE);
+    }
+
+    private static boolean isCsvFile(Path filePath) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(JSON_EXTENSION);
+    }
+
+    private void readCsv(Path filePath) throws IOException {
+        try (CsvRecordReader reader = new CsvRecordReader(Files.newBufferedReader(filePath,
+                StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; header != null && i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            int nameColumn = getRequiredColumn(columns, COLUMN_NAME);
+            int phoneColumn = getRequiredColumn(columns, COLUMN_PHONE);
+            int addressColumn = getRequiredColumn(columns, COLUMN_ADDRESS);
+            int tagsColumn = columns.getOrDefault(COLUMN_TAGS, NO_COLUMN);
+            int ratingColumn = columns.getOrDefault(COLUMN_RATING, NO_COLUMN);
+            int visitedColumn = columns.getOrDefault(COLUMN_VISITED, NO_COLUMN);
+
+            List<String> fields;
+            while ((fields = reader.readRecord()) != null) {
+                int lineNumber = reader.getRecordLineNumber();
+                if (fields.size() != header.size()) {
+                    addRow(null, String.format(MESSAGE_WRONG_FIELD_COUNT, header.size(), fields.size()), lineNumber);
+                    continue;
+                }
+
+                Integer rating;
+                try {
+                    String ratingField = getField(fields, ratingColumn);
+                    rating = ratingField.isEmpty() ? null : Integer.valueOf(ratingField);
+                } catch (NumberFormatException nfe) {
+                    addRow(null, Rating.MESSAGE_CONSTRAINTS, lineNumber);
+                    continue;
+                }
+
+                String visitedField = getField(fields, visitedColumn);
+                if (!visitedField.isEmpty() && !visitedField.equalsIgnoreCase(Boolean.TRUE.toString())
+                        && !visitedField.equalsIgnoreCase(Boolean.FALSE.toString())) {
+                    addRow(null, MESSAGE_INVALID_VISITED, lineNumber);
+                    continue;
+                }
+
+                List<JsonAdaptedTag> tags = new ArrayList<>();
+                for (String tagName : getField(fields, tagsColumn).split(TAG_SEPARATOR)) {
+                    if (!tagName.trim().isEmpty()) {
+                        tags.add(new JsonAdaptedTag(tagName.trim()));
+                    }
+                }
+
+                addRow(new JsonAdaptedRestaurant(getField(fields, nameColumn), getField(fields, phoneColumn),
+                        getField(fields, addressColumn), tags, rating, Boolean.parseBoolean(visitedField)),
+                        null, lineNumber);
+            }
+        }
+    }
+
+    private static int getRequiredColumn(Map<String, Integer> columns, String column) throws IOException {
+        Integer index = columns.get(column);
+        if (index == null) {
+            throw new IOException(String.format(MESSAGE_MISSING_COLUMN, column));
+        }
+        return index;
+    }
+
+    private static String getField(List<String> fields, int column) {
+        return column == NO_COLUMN ? "" : fields.get(column).trim();
+    }
+
+    /**
+     * Adds the row numbered {@code rowNumber} to the batch, either as {@code restaurant} or, if {@code error} is
+     * not null, as a row rejected for that reason.
+     */
+    private void addRow(JsonAdaptedRestaurant restaurant, String error, int rowNumber) {
+        batch.add(restaurant);
+        batchErrors.add(error);
+        batchRowNumbers.add(rowNumber);
+        rowCount++;
+        if (batch.size() == RestaurantDirectoryConverter.BATCH_SIZE) {
+            importBatch();
+        }
+    }
+
+    /**
+     * Converts the batch in parallel, checking each restaurant against the existing ones as it is converted, then
+     * adds its restaurants in order, so that the first of any repeated restaurants is the one kept.
+     */
+    private void importBatch() {
+        Restaurant[] restaurants = new Restaurant[batch.size()];
+        String[] errors = batchErrors.toArray(new String[0]);
+        RestaurantDirectoryConverter.convertInParallel(batch, restaurants, errors, isExisting,
+                MESSAGE_EXISTING_RESTAURANT);
+
+        for (int i = 0; i < restaurants.length; i++) {
+            if (errors[i] == null && imported.hasRestaurant(restaurants[i])) {
+                errors[i] = MESSAGE_REPEATED_RESTAURANT;
+            }
+            if (errors[i] != null) {
+                rejectedRows.add(String.format(rowMessageFormat, batchRowNumbers.get(i), errors[i]));
+            } else {
+                imported.addRestaurant(restaurants[i]);
+            }
+        }
+        batch.clear();
+        batchErrors.clear();
+        batchRowNumbers.clear();
+        progressListener.accept(rowCount);
+    }
+
+    private ImportResult finish() {
+        if (!batch.isEmpty()) {
+            importBatch();
+        }
+        return new ImportResult(imported.getRestaurantList(), rejectedRows, rowCount);
+    }
+
+    /**
+     * The restaurants read by an import, and the reasons the other rows were rejected.
+     */
+    public static class ImportResult {
+        private final List<Restaurant> restaurants;
+        private final List<String> rejectedRows;
+        private final int rowCount;
+
+        ImportResult(List<Restaurant> restaurants, List<String> rejectedRows, int rowCount) {
+            this.restaurants = Collections.unmodifiableList(restaurants);
+            this.rejectedRows = Collections.unmodifiableList(rejectedRows);
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * Returns the restaurants read, in the order they appear in the file.
+         */
+        public List<Restaurant> getRestaurants() {
+            return restaurants;
+        }
+
+        /**
+         * Returns a message for every row rejected, naming the row and the reason, in the order they appear in
+         * the file.
+         */
+        public List<String> getRejectedRows() {
+            return rejectedRows;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Writes the messages for the rejected rows to the file at {@code filePath}, each starting on a new line.
+         */
+        public void writeRejectedRows(Path filePath) throws IOException {
+            FileUtil.writeToFile(filePath, String.join(System.lineSeparator(), rejectedRows) + System.lineSeparator());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package foodtrail.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -53,6 +54,11 @@ public class StorageManager implements Storage {
         return restaurantDirectoryStorage.getRestaurantDirectoryFilePath();
     }
 
+    @Override
+    public List<Path> getRestaurantDirectoryBackupFilePaths() {
+        return restaurantDirectoryStorage.getRestaurantDirectoryBackupFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyRestaurantDirectory> readRestaurantDirectory() throws DataLoadingException {
         return readRestaurantDirectory(restaurantDirectoryStorage.getRestaurantDirectoryFilePath());
@@ -76,4 +82,15 @@ public class StorageManager implements Storage {
         restaurantDirectoryStorage.saveRestaurantDirectory(restaurantDirectory, filePath);
     }
 
+    @Override
+    public boolean isRestaurantDirectoryJournaled() {
+        return restaurantDirectoryStorage.isRestaurantDirectoryJournaled();
+    }
+
+    @Override
+    public void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes) throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " changes to the journal");
+        restaurantDirectoryStorage.appendRestaurantDirectoryChanges(changes);
+    }
+
 }
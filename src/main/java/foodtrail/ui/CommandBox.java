@@ -1,15 +1,19 @@
 package foodtrail.ui;
 
-import foodtrail.logic.Logic;
+import java.util.concurrent.CompletableFuture;
+
+import foodtrail.logic.CommandQueue;
 import foodtrail.logic.commands.CommandResult;
-import foodtrail.logic.commands.exceptions.CommandException;
-import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.logic.commands.FindCommand;
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -19,19 +23,32 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How long typing must pause before a find command being typed is previewed. */
+    private static final Duration FIND_PREVIEW_DELAY = Duration.millis(150);
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+
     private final CommandExecutor commandExecutor;
+    private final FindPreviewer findPreviewer;
+    private final PauseTransition findPreviewDelay = new PauseTransition(FIND_PREVIEW_DELAY);
+    private int pendingCommandCount = 0;
+    // Whether the find command being typed has been previewed since the last command was entered
+    private boolean isPreviewShown = false;
 
     @FXML
     private TextArea commandTextField;
+    @FXML
+    private ProgressIndicator busyIndicator;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code FindPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, FindPreviewer findPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.findPreviewer = findPreviewer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> handleTextChanged(newText));
 
         // Handle Enter key press
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
@@ -46,6 +63,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared straight away, so that further commands can be entered while the command is
+     * executed. They are executed in the order they are entered.
      */
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
@@ -53,12 +72,61 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // The command entered replaces any preview, so clearing the command box must not cancel it
+        isPreviewShown = false;
+        commandTextField.setText("");
+        findPreviewDelay.stop();
+        setPendingCommandCount(pendingCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (error != null) {
+                handleCommandFailed(commandText);
+            }
+        });
+    }
+
+    /**
+     * Previews the find command being typed once typing pauses, so that only the keyword typed last is searched.
+     * Typing anything other than a find command cancels the previews, and shows the restaurants shown before them.
+     */
+    private void handleTextChanged(String commandText) {
+        String trimmedText = commandText.stripLeading();
+        String keyword = trimmedText.startsWith(FIND_COMMAND_PREFIX)
+                ? trimmedText.substring(FIND_COMMAND_PREFIX.length()).trim()
+                : "";
+        if (keyword.isEmpty()) {
+            findPreviewDelay.stop();
+            if (isPreviewShown) {
+                isPreviewShown = false;
+                findPreviewer.cancelPreview();
+            }
+            return;
+        }
+        findPreviewDelay.setOnFinished(unused -> {
+            isPreviewShown = true;
+            findPreviewer.preview(keyword);
+        });
+        findPreviewDelay.playFromStart();
+    }
+
+    /**
+     * Puts the text of the failed command back into the command box, unless another command is being entered,
+     * and indicates the failure.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (commandTextField.getText().equals("")) {
+            commandTextField.setText(commandText);
+            commandTextField.end();
         }
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Shows the busy indicator while any command entered has not finished executing.
+     */
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        busyIndicator.setVisible(pendingCommandCount > 0);
     }
 
     /**
@@ -87,11 +155,32 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command after those executed before it, and returns its result, which is completed on the
+         * JavaFX application thread and fails if the command could not be executed.
+         *
+         * @see CommandQueue#submit(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents something that can show the results of a find command while it is being typed.
+     */
+    public interface FindPreviewer {
+        /**
+         * Shows the restaurants containing {@code keyword} once the commands executed before it are done.
+         *
+         * @see CommandQueue#submitPreviewFind(String)
+         */
+        void preview(String keyword);
+
+        /**
+         * Cancels the previews not yet shown, and shows the restaurants shown before the previews since the last
+         * command was executed.
          *
-         * @see Logic#execute(String)
+         * @see CommandQueue#cancelPreviewFind()
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void cancelPreview();
     }
 
 }
@@ -1,13 +1,16 @@
 package foodtrail.ui;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import foodtrail.commons.core.GuiSettings;
 import foodtrail.commons.core.LogsCenter;
+import foodtrail.logic.CommandQueue;
 import foodtrail.logic.Logic;
 import foodtrail.logic.commands.CommandResult;
-import foodtrail.logic.commands.exceptions.CommandException;
-import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.logic.commands.FindCommand;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.input.KeyCombination;
@@ -26,6 +29,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private RestaurantListPanel restaurantListPanel;
@@ -85,7 +89,9 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        restaurantListPanel = new RestaurantListPanel(logic.getFilteredRestaurantList());
+        commandQueue = new CommandQueue(logic, Platform::runLater);
+
+        restaurantListPanel = new RestaurantListPanel(commandQueue.getShownRestaurantList());
         restaurantListPanelPlaceholder.getChildren().add(restaurantListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -94,8 +100,23 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRestaurantDirectoryFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new CommandBox.FindPreviewer() {
+            @Override
+            public void preview(String keyword) {
+                previewFind(keyword);
+            }
+
+            @Override
+            public void cancelPreview() {
+                cancelPreviewFind();
+            }
+        });
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveFailureHandler(e -> Platform.runLater(() -> {
+            logger.warning("Changes could not be saved: " + e.getMessage());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+        }));
     }
 
     /**
@@ -143,13 +164,18 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background after those entered before it, and shows its result once it is done.
      *
-     * @see Logic#execute(String)
+     * @see CommandQueue#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandQueue.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(Objects.toString(error.getMessage(), error.toString()));
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -160,12 +186,31 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        });
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+    /**
+     * Shows the restaurants containing {@code keyword} while a find command is being typed, unless it is cancelled
+     * by further typing.
+     *
+     * @see CommandQueue#submitPreviewFind(String)
+     */
+    private void previewFind(String keyword) {
+        commandQueue.submitPreviewFind(keyword).thenAccept(shownCount -> shownCount.ifPresent(count ->
+                resultDisplay.setFeedbackToUser(String.format(FindCommand.MESSAGE_FIND_SUCCESS, count, keyword))));
+    }
+
+    /**
+     * Shows the restaurants shown before the find command being typed was previewed, and clears the number of
+     * restaurants the previews found.
+     *
+     * @see CommandQueue#cancelPreviewFind()
+     */
+    private void cancelPreviewFind() {
+        commandQueue.cancelPreviewFind().thenAccept(isRestored -> {
+            if (isRestored) {
+                resultDisplay.setFeedbackToUser("");
+            }
+        });
     }
 }
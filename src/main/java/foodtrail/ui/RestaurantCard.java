@@ -1,9 +1,16 @@
 package foodtrail.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.Tag;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -16,6 +23,15 @@ public class RestaurantCard extends UiPart<Region> {
 
     private static final String FXML = "RestaurantListCard.fxml";
 
+    private static final int MAX_STARS = 5;
+    private static final String[] STAR_STRINGS = new String[MAX_STARS + 1];
+
+    static {
+        for (int value = 0; value <= MAX_STARS; value++) {
+            STAR_STRINGS[value] = getStarString(value);
+        }
+    }
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved
      * keywords in JavaFX.
@@ -26,7 +42,11 @@ public class RestaurantCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Restaurant restaurant;
+    private Restaurant restaurant;
+    private int displayedIndex;
+
+    // Labels for tags, kept when a card shows fewer tags so that they can be reused by later restaurants.
+    private final List<Label> tagLabels = new ArrayList<>();
 
     @FXML
     private HBox cardPane;
@@ -45,23 +65,47 @@ public class RestaurantCard extends UiPart<Region> {
     @FXML
     private Label isMarkedStatus; // New FXML Label for IsMarked status
 
+    /**
+     * Creates an empty {@code RestaurantCard}, to be given a restaurant with
+     * {@link #setRestaurant(Restaurant, int)}.
+     */
+    public RestaurantCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code RestaurantCode} with the given {@code Restaurant} and index to
      * display.
      */
     public RestaurantCard(Restaurant restaurant, int displayedIndex) {
-        super(FXML);
+        this();
+        setRestaurant(restaurant, displayedIndex);
+    }
+
+    public Restaurant getRestaurant() {
+        return restaurant;
+    }
+
+    /**
+     * Shows {@code restaurant} and {@code displayedIndex} on this card in place of what it showed before, so that
+     * one card can be reused for many restaurants without loading its FXML again.
+     */
+    public void setRestaurant(Restaurant restaurant, int displayedIndex) {
+        requireNonNull(restaurant);
+        if (restaurant == this.restaurant && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.restaurant = restaurant;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(restaurant.getName().fullName);
         phone.setText(restaurant.getPhone().value);
         address.setText(restaurant.getAddress().value);
-        restaurant.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(restaurant.getTags().toArray(new Tag[0]));
 
         restaurant.getRating().ifPresentOrElse(r -> {
-            rating.setText(getStarString(r.value));
+            rating.setText(STAR_STRINGS[Math.max(0, Math.min(r.value, MAX_STARS))]);
             rating.setVisible(true);
             rating.setManaged(true);
         }, () -> {
@@ -74,12 +118,33 @@ public class RestaurantCard extends UiPart<Region> {
         isMarkedStatus.setText(restaurant.getIsMarked().toString());
     }
 
+    /**
+     * Shows {@code restaurantTags} in order of name, changing the text of the tag labels already shown and only
+     * adding or removing labels when the number of tags changes.
+     */
+    private void setTags(Tag[] restaurantTags) {
+        Arrays.sort(restaurantTags, Tag.BY_NAME);
+        while (tagLabels.size() < restaurantTags.length) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < restaurantTags.length; i++) {
+            tagLabels.get(i).setText(restaurantTags[i].tagName);
+        }
+
+        ObservableList<Node> shownLabels = tags.getChildren();
+        if (shownLabels.size() > restaurantTags.length) {
+            shownLabels.remove(restaurantTags.length, shownLabels.size());
+        } else if (shownLabels.size() < restaurantTags.length) {
+            shownLabels.addAll(tagLabels.subList(shownLabels.size(), restaurantTags.length));
+        }
+    }
+
     /**
      * Returns a star string representation for a rating value (0–5).
      * Example: 3 -> "★★★☆☆"
      */
     private static String getStarString(int value) {
-        int clamped = Math.max(0, Math.min(value, 5)); // safety guard
+        int clamped = Math.max(0, Math.min(value, MAX_STARS)); // safety guard
         String fullStars = "★★★★★";
         String emptyStars = "☆☆☆☆☆";
         return fullStars.substring(0, clamped) + emptyStars.substring(clamped);
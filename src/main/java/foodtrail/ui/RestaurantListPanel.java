@@ -28,6 +28,9 @@ public class RestaurantListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Restaurant} using a {@code RestaurantCard}.
      */
     class RestaurantListViewCell extends ListCell<Restaurant> {
+        // Created for the first restaurant shown and then given each restaurant this cell is reused for.
+        private RestaurantCard card;
+
         @Override
         protected void updateItem(Restaurant restaurant, boolean empty) {
             super.updateItem(restaurant, empty);
@@ -37,7 +40,11 @@ public class RestaurantListPanel extends UiPart<Region> {
                 setText(null);
                 setStyle("-fx-background-color: transparent;"); // Force empty cells to be transparent
             } else {
-                setGraphic(new RestaurantCard(restaurant, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new RestaurantCard();
+                }
+                card.setRestaurant(restaurant, getIndex() + 1);
+                setGraphic(card.getRoot());
                 setStyle(null); // Allow non-empty cells to be styled by CSS
             }
         }
@@ -12,10 +12,17 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsDumpIntervalSeconds=" + config.getMetricsDumpIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
+    @Test
+    public void getMetricsDumpIntervalSeconds_default_metricsNotWritten() {
+        assertEquals(0, new Config().getMetricsDumpIntervalSeconds());
+    }
+
     @Test
     public void equalsMethod() {
         Config defaultConfig = new Config();
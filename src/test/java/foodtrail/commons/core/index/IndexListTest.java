@@ -0,0 +1,81 @@
+package foodtrail.commons.core.index;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexListTest {
+
+    @Test
+    public void withRange_reversedRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexList.of(Index.fromOneBased(1))
+                .withRange(Index.fromOneBased(5), Index.fromOneBased(3)));
+    }
+
+    @Test
+    public void withRange_overlappingAndAdjacentRanges_merged() {
+        IndexList indexList = IndexList.of(Index.fromOneBased(8))
+                .withRange(Index.fromOneBased(3), Index.fromOneBased(5))
+                .withRange(Index.fromOneBased(4), Index.fromOneBased(6))
+                .withRange(Index.fromOneBased(1), Index.fromOneBased(1));
+        assertEquals(IndexList.class.getCanonicalName() + "{oneBasedRanges=1,3-6,8}", indexList.toString());
+
+        // a range that fills the gaps joins everything
+        assertEquals(IndexList.class.getCanonicalName() + "{oneBasedRanges=1-8}",
+                indexList.withRange(Index.fromOneBased(2), Index.fromOneBased(7)).toString());
+    }
+
+    @Test
+    public void isSingle() {
+        assertTrue(IndexList.of(Index.fromOneBased(2)).isSingle());
+        assertTrue(IndexList.of(Index.fromOneBased(2)).withRange(Index.fromOneBased(2), Index.fromOneBased(2))
+                .isSingle());
+        assertFalse(IndexList.of(Index.fromOneBased(2)).withRange(Index.fromOneBased(3), Index.fromOneBased(3))
+                .isSingle());
+    }
+
+    @Test
+    public void isWithin() {
+        IndexList indexList = IndexList.of(Index.fromOneBased(1)).withRange(Index.fromOneBased(3),
+                Index.fromOneBased(4));
+        assertTrue(indexList.isWithin(4));
+        assertFalse(indexList.isWithin(3));
+    }
+
+    @Test
+    public void select() {
+        List<String> list = Arrays.asList("a", "b", "c", "d", "e");
+        IndexList indexList = IndexList.of(Index.fromOneBased(5)).withRange(Index.fromOneBased(1),
+                Index.fromOneBased(2));
+        assertEquals(Arrays.asList("a", "b", "e"), indexList.select(list));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> indexList.select(list.subList(0, 4)));
+    }
+
+    @Test
+    public void equals() {
+        IndexList indexList = IndexList.of(Index.fromOneBased(1)).withRange(Index.fromOneBased(2),
+                Index.fromOneBased(3));
+
+        // same indexes, built differently -> returns true
+        assertTrue(indexList.equals(IndexList.of(Index.fromOneBased(3)).withRange(Index.fromOneBased(1),
+                Index.fromOneBased(2))));
+        assertEquals(indexList.hashCode(), IndexList.of(Index.fromOneBased(3))
+                .withRange(Index.fromOneBased(1), Index.fromOneBased(2)).hashCode());
+
+        // same object -> returns true
+        assertTrue(indexList.equals(indexList));
+
+        // null -> returns false
+        assertFalse(indexList.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(indexList.equals(IndexList.of(Index.fromOneBased(1))));
+    }
+}
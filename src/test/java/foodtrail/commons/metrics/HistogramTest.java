@@ -0,0 +1,80 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.metrics.Histogram.Unit;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram(Unit.NANOSECONDS);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Histogram(null));
+    }
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_NEGATIVE_VALUE, () -> histogram.record(-1));
+    }
+
+    @Test
+    public void record_values_updatesCountSumAndMax() {
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(Long.MAX_VALUE - 5);
+        assertEquals(3, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getSum());
+        assertEquals(Long.MAX_VALUE - 5, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+    }
+
+    @Test
+    public void getPercentile_values_returnsUpperBoundOfBucket() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        // The 50th value is in the bucket of 32 to 63
+        assertEquals(63, histogram.getPercentile(50));
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(1, histogram.getPercentile(1));
+        // Never more than the largest value
+        assertEquals(100, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largestValues_returnsLargestValue() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getSummary() {
+        histogram.record(1_000_000);
+        histogram.record(3_000_000);
+        assertEquals("count=2 mean=" + Unit.NANOSECONDS.format(2_000_000) + " p50="
+                + Unit.NANOSECONDS.format(1_048_575) + " p99=" + Unit.NANOSECONDS.format(3_000_000) + " max="
+                + Unit.NANOSECONDS.format(3_000_000), histogram.getSummary());
+    }
+
+    @Test
+    public void format() {
+        assertEquals(String.format("%.3fms", 1.5), Unit.NANOSECONDS.format(1_500_000));
+        assertEquals("2048B", Unit.BYTES.format(2048));
+    }
+}
@@ -0,0 +1,56 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.commons.util.FileUtil;
+
+public class MetricsDumperTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MetricsDumper(null, temporaryFolder));
+        assertThrows(NullPointerException.class, () -> new MetricsDumper(metrics, null));
+    }
+
+    @Test
+    public void start_nonPositiveInterval_throwsIllegalArgumentException() {
+        MetricsDumper dumper = new MetricsDumper(metrics, temporaryFolder.resolve("metrics.txt"));
+        assertThrows(IllegalArgumentException.class, MetricsDumper.MESSAGE_INVALID_INTERVAL, () -> dumper.start(0));
+    }
+
+    @Test
+    public void dump_replacesFileWithReport() throws Exception {
+        Path filePath = temporaryFolder.resolve("metrics").resolve("metrics.txt");
+        MetricsDumper dumper = new MetricsDumper(metrics, filePath);
+
+        metrics.increment("commands.add");
+        dumper.dump();
+        assertEquals(metrics.getReport(), FileUtil.readFromFile(filePath));
+
+        metrics.increment("commands.list");
+        dumper.dump();
+        assertEquals(metrics.getReport(), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void stop_writesReport() throws Exception {
+        Path filePath = temporaryFolder.resolve("metrics.txt");
+        MetricsDumper dumper = new MetricsDumper(metrics, filePath);
+        dumper.start(Long.MAX_VALUE);
+
+        metrics.increment("commands.add");
+        dumper.stop();
+        assertEquals(metrics.getReport(), FileUtil.readFromFile(filePath));
+    }
+}
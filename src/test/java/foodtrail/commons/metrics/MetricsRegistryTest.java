@@ -0,0 +1,67 @@
+package foodtrail.commons.metrics;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.metrics.Histogram.Unit;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    public void increment_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> metrics.increment(null));
+    }
+
+    @Test
+    public void getCount_neverIncremented_returnsZero() {
+        assertEquals(0, metrics.getCount("commands.add"));
+    }
+
+    @Test
+    public void increment_sameName_addsToSameCounter() {
+        metrics.increment("commands.add");
+        metrics.increment("commands.add");
+        metrics.increment("commands.list");
+        assertEquals(2, metrics.getCount("commands.add"));
+        assertEquals(1, metrics.getCount("commands.list"));
+    }
+
+    @Test
+    public void getHistogram_sameName_returnsSameHistogram() {
+        Histogram histogram = metrics.getHistogram("parse", Unit.NANOSECONDS);
+        metrics.recordDuration("parse", 10);
+        assertSame(histogram, metrics.getHistogram("parse", Unit.NANOSECONDS));
+        assertEquals(1, histogram.getCount());
+    }
+
+    @Test
+    public void getHistogram_otherUnit_throwsIllegalArgumentException() {
+        metrics.recordBytes("save.bytes", 10);
+        String expectedMessage =
+                String.format(MetricsRegistry.MESSAGE_UNIT_MISMATCH, "save.bytes", Unit.BYTES, Unit.NANOSECONDS);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> metrics.recordDuration("save.bytes", 10));
+    }
+
+    @Test
+    public void getReport_listsMetricsInOrderOfName() {
+        metrics.increment("commands.list");
+        metrics.increment("commands.add");
+        metrics.recordDuration("sort", 2_000_000);
+        metrics.recordBytes("save.bytes", 512);
+
+        String report = metrics.getReport();
+        assertTrue(report.startsWith("Metrics since "));
+        assertTrue(report.endsWith("Counters:\n"
+                + "  commands.add: 1\n"
+                + "  commands.list: 1\n"
+                + "Histograms:\n"
+                + "  save.bytes: " + metrics.getHistogram("save.bytes", Unit.BYTES).getSummary() + "\n"
+                + "  sort: " + metrics.getHistogram("sort", Unit.NANOSECONDS).getSummary() + "\n"));
+    }
+}
@@ -1,13 +1,25 @@
 package foodtrail.commons.util;
 
 import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,33 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, tempFile -> {
+            Files.writeString(tempFile, "partial");
+            throw new IOException("disk full");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package foodtrail.commons.util;
 
 import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -140,4 +141,45 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for character classes --------------------------------------
+
+    @Test
+    public void isRegexWhitespace() {
+        for (char c = 0; c < 0x3000; c++) {
+            assertEquals(String.valueOf(c).matches("\\s"), StringUtil.isRegexWhitespace(c));
+        }
+    }
+
+    @Test
+    public void isLineTerminator() {
+        for (char c = 0; c < 0x3000; c++) {
+            assertEquals(!String.valueOf(c).matches("."), StringUtil.isLineTerminator(c));
+        }
+    }
+
+    @Test
+    public void foldCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+        assertEquals("koi thé", StringUtil.foldCase("KOI Thé"));
+
+        String[] words = {"KOI Thé", "koi thé", "Koi The", "İstanbul", "istanbul", "ǅemal", "ǆemal", "STRASSE",
+            "straße"};
+        for (String first : words) {
+            for (String second : words) {
+                assertEquals(first.equalsIgnoreCase(second),
+                        StringUtil.foldCase(first).equals(StringUtil.foldCase(second)));
+                assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(first, second)),
+                        Integer.signum(StringUtil.foldCase(first).compareTo(StringUtil.foldCase(second))));
+            }
+        }
+    }
+
+    @Test
+    public void isAsciiLetterOrDigit() {
+        for (char c = 0; c < 0x3000; c++) {
+            assertEquals(String.valueOf(c).matches("\\d"), StringUtil.isAsciiDigit(c));
+            assertEquals(String.valueOf(c).matches("\\p{Alnum}"), StringUtil.isAsciiLetterOrDigit(c));
+        }
+    }
+
 }
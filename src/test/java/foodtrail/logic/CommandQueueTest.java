@@ -0,0 +1,251 @@
+package foodtrail.logic;
+
+import static foodtrail.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.logic.commands.ClearCommand;
+import foodtrail.logic.commands.CommandResult;
+import foodtrail.logic.commands.DeleteCommand;
+import foodtrail.logic.commands.ExitCommand;
+import foodtrail.logic.commands.FindCommand;
+import foodtrail.logic.commands.HelpCommand;
+import foodtrail.logic.commands.ListCommand;
+import foodtrail.logic.commands.exceptions.CommandException;
+import foodtrail.logic.parser.exceptions.ParseException;
+import foodtrail.model.Model;
+import foodtrail.model.ModelManager;
+import foodtrail.model.UserPrefs;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.storage.JsonRestaurantDirectoryStorage;
+import foodtrail.storage.JsonUserPrefsStorage;
+import foodtrail.storage.StorageManager;
+import javafx.collections.ListChangeListener;
+
+public class CommandQueueTest {
+
+    private static final List<Restaurant> TYPICAL_RESTAURANTS_BY_NAME = getTypicalRestaurants().stream()
+            .sorted(Model.COMPARATOR_BY_NAME).collect(Collectors.toList());
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+    private final BlockingQueue<Runnable> resultTasks = new LinkedBlockingQueue<>();
+    private Logic logic;
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonRestaurantDirectoryStorage(temporaryFolder.resolve("foodtrail.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Long.MAX_VALUE);
+        commandQueue = new CommandQueue(logic, resultTasks::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandQueue(null, resultTasks::add));
+        assertThrows(NullPointerException.class, () -> new CommandQueue(logic, null));
+    }
+
+    @Test
+    public void getShownRestaurantList_noCommands_showsModelList() {
+        assertEquals(TYPICAL_RESTAURANTS_BY_NAME, commandQueue.getShownRestaurantList());
+        assertThrows(UnsupportedOperationException.class, () -> commandQueue.getShownRestaurantList().remove(0));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandQueue.submit(null));
+    }
+
+    @Test
+    public void submit_shownListChanged_updatesShownListThroughResultExecutor() throws Exception {
+        CompletableFuture<CommandResult> result = commandQueue.submit(FindCommand.COMMAND_WORD + " kfc");
+
+        // The model has been filtered, but the shown list only changes when the result tasks are run
+        runNextResultTask(() -> {
+            assertEquals(TYPICAL_RESTAURANTS_BY_NAME, commandQueue.getShownRestaurantList());
+            assertFalse(result.isDone());
+        });
+        assertEquals(model.getFilteredRestaurantList(), commandQueue.getShownRestaurantList());
+        assertFalse(result.isDone());
+
+        runNextResultTask(() -> {});
+        assertTrue(result.isDone());
+        assertTrue(commandQueue.getShownRestaurantList().size() < getTypicalRestaurants().size());
+    }
+
+    @Test
+    public void submit_shownListUnchanged_onlyCompletesResult() throws Exception {
+        CompletableFuture<CommandResult> result = commandQueue.submit(HelpCommand.COMMAND_WORD);
+
+        runNextResultTask(() -> {});
+        assertEquals(new CommandResult(HelpCommand.SHOWING_HELP_MESSAGE, true, false), result.get());
+        assertTrue(resultTasks.isEmpty());
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithParseException() throws Exception {
+        CompletableFuture<CommandResult> result = commandQueue.submit("uicfhmowqewca");
+
+        runNextResultTask(() -> {});
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get());
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, thrown.getCause().getMessage());
+        assertEquals(TYPICAL_RESTAURANTS_BY_NAME, commandQueue.getShownRestaurantList());
+    }
+
+    @Test
+    public void submit_severalCommands_executedInOrder() throws Exception {
+        List<CompletableFuture<CommandResult>> results = List.of(
+                commandQueue.submit(FindCommand.COMMAND_WORD + " kfc"),
+                commandQueue.submit("uicfhmowqewca"),
+                commandQueue.submit(ListCommand.COMMAND_WORD));
+
+        // Shown list and result of find, result of the invalid command, shown list and result of list
+        for (int i = 0; i < 5; i++) {
+            runNextResultTask(() -> {});
+        }
+        assertTrue(results.get(0).isDone() && !results.get(0).isCompletedExceptionally());
+        assertTrue(results.get(1).isCompletedExceptionally());
+        assertEquals(new CommandResult(ListCommand.MESSAGE_SUCCESS), results.get(2).get());
+        assertEquals(model.getFilteredRestaurantList(), commandQueue.getShownRestaurantList());
+        assertEquals(getTypicalRestaurants().size(), commandQueue.getShownRestaurantList().size());
+    }
+
+    @Test
+    public void submit_deleteCommand_replaysChangeOnShownList() throws Exception {
+        List<Restaurant> removed = new ArrayList<>();
+        List<Restaurant> added = new ArrayList<>();
+        commandQueue.getShownRestaurantList().addListener((ListChangeListener<Restaurant>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        CompletableFuture<CommandResult> result = commandQueue.submit(DeleteCommand.COMMAND_WORD + " 2");
+
+        runNextResultTask(() -> {});
+        runNextResultTask(() -> {});
+        assertTrue(result.isDone() && !result.isCompletedExceptionally());
+        assertEquals(model.getFilteredRestaurantList(), commandQueue.getShownRestaurantList());
+        // Only the deleted restaurant has left the shown list
+        removed.removeAll(added);
+        assertEquals(List.of(TYPICAL_RESTAURANTS_BY_NAME.get(1)), removed);
+    }
+
+    @Test
+    public void submit_afterExit_failsWithCommandException() throws Exception {
+        CompletableFuture<CommandResult> exit = commandQueue.submit(ExitCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> result = commandQueue.submit(ClearCommand.COMMAND_WORD);
+        CompletableFuture<OptionalInt> preview = commandQueue.submitPreviewFind("bugis");
+
+        // Results of exit, clear and the preview, without any change to the shown list
+        for (int i = 0; i < 3; i++) {
+            runNextResultTask(() -> {});
+        }
+        assertTrue(exit.get().isExit());
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get());
+        assertTrue(thrown.getCause() instanceof CommandException);
+        assertEquals(CommandQueue.MESSAGE_EXITED, thrown.getCause().getMessage());
+        assertEquals(OptionalInt.empty(), preview.get());
+        assertEquals(getTypicalRestaurants().size(), model.getRestaurantDirectory().getRestaurantList().size());
+        assertEquals(TYPICAL_RESTAURANTS_BY_NAME, commandQueue.getShownRestaurantList());
+    }
+
+    @Test
+    public void submitPreviewFind_keyword_showsMatches() throws Exception {
+        CompletableFuture<OptionalInt> result = commandQueue.submitPreviewFind("bugis");
+
+        runNextResultTask(() -> {});
+        assertEquals(model.getFilteredRestaurantList(), commandQueue.getShownRestaurantList());
+        assertTrue(commandQueue.getShownRestaurantList().size() < getTypicalRestaurants().size());
+
+        runNextResultTask(() -> {});
+        assertEquals(OptionalInt.of(commandQueue.getShownRestaurantList().size()), result.get());
+    }
+
+    @Test
+    public void submitPreviewFind_laterSubmission_cancelsPreview() throws Exception {
+        // Holds up the background thread until everything has been submitted
+        CountDownLatch submitted = new CountDownLatch(1);
+        commandQueue = new CommandQueue(logic, task -> {
+            try {
+                submitted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resultTasks.add(task);
+        });
+        commandQueue.submit(HelpCommand.COMMAND_WORD);
+        CompletableFuture<OptionalInt> preview = commandQueue.submitPreviewFind("bugis");
+        commandQueue.submit(ListCommand.COMMAND_WORD);
+        submitted.countDown();
+
+        // Result of help, result of the preview, shown list and result of list
+        for (int i = 0; i < 4; i++) {
+            runNextResultTask(() -> {});
+        }
+        assertEquals(OptionalInt.empty(), preview.get());
+        assertEquals(getTypicalRestaurants().size(), commandQueue.getShownRestaurantList().size());
+    }
+
+    @Test
+    public void cancelPreviewFind_afterPreview_showsEarlierRestaurants() throws Exception {
+        // Shown list and result of the preview
+        commandQueue.submitPreviewFind("bugis");
+        runNextResultTask(() -> {});
+        runNextResultTask(() -> {});
+        assertTrue(commandQueue.getShownRestaurantList().size() < getTypicalRestaurants().size());
+
+        // Shown list and result of the cancellation
+        CompletableFuture<Boolean> result = commandQueue.cancelPreviewFind();
+        runNextResultTask(() -> {});
+        runNextResultTask(() -> {});
+        assertTrue(result.get());
+        assertEquals(TYPICAL_RESTAURANTS_BY_NAME, commandQueue.getShownRestaurantList());
+    }
+
+    @Test
+    public void cancelPreviewFind_noPreview_returnsFalse() throws Exception {
+        CompletableFuture<Boolean> result = commandQueue.cancelPreviewFind();
+
+        runNextResultTask(() -> {});
+        assertFalse(result.get());
+        assertTrue(resultTasks.isEmpty());
+    }
+
+    /**
+     * Waits for the next task passed to the result executor, runs {@code beforeTask} and then runs the task.
+     */
+    private void runNextResultTask(Runnable beforeTask) throws InterruptedException {
+        Runnable task = resultTasks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(task);
+        beforeTask.run();
+        task.run();
+    }
+}
@@ -8,18 +8,33 @@ import static foodtrail.logic.commands.CommandTestUtil.PHONE_DESC_JOLLIBEE;
 import static foodtrail.testutil.Assert.assertThrows;
 import static foodtrail.testutil.TypicalRestaurants.JOLLIBEE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import foodtrail.commons.metrics.Histogram.Unit;
+import foodtrail.commons.metrics.MetricsRegistry;
 import foodtrail.logic.commands.AddCommand;
 import foodtrail.logic.commands.CommandResult;
+import foodtrail.logic.commands.DeleteCommand;
+import foodtrail.logic.commands.FindCommand;
 import foodtrail.logic.commands.ListCommand;
+import foodtrail.logic.commands.MarkCommand;
+import foodtrail.logic.commands.UnmarkCommand;
 import foodtrail.logic.commands.exceptions.CommandException;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.Model;
@@ -27,10 +42,14 @@ import foodtrail.model.ModelManager;
 import foodtrail.model.ReadOnlyRestaurantDirectory;
 import foodtrail.model.UserPrefs;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.storage.JournaledRestaurantDirectoryStorage;
 import foodtrail.storage.JsonRestaurantDirectoryStorage;
 import foodtrail.storage.JsonUserPrefsStorage;
+import foodtrail.storage.RestaurantDirectoryChange;
 import foodtrail.storage.StorageManager;
+import foodtrail.testutil.EventRecorder;
 import foodtrail.testutil.RestaurantBuilder;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -70,17 +89,167 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_modelChanged_savesAfterFlush() throws Exception {
+        CountingRestaurantDirectoryStorage restaurantDirectoryStorage =
+                new CountingRestaurantDirectoryStorage(temporaryFolder.resolve("foodtrail.json"));
+        logic = new LogicManager(model, new StorageManager(restaurantDirectoryStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Long.MAX_VALUE);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE + ADDRESS_DESC_JOLLIBEE);
+        assertEquals(0, restaurantDirectoryStorage.saveCount);
+
+        logic.flushPendingSaves();
+        assertEquals(1, restaurantDirectoryStorage.saveCount);
+        assertEquals(model.getRestaurantDirectory(), restaurantDirectoryStorage.readRestaurantDirectory().get());
+    }
+
+    @Test
+    public void execute_severalChangesBeforeSave_copiesOnce() throws Exception {
+        CountingRestaurantDirectoryStorage restaurantDirectoryStorage =
+                new CountingRestaurantDirectoryStorage(temporaryFolder.resolve("foodtrail.json"));
+        MetricsRegistry metrics = new MetricsRegistry();
+        logic = new LogicManager(model, new StorageManager(restaurantDirectoryStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), metrics, Long.MAX_VALUE);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE + ADDRESS_DESC_JOLLIBEE);
+        logic.execute(MarkCommand.COMMAND_WORD + " 1");
+        logic.execute(UnmarkCommand.COMMAND_WORD + " 1");
+        // Copied by the saver rather than by each command
+        assertEquals(0, metrics.getHistogram(LogicManager.METRIC_SAVE_COPY_DURATION, Unit.NANOSECONDS).getCount());
+
+        logic.flushPendingSaves();
+        assertEquals(1, metrics.getHistogram(LogicManager.METRIC_SAVE_COPY_DURATION, Unit.NANOSECONDS).getCount());
+        assertEquals(1, restaurantDirectoryStorage.saveCount);
+        assertEquals(model.getRestaurantDirectory(), restaurantDirectoryStorage.readRestaurantDirectory().get());
+    }
+
+    @Test
+    public void execute_modelUnchanged_doesNotSave() throws Exception {
+        CountingRestaurantDirectoryStorage restaurantDirectoryStorage =
+                new CountingRestaurantDirectoryStorage(temporaryFolder.resolve("foodtrail.json"));
+        logic = new LogicManager(model, new StorageManager(restaurantDirectoryStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Long.MAX_VALUE);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " kfc");
+        logic.flushPendingSaves();
+        assertEquals(0, restaurantDirectoryStorage.saveCount);
+    }
+
+    @Test
+    public void execute_journaledStorage_appendsChangesAndSavesInFullOnFlush() throws Exception {
+        CountingRestaurantDirectoryStorage snapshotStorage =
+                new CountingRestaurantDirectoryStorage(temporaryFolder.resolve("foodtrail.json"));
+        CountDownLatch appended = new CountDownLatch(1);
+        JournaledRestaurantDirectoryStorage restaurantDirectoryStorage =
+                new JournaledRestaurantDirectoryStorage(snapshotStorage) {
+                    @Override
+                    public void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes)
+                            throws IOException {
+                        super.appendRestaurantDirectoryChanges(changes);
+                        appended.countDown();
+                    }
+                };
+        restaurantDirectoryStorage.saveRestaurantDirectory(model.getRestaurantDirectory());
+        logic = new LogicManager(model, new StorageManager(restaurantDirectoryStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 0);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE + ADDRESS_DESC_JOLLIBEE);
+        assertTrue(appended.await(10, TimeUnit.SECONDS));
+        assertEquals(1, snapshotStorage.saveCount);
+        assertEquals(model.getRestaurantDirectory(), restaurantDirectoryStorage.readRestaurantDirectory().get());
+
+        // saved in full so that the data file holds all the changes
+        logic.flushPendingSaves();
+        assertEquals(2, snapshotStorage.saveCount);
+        assertEquals(1, Files.readAllLines(restaurantDirectoryStorage.getJournalFilePath()).size());
+        assertEquals(model.getRestaurantDirectory(), snapshotStorage.readRestaurantDirectory().get());
+    }
+
+    @Test
+    public void execute_commands_recordsMetrics() throws Exception {
+        Path filePath = temporaryFolder.resolve("foodtrail.json");
+        MetricsRegistry metrics = new MetricsRegistry();
+        logic = new LogicManager(model, new StorageManager(new JsonRestaurantDirectoryStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), metrics, Long.MAX_VALUE);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE + ADDRESS_DESC_JOLLIBEE);
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.flushPendingSaves();
+
+        assertEquals(1, metrics.getCount(LogicManager.METRIC_COMMAND_COUNT_PREFIX + AddCommand.COMMAND_WORD));
+        assertEquals(0, metrics.getCount(LogicManager.METRIC_COMMAND_COUNT_PREFIX + AddCommand.COMMAND_WORD
+                + LogicManager.METRIC_FAILURE_COUNT_SUFFIX));
+        assertEquals(1, metrics.getCount(LogicManager.METRIC_COMMAND_COUNT_PREFIX + DeleteCommand.COMMAND_WORD
+                + LogicManager.METRIC_FAILURE_COUNT_SUFFIX));
+        assertEquals(1, metrics.getCount(LogicManager.METRIC_INVALID_COMMAND_COUNT));
+
+        assertEquals(3, metrics.getHistogram(LogicManager.METRIC_PARSE_DURATION, Unit.NANOSECONDS).getCount());
+        assertEquals(1, metrics.getHistogram(LogicManager.METRIC_EXECUTE_DURATION_PREFIX + DeleteCommand.COMMAND_WORD,
+                Unit.NANOSECONDS).getCount());
+        // Memory allocated by the failed command is recorded too
+        assertEquals(1, metrics.getHistogram(LogicManager.METRIC_ALLOCATED_BYTES_PREFIX + DeleteCommand.COMMAND_WORD,
+                Unit.BYTES).getCount());
+        // Adding a restaurant orders the list by name
+        assertEquals(1, metrics.getHistogram(LogicManager.METRIC_SORT_DURATION, Unit.NANOSECONDS).getCount());
+        assertEquals(1, metrics.getHistogram(WriteBehindSaver.METRIC_SAVE_DURATION, Unit.NANOSECONDS).getCount());
+        assertEquals(Files.size(filePath),
+                metrics.getHistogram(WriteBehindSaver.METRIC_SAVE_BYTES, Unit.BYTES).getMax());
+    }
+
+    @Test
+    public void execute_turkishLocale_recordsCommandWordInRootLocale() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        logic = new LogicManager(model, new StorageManager(new JsonRestaurantDirectoryStorage(
+                temporaryFolder.resolve("foodtrail.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), metrics, Long.MAX_VALUE);
+        Locale defaultLocale = Locale.getDefault();
+        // Lower-casing 'I' in Turkish gives a dotless 'ı'
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            logic.execute(ListCommand.COMMAND_WORD.toUpperCase(Locale.ROOT));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        assertEquals(1, metrics.getCount(LogicManager.METRIC_COMMAND_COUNT_PREFIX + ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_recording_recordsCommandEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (EventRecorder recorder = new EventRecorder("foodtrail.Command")) {
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE
+                    + ADDRESS_DESC_JOLLIBEE);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            events = recorder.stop();
+        }
+
+        assertEquals(2, events.size());
+        RecordedEvent add = events.get(0);
+        assertEquals(AddCommand.COMMAND_WORD, add.getString("commandWord"));
+        assertTrue(add.getBoolean("isSucceeded"));
+        // Sorting is part of executing
+        assertTrue(add.getLong("executeDuration") >= add.getLong("sortDuration"));
+        assertTrue(add.getDuration().toNanos() >= add.getLong("parseDuration") + add.getLong("executeDuration"));
+
+        RecordedEvent invalid = events.get(1);
+        assertNull(invalid.getString("commandWord"));
+        assertFalse(invalid.getBoolean("isSucceeded"));
+    }
+
     @Test
     public void getFilteredRestaurantList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredRestaurantList().remove(0));
@@ -143,9 +312,9 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected inside the exception passed to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an RestaurantDirectoryStorage that throws the IOException e when saving
@@ -162,12 +331,37 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(restaurantDirectoryStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<CommandException> saveFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailures::add);
 
         // Triggers the saveRestaurantDirectory method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_JOLLIBEE + PHONE_DESC_JOLLIBEE + ADDRESS_DESC_JOLLIBEE;
         Restaurant expectedRestaurant = new RestaurantBuilder(JOLLIBEE).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addRestaurant(expectedRestaurant);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        logic.flushPendingSaves();
+        assertEquals(1, saveFailures.size());
+        assertEquals(expectedMessage, saveFailures.get(0).getMessage());
+    }
+
+    /**
+     * A {@code JsonRestaurantDirectoryStorage} that counts how many times it has saved.
+     */
+    private static class CountingRestaurantDirectoryStorage extends JsonRestaurantDirectoryStorage {
+        private volatile int saveCount = 0;
+
+        CountingRestaurantDirectoryStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+                throws IOException {
+            saveCount++;
+            super.saveRestaurantDirectory(restaurantDirectory, filePath);
+        }
     }
 }
@@ -0,0 +1,155 @@
+package foodtrail.logic;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.MIXUE;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.metrics.MetricsRegistry;
+import foodtrail.model.ReadOnlyRestaurantDirectory;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.storage.JsonRestaurantDirectoryStorage;
+import foodtrail.storage.RestaurantDirectoryChange;
+
+public class WriteBehindSaverTest {
+
+    private final List<ReadOnlyRestaurantDirectory> saved = new ArrayList<>();
+    private final List<List<RestaurantDirectoryChange>> appended = new ArrayList<>();
+    private final List<IOException> failures = new ArrayList<>();
+    private IOException exceptionToThrow = null;
+
+    private final JsonRestaurantDirectoryStorage storage = new JsonRestaurantDirectoryStorage(Path.of("unused")) {
+        @Override
+        public void saveRestaurantDirectory(ReadOnlyRestaurantDirectory restaurantDirectory, Path filePath)
+                throws IOException {
+            if (exceptionToThrow != null) {
+                throw exceptionToThrow;
+            }
+            saved.add(restaurantDirectory);
+        }
+
+        @Override
+        public void appendRestaurantDirectoryChanges(List<RestaurantDirectoryChange> changes) {
+            appended.add(changes);
+        }
+    };
+
+    private final RestaurantDirectoryChange addKfc = RestaurantDirectoryChange.replace(0, 0, List.of(KFC));
+    private final RestaurantDirectoryChange addMixue = RestaurantDirectoryChange.replace(0, 0, List.of(MIXUE));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null, 0, failures::add));
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(storage, 0, null));
+    }
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+    }
+
+    @Test
+    public void flush_nothingRequested_doesNotSave() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        saver.flush();
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void flush_severalRequests_savesLatestOnce() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        RestaurantDirectory latest = getTypicalRestaurantDirectory();
+        saver.requestSave(RestaurantDirectory::new);
+        saver.requestSave(() -> latest);
+        assertTrue(saved.isEmpty());
+
+        saver.flush();
+        assertEquals(1, saved.size());
+        assertSame(latest, saved.get(0));
+
+        // already saved
+        saver.flush();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void flush_severalRequests_takesLatestOnceHoldingModelLock() {
+        Object modelLock = new Object();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add,
+                new MetricsRegistry(), modelLock);
+        List<Boolean> isLockHeldBySnapshots = new ArrayList<>();
+        saver.requestSave(() -> {
+            throw new AssertionError("Replaced before it was taken");
+        });
+        saver.requestSave(() -> {
+            isLockHeldBySnapshots.add(Thread.holdsLock(modelLock));
+            return new RestaurantDirectory();
+        });
+        assertTrue(isLockHeldBySnapshots.isEmpty());
+
+        saver.flush();
+        assertEquals(List.of(true), isLockHeldBySnapshots);
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void requestSave_noDelay_savesInBackground() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0, failures::add);
+        saver.requestSave(RestaurantDirectory::new);
+        for (int i = 0; i < 100 && saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        saver.flush();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_reportsFailure() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        exceptionToThrow = new IOException("dummy IO exception");
+        saver.requestSave(RestaurantDirectory::new);
+        saver.flush();
+        assertEquals(List.of(exceptionToThrow), failures);
+    }
+
+    @Test
+    public void flush_severalChangesRequested_appendsTogether() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        saver.requestAppend(List.of(addKfc));
+        saver.requestAppend(List.of(addMixue));
+        assertTrue(appended.isEmpty());
+
+        saver.flush();
+        assertEquals(List.of(List.of(addKfc, addMixue)), appended);
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void flush_changesRequestedBeforeSnapshot_changesDropped() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Long.MAX_VALUE, failures::add);
+        RestaurantDirectory restaurantDirectory = new RestaurantDirectory();
+        saver.requestAppend(List.of(addKfc));
+        saver.requestSave(() -> restaurantDirectory);
+        // Made before the snapshot is taken, so already part of it
+        saver.requestAppend(List.of(addMixue));
+
+        saver.flush();
+        assertEquals(List.of(restaurantDirectory), saved);
+        assertTrue(appended.isEmpty());
+
+        saver.requestAppend(List.of(addKfc));
+        saver.flush();
+        assertEquals(List.of(List.of(addKfc)), appended);
+    }
+}
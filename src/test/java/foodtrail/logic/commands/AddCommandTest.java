@@ -11,6 +11,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -23,6 +27,9 @@ import foodtrail.model.ReadOnlyRestaurantDirectory;
 import foodtrail.model.ReadOnlyUserPrefs;
 import foodtrail.model.RestaurantDirectory;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
 import foodtrail.testutil.RestaurantBuilder;
 import javafx.collections.ObservableList;
 
@@ -161,16 +168,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Restaurant> newHasRestaurantChecker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRestaurants(List<Restaurant> restaurants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteRestaurants(List<Restaurant> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setRestaurant(Restaurant target, Restaurant editedRestaurant) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setRestaurants(List<Restaurant> targets, List<Restaurant> editedRestaurants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortRestaurantListByName() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateSortedRestaurantList(Comparator<Restaurant> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSortDurationListener(LongConsumer sortDurationListener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Restaurant> getFilteredRestaurantList() {
             throw new AssertionError("This method should not be called.");
@@ -180,6 +217,31 @@ public class AddCommandTest {
         public void updateFilteredRestaurantList(Predicate<Restaurant> predicate) {
             // This method is called by AddCommand, but not needed for this test.
         }
+
+        @Override
+        public void updateFilteredRestaurantListByKeywords(RestaurantContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredRestaurantListByTags(RestaurantHasTagsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean updateFilteredRestaurantListIncrementally(String keyword, BooleanSupplier isCancelled) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean restoreFilteredRestaurantList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Restaurant> getRestaurantsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -105,6 +105,23 @@ public class CommandTestUtil {
         assertEquals(expectedRestaurantDirectory, actualModel.getRestaurantDirectory());
         assertEquals(expectedFilteredList, actualModel.getFilteredRestaurantList());
     }
+    /**
+     * Executes the given {@code command}, which edits a restaurant shown by {@code model} into
+     * {@code editedRestaurant}, and confirms that the edited restaurant is shown in its place, along with every
+     * other restaurant shown before.
+     */
+    public static void assertEditedRestaurantStaysShown(Command command, Model model, Restaurant editedRestaurant) {
+        List<Restaurant> expectedFilteredList = new ArrayList<>(model.getFilteredRestaurantList());
+        expectedFilteredList.replaceAll(restaurant ->
+                restaurant.isSameRestaurant(editedRestaurant) ? editedRestaurant : restaurant);
+        try {
+            command.execute(model);
+        } catch (CommandException ce) {
+            throw new AssertionError("Execution of command should not fail.", ce);
+        }
+        assertEquals(expectedFilteredList, model.getFilteredRestaurantList());
+    }
+
     /**
      * Updates {@code model}'s filtered list to show only the restaurant at the given {@code targetIndex} in the
      * {@code model}'s restaurant directory.
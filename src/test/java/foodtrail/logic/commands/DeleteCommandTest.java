@@ -5,16 +5,23 @@ import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static foodtrail.logic.commands.CommandTestUtil.showRestaurantAtIndex;
 import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static foodtrail.testutil.TypicalIndexes.INDEX_SECOND_RESTAURANT;
+import static foodtrail.testutil.TypicalIndexes.INDEX_THIRD_RESTAURANT;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.POPEYES;
+import static foodtrail.testutil.TypicalRestaurants.SUBWAY;
 import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.Messages;
 import foodtrail.model.Model;
 import foodtrail.model.ModelManager;
@@ -31,8 +38,8 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_validIndexUnfilteredList_success() {
-        Restaurant restaurantToDelete = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
-        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_RESTAURANT);
+        Restaurant restaurantToDelete = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_SECOND_RESTAURANT);
 
         String restaurantDetails = "\n" + "Name: " + restaurantToDelete.getName() + "\n"
                 + "Phone: " + restaurantToDelete.getPhone() + "\n"
@@ -60,7 +67,7 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_validIndexFilteredList_success() {
-        showRestaurantAtIndex(model, INDEX_FIRST_RESTAURANT);
+        showRestaurantAtIndex(model, INDEX_SECOND_RESTAURANT);
 
         Restaurant restaurantToDelete = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_RESTAURANT);
@@ -117,11 +124,35 @@ public class DeleteCommandTest {
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
     }
 
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        IndexList indexes = IndexList.of(INDEX_FIRST_RESTAURANT)
+                .withRange(INDEX_THIRD_RESTAURANT, Index.fromOneBased(5));
+        List<Restaurant> restaurantsToDelete = indexes.select(model.getFilteredRestaurantList());
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_RESTAURANTS_SUCCESS, 4);
+
+        ModelManager expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
+        expectedModel.deleteRestaurants(restaurantsToDelete);
+
+        assertCommandSuccess(new DeleteCommand(indexes), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ASTONS, POPEYES, SUBWAY), model.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void execute_oneInvalidIndexOfMany_nothingDeleted() {
+        int size = model.getFilteredRestaurantList().size();
+        IndexList indexes = IndexList.of(INDEX_FIRST_RESTAURANT)
+                .withRange(Index.fromOneBased(size), Index.fromOneBased(size + 1));
+
+        assertCommandFailure(new DeleteCommand(indexes), model, Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
+    }
+
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes=" + IndexList.of(targetIndex)
+                + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
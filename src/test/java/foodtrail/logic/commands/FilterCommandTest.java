@@ -0,0 +1,114 @@
+package foodtrail.logic.commands;
+
+import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.model.Model;
+import foodtrail.model.ModelManager;
+import foodtrail.model.UserPrefs;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
+import foodtrail.testutil.RestaurantBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final TagSet NO_TAGS = TagSet.of(Collections.emptyList());
+
+    private Model model = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RestaurantHasTagsPredicate firstPredicate = new RestaurantHasTagsPredicate(tags("first"), NO_TAGS, NO_TAGS);
+        RestaurantHasTagsPredicate secondPredicate = new RestaurantHasTagsPredicate(NO_TAGS, tags("first"), NO_TAGS);
+
+        FilterCommand filterFirstCommand = new FilterCommand(firstPredicate);
+        FilterCommand filterSecondCommand = new FilterCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        FilterCommand filterFirstCommandCopy =
+                new FilterCommand(new RestaurantHasTagsPredicate(tags("first"), NO_TAGS, NO_TAGS));
+        assertTrue(filterFirstCommand.equals(filterFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_unknownTag_noRestaurantFound() {
+        RestaurantHasTagsPredicate predicate = new RestaurantHasTagsPredicate(tags("unknown"), NO_TAGS, NO_TAGS);
+        assertFilterSuccess(predicate, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_anyTags_multipleRestaurantsFound() {
+        RestaurantHasTagsPredicate predicate =
+                new RestaurantHasTagsPredicate(NO_TAGS, tags("fastfood", "western"), NO_TAGS);
+        assertFilterSuccess(predicate, Arrays.asList(ASTONS, MCDONALDS));
+    }
+
+    @Test
+    public void execute_noTags_restaurantsWithTagExcluded() {
+        RestaurantHasTagsPredicate predicate = new RestaurantHasTagsPredicate(NO_TAGS, NO_TAGS, tags("drinks"));
+        List<Restaurant> expectedRestaurants = getTypicalRestaurants();
+        expectedRestaurants.remove(KOI);
+        expectedRestaurants.sort(Model.COMPARATOR_BY_NAME);
+        assertFilterSuccess(predicate, expectedRestaurants);
+    }
+
+    @Test
+    public void execute_restaurantTaggedAfterFilter_filteredListUpdated() {
+        RestaurantHasTagsPredicate predicate = new RestaurantHasTagsPredicate(tags("drinks"), NO_TAGS, NO_TAGS);
+        new FilterCommand(predicate).execute(model);
+        assertEquals(Collections.singletonList(KOI), model.getFilteredRestaurantList());
+
+        Restaurant taggedMcDonalds = new RestaurantBuilder(MCDONALDS).withTags("fastfood", "drinks").build();
+        model.setRestaurant(MCDONALDS, taggedMcDonalds);
+        assertEquals(Arrays.asList(KOI, taggedMcDonalds), model.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        RestaurantHasTagsPredicate predicate = new RestaurantHasTagsPredicate(tags("halal"), NO_TAGS, NO_TAGS);
+        FilterCommand filterCommand = new FilterCommand(predicate);
+        String expected = FilterCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+
+    private void assertFilterSuccess(RestaurantHasTagsPredicate predicate, List<Restaurant> expectedRestaurants) {
+        String expectedMessage = String.format(FilterCommand.MESSAGE_FILTER_SUCCESS, expectedRestaurants.size());
+        expectedModel.updateFilteredRestaurantList(predicate);
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedRestaurants, model.getFilteredRestaurantList());
+    }
+
+    private static TagSet tags(String... tagNames) {
+        return TagSet.of(Arrays.stream(tagNames).map(Tag::of).toList());
+    }
+}
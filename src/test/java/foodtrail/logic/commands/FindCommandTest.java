@@ -74,7 +74,7 @@ public class FindCommandTest {
         FindCommand command = new FindCommand(predicate, keyword);
         expectedModel.updateFilteredRestaurantList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(MCDONALDS, ASTONS, ANNAS), model.getFilteredRestaurantList());
+        assertEquals(Arrays.asList(ANNAS, ASTONS, MCDONALDS), model.getFilteredRestaurantList());
     }
 
     @Test
@@ -0,0 +1,116 @@
+package foodtrail.logic.commands;
+
+import static foodtrail.logic.commands.CommandTestUtil.assertCommandFailure;
+import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.testutil.TypicalRestaurants.JOLLIBEE;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.model.Model;
+import foodtrail.model.ModelManager;
+import foodtrail.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "RestaurantImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_importsRestaurants() throws Exception {
+        Path filePath = copyToTestFolder("validRestaurants.csv");
+        Model expectedModel = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        expectedModel.addRestaurants(Arrays.asList(KFC, JOLLIBEE));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, 2, filePath);
+
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+        assertFalse(Files.exists(ImportCommand.getErrorFilePath(filePath)));
+    }
+
+    @Test
+    public void execute_invalidAndValidFile_importsValidRestaurantsAndWritesErrorFile() throws Exception {
+        Path filePath = copyToTestFolder("invalidAndValidRestaurants.csv");
+        Path errorFilePath = ImportCommand.getErrorFilePath(filePath);
+        Model expectedModel = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        expectedModel.addRestaurants(Arrays.asList(JOLLIBEE, KFC));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, 8, filePath)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 6, errorFilePath);
+
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+        assertTrue(Files.readString(errorFilePath).startsWith("Line 3: "));
+    }
+
+    @Test
+    public void execute_noRejectedRows_deletesOldErrorFile() throws Exception {
+        Path filePath = copyToTestFolder("validRestaurants.csv");
+        Files.writeString(ImportCommand.getErrorFilePath(filePath), "Line 2: outdated");
+
+        new ImportCommand(filePath).execute(model);
+        assertFalse(Files.exists(ImportCommand.getErrorFilePath(filePath)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_READ_FAILED, filePath, filePath));
+    }
+
+    @Test
+    public void getErrorFilePath() {
+        assertEquals(Paths.get("data", "new.csv" + ImportCommand.ERROR_FILE_SUFFIX),
+                ImportCommand.getErrorFilePath(Paths.get("data", "new.csv")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(Paths.get("new.csv"));
+        ImportCommand importJsonCommand = new ImportCommand(Paths.get("new.json"));
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(Paths.get("new.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(importJsonCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("new.csv");
+        ImportCommand importCommand = new ImportCommand(filePath);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+
+    private Path copyToTestFolder(String fileInTestDataFolder) throws Exception {
+        Path filePath = testFolder.resolve(fileInTestDataFolder);
+        Files.copy(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), filePath);
+        return filePath;
+    }
+}
@@ -2,24 +2,35 @@ package foodtrail.logic.commands;
 
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandFailure;
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.logic.commands.CommandTestUtil.assertEditedRestaurantStaysShown;
 import static foodtrail.logic.commands.CommandTestUtil.showRestaurantAtIndex;
 import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static foodtrail.testutil.TypicalIndexes.INDEX_SECOND_RESTAURANT;
+import static foodtrail.testutil.TypicalIndexes.INDEX_THIRD_RESTAURANT;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
 import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.Messages;
 import foodtrail.model.Model;
 import foodtrail.model.ModelManager;
 import foodtrail.model.UserPrefs;
+import foodtrail.model.restaurant.IsMarked;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
 import foodtrail.testutil.RestaurantBuilder;
 
 /**
@@ -32,8 +43,8 @@ public class MarkCommandTest {
 
     @Test
     public void execute_validIndexUnfilteredList_success() {
-        Restaurant restaurantToMark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
-        MarkCommand markCommand = new MarkCommand(INDEX_FIRST_RESTAURANT);
+        Restaurant restaurantToMark = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
+        MarkCommand markCommand = new MarkCommand(INDEX_SECOND_RESTAURANT);
 
         String restaurantDetails = "\n" + "Name: " + restaurantToMark.getName() + "\n"
                 + "Phone: " + restaurantToMark.getPhone() + "\n"
@@ -62,8 +73,8 @@ public class MarkCommandTest {
 
     @Test
     public void execute_restaurantAlreadyMarked_throwsCommandException() {
-        // Mark the first restaurant directly in the model
-        Restaurant restaurantToMark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
+        // Mark the second restaurant, which has tags, directly in the model
+        Restaurant restaurantToMark = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
         Restaurant alreadyMarkedRestaurant = new RestaurantBuilder(restaurantToMark).withIsMarked(true).build();
         model.setRestaurant(restaurantToMark, alreadyMarkedRestaurant);
 
@@ -74,7 +85,7 @@ public class MarkCommandTest {
                 .map(t -> t.tagName)
                 .collect(Collectors.joining(", "));
 
-        MarkCommand markCommand = new MarkCommand(INDEX_FIRST_RESTAURANT);
+        MarkCommand markCommand = new MarkCommand(INDEX_SECOND_RESTAURANT);
 
         assertCommandFailure(markCommand, model, String.format(MarkCommand.MESSAGE_RESTAURANT_ALREADY_MARKED,
                 restaurantDetails));
@@ -82,7 +93,7 @@ public class MarkCommandTest {
 
     @Test
     public void execute_validIndexFilteredList_success() {
-        showRestaurantAtIndex(model, INDEX_FIRST_RESTAURANT);
+        showRestaurantAtIndex(model, INDEX_SECOND_RESTAURANT);
 
         Restaurant restaurantToMark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
         MarkCommand markCommand = new MarkCommand(INDEX_FIRST_RESTAURANT);
@@ -100,7 +111,7 @@ public class MarkCommandTest {
         Model expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
         Restaurant markedRestaurant = new RestaurantBuilder(restaurantToMark).withIsMarked(true).build();
         expectedModel.setRestaurant(restaurantToMark, markedRestaurant);
-        showRestaurantAtIndex(expectedModel, INDEX_FIRST_RESTAURANT); // Update filtered list in expected model
+        showRestaurantAtIndex(expectedModel, INDEX_SECOND_RESTAURANT); // Update filtered list in expected model
 
         assertCommandSuccess(markCommand, model, expectedMessage, expectedModel);
     }
@@ -119,6 +130,28 @@ public class MarkCommandTest {
         assertCommandFailure(markCommand, model, Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_activeFind_markedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByKeywords(new RestaurantContainsKeywordsPredicate(List.of("bugis")));
+        Restaurant markedAstons = new RestaurantBuilder(ASTONS).withIsMarked(true).build();
+        assertEditedRestaurantStaysShown(new MarkCommand(INDEX_FIRST_RESTAURANT), model, markedAstons);
+    }
+
+    @Test
+    public void execute_activeTagFilter_markedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByTags(new RestaurantHasTagsPredicate(TagSet.of(List.of(Tag.of("drinks"))),
+                TagSet.of(List.of()), TagSet.of(List.of())));
+        Restaurant markedKoi = new RestaurantBuilder(KOI).withIsMarked(true).build();
+        assertEditedRestaurantStaysShown(new MarkCommand(INDEX_FIRST_RESTAURANT), model, markedKoi);
+    }
+
+    @Test
+    public void execute_activeFindPreview_markedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListIncrementally("bugis", () -> false);
+        Restaurant markedAstons = new RestaurantBuilder(ASTONS).withIsMarked(true).build();
+        assertEditedRestaurantStaysShown(new MarkCommand(INDEX_FIRST_RESTAURANT), model, markedAstons);
+    }
+
     @Test
     public void equals() {
         MarkCommand markFirstCommand = new MarkCommand(INDEX_FIRST_RESTAURANT);
@@ -141,11 +174,32 @@ public class MarkCommandTest {
         assertFalse(markFirstCommand.equals(markSecondCommand));
     }
 
+    @Test
+    public void execute_validIndexes_marksUnvisitedRestaurants() {
+        IndexList indexes = IndexList.of(INDEX_FIRST_RESTAURANT).withRange(INDEX_SECOND_RESTAURANT,
+                INDEX_THIRD_RESTAURANT);
+        Restaurant visitedRestaurant = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
+        model.setRestaurant(visitedRestaurant, visitedRestaurant.withIsMarked(new IsMarked(true)));
+
+        ModelManager expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
+        for (Index index : new Index[] {INDEX_FIRST_RESTAURANT, INDEX_THIRD_RESTAURANT}) {
+            Restaurant restaurant = expectedModel.getFilteredRestaurantList().get(index.getZeroBased());
+            expectedModel.setRestaurant(restaurant, restaurant.withIsMarked(new IsMarked(true)));
+        }
+        String expectedMessage = String.format(MarkCommand.MESSAGE_MARK_RESTAURANTS_SUCCESS, 2);
+
+        assertCommandSuccess(new MarkCommand(indexes), model, expectedMessage, expectedModel);
+
+        // marking them again changes nothing
+        assertCommandFailure(new MarkCommand(indexes), model, MarkCommand.MESSAGE_RESTAURANTS_ALREADY_MARKED);
+    }
+
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         MarkCommand markCommand = new MarkCommand(targetIndex);
-        String expected = MarkCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = MarkCommand.class.getCanonicalName() + "{targetIndexes=" + IndexList.of(targetIndex)
+                + "}";
         assertEquals(expected, markCommand.toString());
     }
 }
@@ -3,26 +3,36 @@ package foodtrail.logic.commands;
 import static foodtrail.logic.Messages.MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX;
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandFailure;
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.logic.commands.CommandTestUtil.assertEditedRestaurantStaysShown;
 import static foodtrail.logic.commands.CommandTestUtil.showRestaurantAtIndex;
 import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static foodtrail.testutil.TypicalIndexes.INDEX_SECOND_RESTAURANT;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
 import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.exceptions.CommandException;
 import foodtrail.model.Model;
 import foodtrail.model.ModelManager;
 import foodtrail.model.UserPrefs;
 import foodtrail.model.restaurant.Rating;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
+import foodtrail.testutil.RestaurantBuilder;
 
 /**
  * Integration + unit tests for {@link RateCommand}.
@@ -91,6 +101,28 @@ public class RateCommandTest {
         assertCommandFailure(cmd, model, MESSAGE_INVALID_RESTAURANT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_activeFind_ratedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByKeywords(new RestaurantContainsKeywordsPredicate(List.of("bugis")));
+        Restaurant ratedAstons = new RestaurantBuilder(ASTONS).withRating(4).build();
+        assertEditedRestaurantStaysShown(new RateCommand(INDEX_FIRST_RESTAURANT, 4), model, ratedAstons);
+    }
+
+    @Test
+    public void execute_activeTagFilter_ratedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByTags(new RestaurantHasTagsPredicate(TagSet.of(List.of(Tag.of("drinks"))),
+                TagSet.of(List.of()), TagSet.of(List.of())));
+        Restaurant ratedKoi = new RestaurantBuilder(KOI).withRating(5).build();
+        assertEditedRestaurantStaysShown(new RateCommand(INDEX_FIRST_RESTAURANT, 5), model, ratedKoi);
+    }
+
+    @Test
+    public void execute_activeFindPreview_ratedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListIncrementally("bugis", () -> false);
+        Restaurant ratedAstons = new RestaurantBuilder(ASTONS).withRating(4).build();
+        assertEditedRestaurantStaysShown(new RateCommand(INDEX_FIRST_RESTAURANT, 4), model, ratedAstons);
+    }
+
     @Test
     public void equals() {
         RateCommand a = new RateCommand(INDEX_FIRST_RESTAURANT, 3);
@@ -106,6 +138,24 @@ public class RateCommandTest {
         assertFalse(a.equals(d)); // different index
     }
 
+    @Test
+    public void execute_validIndexes_ratesRestaurantsWithOtherRatings() {
+        // The fourth and fifth restaurants are already rated 4
+        IndexList indexes = IndexList.of(Index.fromOneBased(4)).withRange(Index.fromOneBased(5),
+                Index.fromOneBased(6));
+
+        ModelManager expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
+        Restaurant sixthRestaurant = expectedModel.getFilteredRestaurantList().get(5);
+        expectedModel.setRestaurant(sixthRestaurant, sixthRestaurant.withRating(new Rating(4)));
+        String expectedMessage = String.format(RateCommand.MESSAGE_RATE_RESTAURANTS_SUCCESS, 1, 4);
+
+        assertCommandSuccess(new RateCommand(indexes, 4), model, expectedMessage, expectedModel);
+
+        // rating them again changes nothing
+        assertCommandFailure(new RateCommand(indexes, 4), model,
+                String.format(RateCommand.MESSAGE_RESTAURANTS_ALREADY_RATED, 4));
+    }
+
     @Test
     public void toStringMethod() {
         Index idx = Index.fromOneBased(1);
@@ -113,7 +163,7 @@ public class RateCommandTest {
         RateCommand cmd = new RateCommand(idx, ratingValue);
 
         String expected = String.format(
-                "RateCommand{index=%s, ratingValue=%d}", idx, ratingValue);
+                "RateCommand{indexes=%s, ratingValue=%d}", IndexList.of(idx), ratingValue);
 
         assertEquals(expected, cmd.toString());
     }
@@ -0,0 +1,88 @@
+package foodtrail.logic.commands;
+
+import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.testutil.TypicalRestaurants.ANNAS;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.POPEYES;
+import static foodtrail.testutil.TypicalRestaurants.SUBWAY;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.model.Model;
+import foodtrail.model.ModelManager;
+import foodtrail.model.UserPrefs;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantComparator;
+import foodtrail.model.restaurant.RestaurantSortField;
+import foodtrail.testutil.RestaurantBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RestaurantComparator byRating = new RestaurantComparator().thenBy(RestaurantSortField.RATING, false);
+        RestaurantComparator byPostal = new RestaurantComparator().thenBy(RestaurantSortField.POSTAL, true);
+
+        SortCommand sortByRatingCommand = new SortCommand(byRating);
+        SortCommand sortByPostalCommand = new SortCommand(byPostal);
+
+        // same object -> returns true
+        assertTrue(sortByRatingCommand.equals(sortByRatingCommand));
+
+        // same values -> returns true
+        assertTrue(sortByRatingCommand.equals(
+                new SortCommand(new RestaurantComparator().thenBy(RestaurantSortField.RATING, false))));
+
+        // different types -> returns false
+        assertFalse(sortByRatingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByRatingCommand.equals(null));
+
+        // different comparator -> returns false
+        assertFalse(sortByRatingCommand.equals(sortByPostalCommand));
+    }
+
+    @Test
+    public void execute_postalDescending_sortsShownRestaurants() {
+        RestaurantComparator comparator = new RestaurantComparator().thenBy(RestaurantSortField.POSTAL, false);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SORT_SUCCESS, comparator.getDescription());
+        expectedModel.updateSortedRestaurantList(comparator);
+        assertCommandSuccess(new SortCommand(comparator), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(KOI, SUBWAY, POPEYES, ANNAS, ASTONS, MCDONALDS, HAWKERCHAN),
+                model.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void execute_restaurantRatedAfterSort_keptInOrder() {
+        new SortCommand(new RestaurantComparator().thenBy(RestaurantSortField.RATING, false)).execute(model);
+        model.updateFilteredRestaurantList(restaurant -> restaurant.getRating().get().value >= 4);
+        assertEquals(Arrays.asList(SUBWAY, ANNAS, KOI, MCDONALDS), model.getFilteredRestaurantList());
+
+        Restaurant ratedKoi = new RestaurantBuilder(KOI).withRating(5).build();
+        model.setRestaurant(KOI, ratedKoi);
+        assertEquals(Arrays.asList(ratedKoi, SUBWAY, ANNAS, MCDONALDS), model.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        RestaurantComparator comparator = new RestaurantComparator().thenBy(RestaurantSortField.TAGS, false);
+        SortCommand sortCommand = new SortCommand(comparator);
+        String expected = SortCommand.class.getCanonicalName() + "{comparator=" + comparator + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
@@ -0,0 +1,43 @@
+package foodtrail.logic.commands;
+
+import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.metrics.MetricsRegistry;
+import foodtrail.model.Model;
+import foodtrail.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_showsReport() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.increment("commands.list");
+        metrics.recordDuration("parse", 1000);
+        assertCommandSuccess(new StatsCommand(metrics), model, metrics.getReport(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(1));
+        assertFalse(statsCommand.equals(new StatsCommand(new MetricsRegistry())));
+    }
+}
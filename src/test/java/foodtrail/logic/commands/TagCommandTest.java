@@ -2,9 +2,12 @@ package foodtrail.logic.commands;
 
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandFailure;
 import static foodtrail.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static foodtrail.logic.commands.CommandTestUtil.assertEditedRestaurantStaysShown;
 import static foodtrail.logic.commands.CommandTestUtil.showRestaurantAtIndex;
 import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static foodtrail.testutil.TypicalIndexes.INDEX_SECOND_RESTAURANT;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
 import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -12,19 +15,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.Messages;
 import foodtrail.model.Model;
 import foodtrail.model.ModelManager;
 import foodtrail.model.RestaurantDirectory;
 import foodtrail.model.UserPrefs;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
 import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
+import foodtrail.testutil.RestaurantBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for TagCommand.
@@ -135,19 +144,64 @@ public class TagCommandTest {
     @Test
     public void execute_duplicateTag_throwsCommandException() {
         // Get a restaurant that has at least one tag
-        Restaurant restaurantWithTags = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
+        Restaurant restaurantWithTags = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
         assertTrue(!restaurantWithTags.getTags().isEmpty(), "Test requires the restaurant to have at least one tag.");
 
         // Get an existing tag to try and add again
         Tag existingTag = restaurantWithTags.getTags().iterator().next();
         Set<Tag> duplicateTagSet = Collections.singleton(existingTag);
 
-        TagCommand tagCommand = new TagCommand(INDEX_FIRST_RESTAURANT, duplicateTagSet);
+        TagCommand tagCommand = new TagCommand(INDEX_SECOND_RESTAURANT, duplicateTagSet);
         String expectedMessage = String.format(TagCommand.MESSAGE_DUPLICATE_TAG, "'" + existingTag.tagName + "'");
         assertCommandFailure(tagCommand, model, expectedMessage);
     }
 
 
+    @Test
+    public void execute_validIndexes_tagsRestaurantsWithoutTag() {
+        // The fifth restaurant already has the tag
+        IndexList indexes = IndexList.of(Index.fromOneBased(4)).withRange(Index.fromOneBased(5),
+                Index.fromOneBased(5));
+        Set<Tag> tags = Collections.singleton(Tag.of("fastfood"));
+
+        ModelManager expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
+        Restaurant fourthRestaurant = expectedModel.getFilteredRestaurantList().get(3);
+        expectedModel.setRestaurant(fourthRestaurant,
+                new RestaurantBuilder(fourthRestaurant).withTags("bubbletea", "drinks", "fastfood").build());
+        String expectedMessage = String.format(TagCommand.MESSAGE_ADD_TAG_TO_RESTAURANTS_SUCCESS, "'fastfood'", 1);
+
+        assertCommandSuccess(new TagCommand(indexes, tags), model, expectedMessage, expectedModel);
+
+        // tagging them again changes nothing
+        assertCommandFailure(new TagCommand(indexes, tags), model,
+                String.format(TagCommand.MESSAGE_RESTAURANTS_ALREADY_TAGGED, "'fastfood'"));
+    }
+
+    @Test
+    public void execute_activeFind_taggedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByKeywords(new RestaurantContainsKeywordsPredicate(List.of("bugis")));
+        Restaurant taggedMcDonalds = new RestaurantBuilder(MCDONALDS).withTags("fastfood", "halal").build();
+        assertEditedRestaurantStaysShown(new TagCommand(INDEX_SECOND_RESTAURANT, Set.of(new Tag("halal"))), model,
+                taggedMcDonalds);
+    }
+
+    @Test
+    public void execute_activeTagFilter_taggedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListByTags(new RestaurantHasTagsPredicate(TagSet.of(List.of(Tag.of("drinks"))),
+                TagSet.of(List.of()), TagSet.of(List.of())));
+        Restaurant taggedKoi = new RestaurantBuilder(KOI).withTags("bubbletea", "drinks", "tea").build();
+        assertEditedRestaurantStaysShown(new TagCommand(INDEX_FIRST_RESTAURANT, Set.of(new Tag("tea"))), model,
+                taggedKoi);
+    }
+
+    @Test
+    public void execute_activeFindPreview_taggedRestaurantStaysShown() {
+        model.updateFilteredRestaurantListIncrementally("bugis", () -> false);
+        Restaurant taggedMcDonalds = new RestaurantBuilder(MCDONALDS).withTags("fastfood", "halal").build();
+        assertEditedRestaurantStaysShown(new TagCommand(INDEX_SECOND_RESTAURANT, Set.of(new Tag("halal"))), model,
+                taggedMcDonalds);
+    }
+
     @Test
     public void equals() {
         Set<Tag> newTags = new LinkedHashSet<>();
@@ -33,7 +33,7 @@ public class UnmarkCommandTest {
     @Test
     public void execute_validIndexUnfilteredList_success() {
         // Mark the restaurant first so it can be unmarked
-        Restaurant restaurantToUnmark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
+        Restaurant restaurantToUnmark = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
         Restaurant markedRestaurant = new RestaurantBuilder(restaurantToUnmark).withIsMarked(true).build();
         model.setRestaurant(restaurantToUnmark, markedRestaurant);
 
@@ -44,7 +44,7 @@ public class UnmarkCommandTest {
                 .map(t -> t.tagName)
                 .collect(Collectors.joining(", "));
 
-        UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_FIRST_RESTAURANT);
+        UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_SECOND_RESTAURANT);
 
         String expectedMessage = String.format(UnmarkCommand.MESSAGE_UNMARK_RESTAURANT_SUCCESS,
                 restaurantDetails);
@@ -66,12 +66,12 @@ public class UnmarkCommandTest {
 
     @Test
     public void execute_restaurantNotMarked_throwsCommandException() {
-        Restaurant restaurantToUnmark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
+        Restaurant restaurantToUnmark = model.getFilteredRestaurantList().get(INDEX_SECOND_RESTAURANT.getZeroBased());
         // Ensure the restaurant is not marked
         Restaurant notMarkedRestaurant = new RestaurantBuilder(restaurantToUnmark).withIsMarked(false).build();
         model.setRestaurant(restaurantToUnmark, notMarkedRestaurant);
 
-        UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_FIRST_RESTAURANT);
+        UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_SECOND_RESTAURANT);
 
         String restaurantDetails = "\n" + "Name: " + notMarkedRestaurant.getName() + "\n"
                 + "Phone: " + notMarkedRestaurant.getPhone() + "\n"
@@ -86,7 +86,7 @@ public class UnmarkCommandTest {
 
     @Test
     public void execute_validIndexFilteredList_success() {
-        showRestaurantAtIndex(model, INDEX_FIRST_RESTAURANT);
+        showRestaurantAtIndex(model, INDEX_SECOND_RESTAURANT);
 
         // Mark the restaurant first so it can be unmarked
         Restaurant restaurantToUnmark = model.getFilteredRestaurantList().get(INDEX_FIRST_RESTAURANT.getZeroBased());
@@ -106,7 +106,7 @@ public class UnmarkCommandTest {
                 restaurantDetails);
 
         Model expectedModel = new ModelManager(model.getRestaurantDirectory(), new UserPrefs());
-        showRestaurantAtIndex(expectedModel, INDEX_FIRST_RESTAURANT);
+        showRestaurantAtIndex(expectedModel, INDEX_SECOND_RESTAURANT);
         Restaurant expectedRestaurantToUnmark = expectedModel.getFilteredRestaurantList()
                 .get(INDEX_FIRST_RESTAURANT.getZeroBased());
         Restaurant expectedMarkedRestaurant = new RestaurantBuilder(expectedRestaurantToUnmark)
@@ -7,6 +7,8 @@ import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 
 import org.junit.jupiter.api.Test;
 
+import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.commands.DeleteCommand;
 
 /**
@@ -23,6 +25,8 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_RESTAURANT));
+        assertParseSuccess(parser, "1,3-4", new DeleteCommand(IndexList.of(INDEX_FIRST_RESTAURANT)
+                .withRange(Index.fromOneBased(3), Index.fromOneBased(4))));
     }
 
     @Test
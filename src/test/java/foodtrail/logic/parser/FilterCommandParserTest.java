@@ -0,0 +1,59 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.logic.commands.FilterCommand;
+import foodtrail.logic.commands.TagCommand;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ", FilterCommand.MESSAGE_NO_TAGS + "\n" + FilterCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, "halal t/halal",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyTag_throwsParseException() {
+        assertParseFailure(parser, " t/halal not/", TagCommand.MESSAGE_EMPTY_TAG);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " or/#halal", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new RestaurantHasTagsPredicate(
+                tags("halal"), tags("chicken", "burger"), tags("fast food")));
+        assertParseSuccess(parser, " t/halal or/chicken or/burger not/fast food", expectedFilterCommand);
+
+        // groups in any order
+        assertParseSuccess(parser, " or/burger not/fast food t/halal or/chicken", expectedFilterCommand);
+
+        // only one group
+        assertParseSuccess(parser, " not/drinks",
+                new FilterCommand(new RestaurantHasTagsPredicate(tags(), tags(), tags("drinks"))));
+    }
+
+    private static TagSet tags(String... tagNames) {
+        return TagSet.of(Arrays.stream(tagNames).map(Tag::of).toList());
+    }
+}
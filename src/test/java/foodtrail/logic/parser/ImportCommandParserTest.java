@@ -0,0 +1,35 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.logic.commands.ImportCommand;
+import foodtrail.storage.RestaurantImporter;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "restaurants.txt", RestaurantImporter.MESSAGE_UNSUPPORTED_FILE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " my restaurants.csv ", new ImportCommand(Paths.get("my restaurants.csv")));
+        assertParseSuccess(parser, "data/restaurants.JSON", new ImportCommand(Paths.get("data",
+                "restaurants.JSON")));
+    }
+}
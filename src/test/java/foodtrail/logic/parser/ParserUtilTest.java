@@ -1,6 +1,7 @@
 package foodtrail.logic.parser;
 
 import static foodtrail.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static foodtrail.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static foodtrail.testutil.Assert.assertThrows;
 import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import foodtrail.commons.core.index.Index;
+import foodtrail.commons.core.index.IndexList;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.restaurant.Address;
 import foodtrail.model.restaurant.Name;
@@ -53,6 +56,22 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_RESTAURANT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexList_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexList("1, 2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexList("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexList("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexList("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexList("5-3"));
+    }
+
+    @Test
+    public void parseIndexList_validInput_success() throws Exception {
+        assertEquals(IndexList.of(INDEX_FIRST_RESTAURANT), ParserUtil.parseIndexList("  1  "));
+        assertEquals(IndexList.of(Index.fromOneBased(52)).withRange(Index.fromOneBased(3), Index.fromOneBased(40)),
+                ParserUtil.parseIndexList("3-40,52"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
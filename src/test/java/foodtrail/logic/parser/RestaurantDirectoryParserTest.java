@@ -7,29 +7,40 @@ import static foodtrail.testutil.TypicalIndexes.INDEX_FIRST_RESTAURANT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import foodtrail.commons.metrics.MetricsRegistry;
 import foodtrail.logic.commands.AddCommand;
 import foodtrail.logic.commands.ClearCommand;
 import foodtrail.logic.commands.DeleteCommand;
 import foodtrail.logic.commands.EditCommand;
 import foodtrail.logic.commands.EditCommand.EditRestaurantDescriptor;
 import foodtrail.logic.commands.ExitCommand;
+import foodtrail.logic.commands.FilterCommand;
 import foodtrail.logic.commands.FindCommand;
 import foodtrail.logic.commands.HelpCommand;
+import foodtrail.logic.commands.ImportCommand;
 import foodtrail.logic.commands.ListCommand;
+import foodtrail.logic.commands.SortCommand;
+import foodtrail.logic.commands.StatsCommand;
 import foodtrail.logic.commands.TagCommand;
 import foodtrail.logic.commands.UnrateCommand;
 import foodtrail.logic.commands.UntagCommand;
 import foodtrail.logic.parser.exceptions.ParseException;
 import foodtrail.model.restaurant.Restaurant;
+import foodtrail.model.restaurant.RestaurantComparator;
 import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.model.restaurant.RestaurantHasTagsPredicate;
+import foodtrail.model.restaurant.RestaurantSortField;
 import foodtrail.model.restaurant.Tag;
+import foodtrail.model.restaurant.TagSet;
 import foodtrail.testutil.EditRestaurantDescriptorBuilder;
 import foodtrail.testutil.RestaurantBuilder;
 import foodtrail.testutil.RestaurantUtil;
@@ -103,12 +114,42 @@ public class RestaurantDirectoryParserTest {
         assertEquals(new FindCommand(new RestaurantContainsKeywordsPredicate(keywords), keyword), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        TagSet tags = TagSet.of(Collections.singletonList(Tag.of("halal")));
+        TagSet noTags = TagSet.of(Collections.emptyList());
+        FilterCommand command = (FilterCommand) parser.parseCommand(
+                FilterCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_TAG + "halal");
+        assertEquals(new FilterCommand(new RestaurantHasTagsPredicate(tags, noTags, noTags)), command);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " visited desc");
+        assertEquals(new SortCommand(new RestaurantComparator().thenBy(RestaurantSortField.VISITED, false)), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/new.csv");
+        assertEquals(new ImportCommand(Paths.get("data", "new.csv")), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        assertEquals(new StatsCommand(metrics),
+                new RestaurantDirectoryParser(metrics).parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(metrics),
+                new RestaurantDirectoryParser(metrics).parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
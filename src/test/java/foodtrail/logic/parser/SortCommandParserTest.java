@@ -0,0 +1,55 @@
+package foodtrail.logic.parser;
+
+import static foodtrail.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodtrail.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.logic.commands.SortCommand;
+import foodtrail.model.restaurant.RestaurantComparator;
+import foodtrail.model.restaurant.RestaurantSortField;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidKey_throwsParseException() {
+        assertParseFailure(parser, "distance",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // order without a key
+        assertParseFailure(parser, "desc rating",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // two orders for one key
+        assertParseFailure(parser, "rating asc desc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_duplicateKey_throwsParseException() {
+        assertParseFailure(parser, "rating postal rating asc", SortCommandParser.MESSAGE_DUPLICATE_KEY);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        SortCommand expectedSortCommand = new SortCommand(new RestaurantComparator()
+                .thenBy(RestaurantSortField.RATING, false)
+                .thenBy(RestaurantSortField.POSTAL, true));
+        assertParseSuccess(parser, "rating desc postal asc", expectedSortCommand);
+
+        // default orders, ignoring case and extra whitespace
+        assertParseSuccess(parser, "  Rating   POSTAL ", expectedSortCommand);
+
+        // order differs from default
+        assertParseSuccess(parser, "tags asc", new SortCommand(new RestaurantComparator()
+                .thenBy(RestaurantSortField.TAGS, true)));
+    }
+}
@@ -2,21 +2,30 @@ package foodtrail.model;
 
 import static foodtrail.model.Model.PREDICATE_SHOW_ALL_RESTAURANTS;
 import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.ANNAS;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
 import static foodtrail.testutil.TypicalRestaurants.KOI;
 import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import foodtrail.commons.core.GuiSettings;
+import foodtrail.model.restaurant.Restaurant;
 import foodtrail.model.restaurant.RestaurantContainsKeywordsPredicate;
+import foodtrail.testutil.EventRecorder;
+import foodtrail.testutil.RestaurantBuilder;
 import foodtrail.testutil.RestaurantDirectoryBuilder;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class ModelManagerTest {
 
@@ -93,6 +102,174 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredRestaurantList().remove(0));
     }
 
+    @Test
+    public void updateFilteredRestaurantListByKeywords_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredRestaurantListByKeywords(null));
+    }
+
+    @Test
+    public void updateFilteredRestaurantListByKeywords_sameResultsAsPredicate() {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        ModelManager expectedModelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        RestaurantContainsKeywordsPredicate predicate =
+                new RestaurantContainsKeywordsPredicate(Arrays.asList("bugis", "thé"));
+
+        modelManager.updateFilteredRestaurantListByKeywords(predicate);
+        expectedModelManager.updateFilteredRestaurantList(predicate);
+        assertEquals(expectedModelManager.getFilteredRestaurantList(), modelManager.getFilteredRestaurantList());
+
+        // edited restaurant that now matches is shown
+        Restaurant editedHawkerChan = new RestaurantBuilder(HAWKERCHAN).withName("Hawker Chan Bugis").build();
+        modelManager.setRestaurant(HAWKERCHAN, editedHawkerChan);
+        expectedModelManager.setRestaurant(HAWKERCHAN, editedHawkerChan);
+        assertEquals(expectedModelManager.getFilteredRestaurantList(), modelManager.getFilteredRestaurantList());
+        assertTrue(modelManager.getFilteredRestaurantList().contains(editedHawkerChan));
+    }
+
+    @Test
+    public void updateFilteredRestaurantListIncrementally_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                modelManager.updateFilteredRestaurantListIncrementally(null, () -> false));
+        assertThrows(NullPointerException.class, () ->
+                modelManager.updateFilteredRestaurantListIncrementally("kfc", null));
+    }
+
+    @Test
+    public void updateFilteredRestaurantListIncrementally_sameResultsAsPredicate() {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        ModelManager expectedModelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+
+        for (String keyword : Arrays.asList("b", "bu", "bugis", "t", "thé")) {
+            assertTrue(modelManager.updateFilteredRestaurantListIncrementally(keyword, () -> false));
+            expectedModelManager.updateFilteredRestaurantList(
+                    new RestaurantContainsKeywordsPredicate(Arrays.asList(keyword)));
+            assertEquals(expectedModelManager.getFilteredRestaurantList(), modelManager.getFilteredRestaurantList());
+        }
+
+        // edited restaurant that now matches is shown
+        Restaurant editedHawkerChan = new RestaurantBuilder(HAWKERCHAN).withName("Hawker Chan The Original").build();
+        modelManager.setRestaurant(HAWKERCHAN, editedHawkerChan);
+        expectedModelManager.setRestaurant(HAWKERCHAN, editedHawkerChan);
+        assertEquals(expectedModelManager.getFilteredRestaurantList(), modelManager.getFilteredRestaurantList());
+        assertTrue(modelManager.getFilteredRestaurantList().contains(editedHawkerChan));
+    }
+
+    @Test
+    public void updateFilteredRestaurantListIncrementally_cancelled_filterUnchanged() {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        modelManager.updateFilteredRestaurantListIncrementally("bugis", () -> false);
+        List<Restaurant> shownBefore = new ArrayList<>(modelManager.getFilteredRestaurantList());
+
+        assertFalse(modelManager.updateFilteredRestaurantListIncrementally("zzz", () -> true));
+        assertEquals(shownBefore, modelManager.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void restoreFilteredRestaurantList_afterIncrementalUpdates_restoresEarlierFilter() {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        modelManager.updateFilteredRestaurantList(new RestaurantContainsKeywordsPredicate(List.of("bugis")));
+        List<Restaurant> shownBefore = new ArrayList<>(modelManager.getFilteredRestaurantList());
+        modelManager.updateFilteredRestaurantListIncrementally("k", () -> false);
+        modelManager.updateFilteredRestaurantListIncrementally("kf", () -> false);
+
+        assertTrue(modelManager.restoreFilteredRestaurantList());
+        assertEquals(shownBefore, modelManager.getFilteredRestaurantList());
+        assertFalse(modelManager.restoreFilteredRestaurantList());
+    }
+
+    @Test
+    public void restoreFilteredRestaurantList_filterUpdatedAfterIncrementalUpdate_returnsFalse() {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        assertFalse(modelManager.restoreFilteredRestaurantList());
+
+        modelManager.updateFilteredRestaurantListIncrementally("bugis", () -> false);
+        modelManager.updateFilteredRestaurantList(new RestaurantContainsKeywordsPredicate(List.of("bugis")));
+        List<Restaurant> shownBefore = new ArrayList<>(modelManager.getFilteredRestaurantList());
+
+        assertFalse(modelManager.restoreFilteredRestaurantList());
+        assertEquals(shownBefore, modelManager.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void updateSortedRestaurantList_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateSortedRestaurantList(null));
+    }
+
+    @Test
+    public void updateFilteredRestaurantList_recording_recordsFilterEvent() throws Exception {
+        modelManager = new ModelManager(getTypicalRestaurantDirectory(), new UserPrefs());
+        List<RecordedEvent> events;
+        try (EventRecorder recorder = new EventRecorder("foodtrail.Filter")) {
+            modelManager.updateFilteredRestaurantListByKeywords(
+                    new RestaurantContainsKeywordsPredicate(Arrays.asList("kfc")));
+            events = recorder.stop();
+        }
+
+        assertEquals(1, events.size());
+        assertEquals("keywords", events.get(0).getString("kind"));
+        assertEquals(modelManager.getFilteredRestaurantList().size(), events.get(0).getInt("matchedCount"));
+        assertEquals(getTypicalRestaurantDirectory().getRestaurantList().size(),
+                events.get(0).getInt("restaurantCount"));
+    }
+
+    @Test
+    public void setSortDurationListener_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setSortDurationListener(null));
+    }
+
+    @Test
+    public void updateSortedRestaurantList_sortDurationListenerSet_passesDurations() {
+        List<Long> durations = new ArrayList<>();
+        modelManager.setSortDurationListener(durations::add);
+        modelManager.sortRestaurantListByName();
+        modelManager.updateSortedRestaurantList(Model.COMPARATOR_BY_RATING);
+        assertEquals(2, durations.size());
+        assertTrue(durations.stream().allMatch(duration -> duration >= 0));
+    }
+
+    @Test
+    public void getFilteredRestaurantList_noOrderChosen_orderedByName() {
+        modelManager = new ModelManager(new RestaurantDirectoryBuilder().withRestaurant(MCDONALDS)
+                .withRestaurant(KOI).withRestaurant(HAWKERCHAN).build(), new UserPrefs());
+        assertEquals(Arrays.asList(HAWKERCHAN, KOI, MCDONALDS), modelManager.getFilteredRestaurantList());
+    }
+
+    @Test
+    public void sortRestaurantListByName_directoryNotReordered() {
+        modelManager = new ModelManager(new RestaurantDirectoryBuilder().withRestaurant(MCDONALDS)
+                .withRestaurant(KOI).withRestaurant(HAWKERCHAN).build(), new UserPrefs());
+        modelManager.sortRestaurantListByName();
+        assertEquals(Arrays.asList(HAWKERCHAN, KOI, MCDONALDS), modelManager.getFilteredRestaurantList());
+        assertEquals(Arrays.asList(MCDONALDS, KOI, HAWKERCHAN),
+                modelManager.getRestaurantDirectory().getRestaurantList());
+
+        // added and edited restaurants are kept in order
+        modelManager.addRestaurant(ANNAS);
+        Restaurant editedKoi = new RestaurantBuilder(KOI).withName("Zen KOI").build();
+        modelManager.setRestaurant(KOI, editedKoi);
+        assertEquals(Arrays.asList(ANNAS, HAWKERCHAN, MCDONALDS, editedKoi), modelManager.getFilteredRestaurantList());
+        assertEquals(Arrays.asList(MCDONALDS, editedKoi, HAWKERCHAN, ANNAS),
+                modelManager.getRestaurantDirectory().getRestaurantList());
+    }
+
+    @Test
+    public void updateSortedRestaurantList_ratingAndVisited_sortsFilteredList() {
+        Restaurant visitedKoi = new RestaurantBuilder(KOI).withIsMarked(true).build();
+        modelManager = new ModelManager(new RestaurantDirectoryBuilder().withRestaurant(MCDONALDS)
+                .withRestaurant(visitedKoi).withRestaurant(HAWKERCHAN).build(), new UserPrefs());
+
+        // equal ratings are ordered by name
+        modelManager.updateSortedRestaurantList(Model.COMPARATOR_BY_RATING);
+        assertEquals(Arrays.asList(visitedKoi, MCDONALDS, HAWKERCHAN), modelManager.getFilteredRestaurantList());
+
+        modelManager.updateSortedRestaurantList(Model.COMPARATOR_BY_VISITED);
+        assertEquals(Arrays.asList(visitedKoi, HAWKERCHAN, MCDONALDS), modelManager.getFilteredRestaurantList());
+
+        // sorting applies on top of the filter
+        modelManager.updateFilteredRestaurantList(restaurant -> restaurant != visitedKoi);
+        assertEquals(Arrays.asList(HAWKERCHAN, MCDONALDS), modelManager.getFilteredRestaurantList());
+    }
+
     @Test
     public void equals() {
         RestaurantDirectory restaurantDirectory =
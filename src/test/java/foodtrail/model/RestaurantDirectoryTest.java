@@ -8,13 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +53,16 @@ public class RestaurantDirectoryTest {
         assertThrows(DuplicateRestaurantException.class, () -> restaurantDirectory.resetData(newData));
     }
 
+    @Test
+    public void resetData_withRestaurantDirectory_copiesRestaurantsAndIdentities() {
+        RestaurantDirectory newData = getTypicalRestaurantDirectory();
+        restaurantDirectory.addRestaurant(new RestaurantBuilder().withName("Old Cafe").build());
+        restaurantDirectory.resetData(newData);
+        assertEquals(newData.getRestaurantList(), restaurantDirectory.getRestaurantList());
+        assertTrue(restaurantDirectory.hasRestaurant(MCDONALDS));
+        assertFalse(restaurantDirectory.hasRestaurant(new RestaurantBuilder().withName("Old Cafe").build()));
+    }
+
     @Test
     public void hasRestaurant_nullRestaurant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> restaurantDirectory.hasRestaurant(null));
@@ -85,47 +92,6 @@ public class RestaurantDirectoryTest {
         assertThrows(UnsupportedOperationException.class, () -> restaurantDirectory.getRestaurantList().remove(0));
     }
 
-    @Test
-    public void sortByNameAscendingCaseInsensitiveWithTypicalData() {
-        RestaurantDirectory directory = getTypicalRestaurantDirectory();
-
-        // Build expected order by sorting a copy (case-insensitive by name)
-        Comparator<Restaurant> byNameIgnoreCase = Comparator.comparing(r -> r.getName().fullName.toLowerCase());
-
-        List<Restaurant> before = new ArrayList<>(directory.getRestaurantList());
-        List<Restaurant> expected = before.stream()
-                .sorted(byNameIgnoreCase)
-                .collect(Collectors.toList());
-
-        // When: sort is applied on the directory
-        directory.sortRestaurant(byNameIgnoreCase);
-
-        // Then: order matches expected
-        assertEquals(expected, directory.getRestaurantList());
-    }
-
-    @Test
-    public void sort_nullComparator_throwsNullPointerException() {
-        RestaurantDirectory directory = getTypicalRestaurantDirectory();
-        assertThrows(NullPointerException.class, () -> directory.sortRestaurant(null));
-    }
-
-    @Test
-    public void sort_preservesAllElements_noLossNoDuplicate() {
-        RestaurantDirectory directory = getTypicalRestaurantDirectory();
-
-        List<Restaurant> snapshotBefore = new ArrayList<>(directory.getRestaurantList());
-        Comparator<Restaurant> byNameIgnoreCase = Comparator.comparing(r -> r.getName().fullName.toLowerCase());
-
-        directory.sortRestaurant(byNameIgnoreCase);
-
-        List<Restaurant> after = new ArrayList<>(directory.getRestaurantList());
-        // same size
-        assertEquals(snapshotBefore.size(), after.size());
-        // same multiset of elements (order can change, elements must be identical)
-        assertTrue(after.containsAll(snapshotBefore) && snapshotBefore.containsAll(after));
-    }
-
     @Test
     public void toStringMethod() {
         String expected = RestaurantDirectory.class.getCanonicalName() + "{restaurants="
@@ -133,6 +99,17 @@ public class RestaurantDirectoryTest {
         assertEquals(expected, restaurantDirectory.toString());
     }
 
+    @Test
+    public void getVersion_mutation_increasesVersion() {
+        long version = restaurantDirectory.getVersion();
+        restaurantDirectory.addRestaurant(MCDONALDS);
+        assertTrue(restaurantDirectory.getVersion() > version);
+
+        version = restaurantDirectory.getVersion();
+        restaurantDirectory.resetData(new RestaurantDirectory());
+        assertTrue(restaurantDirectory.getVersion() > version);
+    }
+
     /**
      * A stub ReadOnlyRestaurantDirectory whose restaurants list can violate
      * interface constraints.
@@ -148,6 +125,11 @@ public class RestaurantDirectoryTest {
         public ObservableList<Restaurant> getRestaurantList() {
             return restaurants;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
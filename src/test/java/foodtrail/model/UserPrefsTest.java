@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setRestaurantDirectoryFilePath(null));
     }
 
+    @Test
+    public void setRestaurantDirectoryBackupCount_negativeCount_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRestaurantDirectoryBackupCount(-1));
+    }
+
+    @Test
+    public void setRestaurantDirectoryFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setRestaurantDirectoryFormat(null));
+    }
+
 }
@@ -50,6 +50,12 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("2 Orchard Turn, #4-01 ION Orchard, Singapore 238801")); // long address
     }
 
+    @Test
+    public void getPostalCode() {
+        assertEquals(120123, new Address("123 Clementi Ave 3, #01-01, Singapore 120123").getPostalCode());
+        assertEquals(58972, new Address("78 Smith St, Singapore 058972").getPostalCode());
+    }
+
     @Test
     public void equals() {
         Address address = new Address("459 Clementi Ave 3, #10-401, Singapore 120459");
@@ -0,0 +1,134 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.testutil.RestaurantBuilder;
+
+public class IncrementalSearchTest {
+
+    private static final int FILLER_COUNT = 3072;
+    private static final int BISTRO_COUNT = 10;
+
+    private final UniqueRestaurantList restaurants = new UniqueRestaurantList();
+    private final IncrementalSearch search = restaurants.newIncrementalSearch();
+    private int cancellationChecks = 0;
+    private final BooleanSupplier neverCancelled = () -> {
+        cancellationChecks++;
+        return false;
+    };
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> search.search(null, neverCancelled));
+        assertThrows(NullPointerException.class, () -> search.search("kfc", null));
+    }
+
+    @Test
+    public void search_keywords_matchesKeywordPredicate() {
+        restaurants.setRestaurants(getTypicalRestaurants());
+        for (String keyword : List.of("a", "ko", "hawker", "  CHAN ", "the", "zzz")) {
+            assertEquals(getMatches(keyword), search.search(keyword, neverCancelled).get());
+        }
+    }
+
+    @Test
+    public void search_extendedKeyword_onlyTestsLastMatches() {
+        restaurants.setRestaurants(getBistrosAndFillers());
+
+        // Too short for the search index, so every restaurant is tested
+        assertEquals(BISTRO_COUNT, search.search("b", neverCancelled).get().size());
+        assertEquals(1 + FILLER_COUNT / 1024, cancellationChecks);
+
+        // Only the bistros are tested, even though the keyword is still too short for the search index
+        cancellationChecks = 0;
+        assertEquals(getMatches("bi"), search.search("bi", neverCancelled).get());
+        assertEquals(1, cancellationChecks);
+
+        assertEquals(getMatches("istro 1"), search.search("istro 1", neverCancelled).get());
+    }
+
+    @Test
+    public void search_unrelatedKeyword_testsEveryRestaurant() {
+        restaurants.setRestaurants(getBistrosAndFillers());
+        search.search("bi", neverCancelled);
+
+        cancellationChecks = 0;
+        assertEquals(getMatches("f"), search.search("f", neverCancelled).get());
+        assertEquals(1 + FILLER_COUNT / 1024, cancellationChecks);
+    }
+
+    @Test
+    public void search_listChangedSinceLastSearch_searchesAgain() {
+        restaurants.setRestaurants(getBistrosAndFillers());
+        search.search("bi", neverCancelled);
+
+        Restaurant newBistro = new RestaurantBuilder().withName("Bistro New").withPhone("80000000").build();
+        restaurants.add(newBistro);
+        Set<Restaurant> matches = search.search("bis", neverCancelled).get();
+        assertEquals(BISTRO_COUNT + 1, matches.size());
+        assertTrue(matches.contains(newBistro));
+    }
+
+    @Test
+    public void search_cancelled_returnsEmpty() {
+        restaurants.setRestaurants(getBistrosAndFillers());
+        assertEquals(Optional.empty(), search.search("b", () -> true));
+
+        // Cancelled after the search has started
+        BooleanSupplier cancelledPartway = () -> ++cancellationChecks > 1;
+        assertEquals(Optional.empty(), search.search("b", cancelledPartway));
+    }
+
+    @Test
+    public void search_afterCancelledSearch_refinesLastCompletedSearch() {
+        restaurants.setRestaurants(getBistrosAndFillers());
+        search.search("bi", neverCancelled);
+        assertEquals(Optional.empty(), search.search("f", () -> true));
+
+        cancellationChecks = 0;
+        assertEquals(getMatches("bis"), search.search("bis", neverCancelled).get());
+        assertEquals(1, cancellationChecks);
+    }
+
+    /**
+     * Returns the restaurants in the list that contain {@code keyword}, as found by testing every restaurant.
+     */
+    private Set<Restaurant> getMatches(String keyword) {
+        RestaurantContainsKeywordsPredicate predicate =
+                new RestaurantContainsKeywordsPredicate(Collections.singletonList(keyword));
+        Set<Restaurant> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(restaurants.asUnmodifiableObservableList().stream()
+                .filter(predicate).collect(Collectors.toList()));
+        return matches;
+    }
+
+    /**
+     * Returns a few restaurants with "b" in their names, followed by many without "b" in any field.
+     */
+    private static List<Restaurant> getBistrosAndFillers() {
+        List<Restaurant> bistrosAndFillers = new ArrayList<>();
+        for (int i = 0; i < BISTRO_COUNT; i++) {
+            bistrosAndFillers.add(new RestaurantBuilder().withName("Bistro " + i)
+                    .withPhone(String.valueOf(90_000_000 + i)).build());
+        }
+        for (int i = 0; i < FILLER_COUNT; i++) {
+            bistrosAndFillers.add(new RestaurantBuilder().withName("Filler " + i)
+                    .withPhone(String.valueOf(60_000_000 + i)).build());
+        }
+        return bistrosAndFillers;
+    }
+}
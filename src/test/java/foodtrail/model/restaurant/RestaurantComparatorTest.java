@@ -0,0 +1,95 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.TypicalRestaurants.ANNAS;
+import static foodtrail.testutil.TypicalRestaurants.ASTONS;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.POPEYES;
+import static foodtrail.testutil.TypicalRestaurants.SUBWAY;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.testutil.RestaurantBuilder;
+
+public class RestaurantComparatorTest {
+
+    @Test
+    public void compare_noFields_sameAsCaseInsensitiveName() {
+        Comparator<Restaurant> byName = Comparator.comparing((Restaurant r) -> r.getName().fullName,
+                String.CASE_INSENSITIVE_ORDER).thenComparing(r -> r.getName().fullName);
+        List<Restaurant> restaurants = new ArrayList<>(getTypicalRestaurants());
+        restaurants.add(new RestaurantBuilder().withName("mcdonald's").withPhone("61111111").build());
+        restaurants.add(new RestaurantBuilder().withName("KOI").build());
+
+        List<Restaurant> expected = new ArrayList<>(restaurants);
+        expected.sort(byName);
+        restaurants.sort(new RestaurantComparator());
+        assertEquals(expected, restaurants);
+    }
+
+    @Test
+    public void compare_severalFields_tiesBrokenInOrder() {
+        RestaurantComparator comparator = new RestaurantComparator()
+                .thenBy(RestaurantSortField.RATING, false)
+                .thenBy(RestaurantSortField.POSTAL, true);
+        assertSorted(List.of(SUBWAY, MCDONALDS, ANNAS, KOI, POPEYES, HAWKERCHAN, ASTONS), comparator);
+
+        comparator = new RestaurantComparator()
+                .thenBy(RestaurantSortField.TAGS, false)
+                .thenBy(RestaurantSortField.RATING, true);
+        assertSorted(List.of(KOI, ASTONS, MCDONALDS, HAWKERCHAN, POPEYES, ANNAS, SUBWAY), comparator);
+    }
+
+    @Test
+    public void compare_tiedOnEveryField_orderedByName() {
+        RestaurantComparator comparator = new RestaurantComparator().thenBy(RestaurantSortField.VISITED, true);
+        assertSorted(List.of(ANNAS, ASTONS, HAWKERCHAN, KOI, MCDONALDS, POPEYES, SUBWAY), comparator);
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("name (ascending)", new RestaurantComparator().getDescription());
+        assertEquals("rating (descending), then postal (ascending)", new RestaurantComparator()
+                .thenBy(RestaurantSortField.RATING, false)
+                .thenBy(RestaurantSortField.POSTAL, true)
+                .getDescription());
+    }
+
+    @Test
+    public void equals() {
+        RestaurantComparator comparator = new RestaurantComparator().thenBy(RestaurantSortField.RATING, false);
+
+        // same values -> returns true
+        assertTrue(comparator.equals(new RestaurantComparator().thenBy(RestaurantSortField.RATING, false)));
+
+        // same object -> returns true
+        assertTrue(comparator.equals(comparator));
+
+        // null -> returns false
+        assertFalse(comparator.equals(null));
+
+        // different order -> returns false
+        assertFalse(comparator.equals(new RestaurantComparator().thenBy(RestaurantSortField.RATING, true)));
+
+        // different field -> returns false
+        assertFalse(comparator.equals(new RestaurantComparator().thenBy(RestaurantSortField.TAGS, false)));
+    }
+
+    private static void assertSorted(List<Restaurant> expected, RestaurantComparator comparator) {
+        List<Restaurant> restaurants = new ArrayList<>(expected);
+        Collections.shuffle(restaurants, new Random(2103));
+        restaurants.sort(comparator);
+        assertEquals(expected, restaurants);
+    }
+}
@@ -0,0 +1,102 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.testutil.RestaurantBuilder;
+
+public class RestaurantSearchIndexTest {
+
+    private final RestaurantSearchIndex searchIndex = new RestaurantSearchIndex();
+
+    @Test
+    public void getCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.getCandidates(null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsEmpty() {
+        searchIndex.setAll(getTypicalRestaurants());
+        assertEquals(Optional.empty(), searchIndex.getCandidates(Collections.singletonList("ko")));
+        assertEquals(Optional.empty(), searchIndex.getCandidates(Arrays.asList("hawker", "  ")));
+    }
+
+    @Test
+    public void getCandidates_matchingKeywords_returnsMatchingRestaurants() {
+        searchIndex.add(MCDONALDS);
+        searchIndex.add(KOI);
+        searchIndex.add(HAWKERCHAN);
+
+        // accents and case are ignored
+        assertCandidates(List.of(KOI), "koi the");
+
+        // any keyword may match
+        assertCandidates(List.of(KOI, HAWKERCHAN), "Thé", "chan");
+
+        // phone, address and tags are indexed
+        assertCandidates(List.of(MCDONALDS), "67773777");
+        assertCandidates(List.of(HAWKERCHAN), "Smith St");
+        assertCandidates(List.of(KOI), "bubbletea");
+
+        // all trigrams must be present in a single field
+        assertCandidates(List.of(), "hawker smith");
+        assertCandidates(List.of(), "xyz");
+    }
+
+    @Test
+    public void remove_restaurant_noLongerCandidate() {
+        searchIndex.add(KOI);
+        searchIndex.add(HAWKERCHAN);
+        searchIndex.remove(KOI);
+        assertCandidates(List.of(), "koi");
+        assertCandidates(List.of(HAWKERCHAN), "hawker");
+    }
+
+    @Test
+    public void narrow_sameResultsAsPredicate() {
+        List<Restaurant> restaurants = getTypicalRestaurants();
+        searchIndex.setAll(restaurants);
+        for (List<String> keywords : List.of(List.of("bugis"), List.of("ko"), List.of("thé", "xyz"),
+                List.of("6"), List.of("fastfood", "halal"), List.of("nothing matches"))) {
+            RestaurantContainsKeywordsPredicate predicate = new RestaurantContainsKeywordsPredicate(keywords);
+            Predicate<Restaurant> narrowed = searchIndex.narrow(predicate);
+            for (Restaurant restaurant : restaurants) {
+                assertEquals(predicate.test(restaurant), narrowed.test(restaurant));
+            }
+        }
+    }
+
+    @Test
+    public void narrow_indexModified_usesUpdatedCandidates() {
+        searchIndex.add(KOI);
+        Predicate<Restaurant> narrowed = searchIndex.narrow(
+                new RestaurantContainsKeywordsPredicate(Collections.singletonList("sushi")));
+        assertFalse(narrowed.test(KOI));
+
+        Restaurant editedKoi = new RestaurantBuilder(KOI).withName("KOI Sushi").build();
+        searchIndex.remove(KOI);
+        searchIndex.add(editedKoi);
+        assertTrue(narrowed.test(editedKoi));
+    }
+
+    private void assertCandidates(List<Restaurant> expected, String... keywords) {
+        Set<Restaurant> candidates = searchIndex.getCandidates(Arrays.asList(keywords)).get();
+        assertEquals(expected.size(), candidates.size());
+        assertTrue(candidates.containsAll(expected));
+    }
+}
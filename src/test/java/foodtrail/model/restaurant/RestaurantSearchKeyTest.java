@@ -0,0 +1,52 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.util.StringUtil;
+
+public class RestaurantSearchKeyTest {
+
+    private final RestaurantSearchKey searchKey = KOI.getSearchKey();
+
+    @Test
+    public void contains_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchKey.contains(null));
+    }
+
+    @Test
+    public void contains_foldedKeywordInAnyField_returnsTrue() {
+        assertTrue(searchKey.contains("koi the")); // name, accents removed
+        assertTrue(searchKey.contains("6481")); // phone
+        assertTrue(searchKey.contains("amk hub")); // address, lower-cased
+        assertTrue(searchKey.contains("drink")); // tag
+    }
+
+    @Test
+    public void contains_keywordNotInAnyField_returnsFalse() {
+        assertFalse(searchKey.contains("burger"));
+
+        // keywords are expected to be folded already
+        assertFalse(searchKey.contains("KOI"));
+
+        // matches must lie within a single field
+        assertFalse(searchKey.contains("koi the64812345"));
+    }
+
+    @Test
+    public void getFields_sameAsFoldingEachField() {
+        List<String> fields = searchKey.getFields();
+        assertEquals(List.of(StringUtil.foldForSearch(KOI.getName().fullName),
+                StringUtil.foldForSearch(KOI.getPhone().value), StringUtil.foldForSearch(KOI.getAddress().value)),
+                fields.subList(0, 3));
+        assertEquals(Set.of("bubbletea", "drinks"), Set.copyOf(fields.subList(3, fields.size())));
+    }
+}
@@ -0,0 +1,126 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
+import static foodtrail.testutil.TypicalRestaurants.JOLLIBEE;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.KOI;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.testutil.RestaurantBuilder;
+
+public class RestaurantTagIndexTest {
+
+    private final RestaurantTagIndex tagIndex = new RestaurantTagIndex();
+
+    @Test
+    public void getMatches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getMatches(null));
+    }
+
+    @Test
+    public void getMatches_onlyNoTags_returnsEmpty() {
+        tagIndex.setAll(getTypicalRestaurants());
+        assertEquals(Optional.empty(), tagIndex.getMatches(predicate(List.of(), List.of(), List.of("drinks"))));
+    }
+
+    @Test
+    public void getMatches_tagGroups_returnsMatchingRestaurants() {
+        tagIndex.add(MCDONALDS);
+        tagIndex.add(KOI);
+        tagIndex.add(JOLLIBEE);
+        tagIndex.add(KFC);
+
+        // all tags must be present
+        assertMatches(List.of(KFC), predicate(List.of("fastfood", "halal"), List.of(), List.of()));
+        assertMatches(List.of(), predicate(List.of("fastfood", "unknown"), List.of(), List.of()));
+
+        // any tag may be present
+        assertMatches(List.of(MCDONALDS, KOI, KFC), predicate(List.of(), List.of("fastfood", "drinks"), List.of()));
+
+        // excluded tags must be absent
+        assertMatches(List.of(MCDONALDS), predicate(List.of("fastfood"), List.of(), List.of("halal")));
+        assertMatches(List.of(JOLLIBEE), predicate(List.of(), List.of("halal"), List.of("fastfood")));
+
+        // all groups together
+        assertMatches(List.of(KFC), predicate(List.of("halal"), List.of("fastfood", "drinks"), List.of("bubbletea")));
+    }
+
+    @Test
+    public void remove_restaurant_noLongerMatches() {
+        tagIndex.add(MCDONALDS);
+        tagIndex.add(KFC);
+        tagIndex.remove(KFC);
+        assertMatches(List.of(MCDONALDS), predicate(List.of("fastfood"), List.of(), List.of()));
+        assertTrue(tagIndex.getRestaurants(Tag.of("halal")).isEmpty());
+    }
+
+    @Test
+    public void getRestaurants_indexModified_viewChanges() {
+        Set<Restaurant> fastFoodRestaurants = tagIndex.getRestaurants(Tag.of("fastfood"));
+        tagIndex.add(MCDONALDS);
+        Set<Restaurant> view = tagIndex.getRestaurants(Tag.of("fastfood"));
+        tagIndex.add(KFC);
+        assertTrue(fastFoodRestaurants.isEmpty());
+        assertEquals(2, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(KFC));
+    }
+
+    @Test
+    public void narrow_sameResultsAsPredicate() {
+        List<Restaurant> restaurants = getTypicalRestaurants();
+        restaurants.add(JOLLIBEE);
+        restaurants.add(KFC);
+        tagIndex.setAll(restaurants);
+        for (RestaurantHasTagsPredicate predicate : List.of(
+                predicate(List.of("fastfood"), List.of(), List.of()),
+                predicate(List.of("bubbletea", "drinks"), List.of(), List.of()),
+                predicate(List.of(), List.of("western", "halal"), List.of()),
+                predicate(List.of(), List.of(), List.of("fastfood", "drinks")),
+                predicate(List.of("halal"), List.of(), List.of("fastfood")),
+                predicate(List.of("unknown"), List.of("halal"), List.of()))) {
+            Predicate<Restaurant> narrowed = tagIndex.narrow(predicate);
+            for (Restaurant restaurant : restaurants) {
+                assertEquals(predicate.test(restaurant), narrowed.test(restaurant));
+            }
+        }
+    }
+
+    @Test
+    public void narrow_indexModified_usesUpdatedMatches() {
+        tagIndex.add(HAWKERCHAN);
+        Predicate<Restaurant> narrowed = tagIndex.narrow(predicate(List.of("chicken"), List.of(), List.of()));
+        assertFalse(narrowed.test(HAWKERCHAN));
+
+        Restaurant taggedHawkerChan = new RestaurantBuilder(HAWKERCHAN).withTags("chicken").build();
+        tagIndex.remove(HAWKERCHAN);
+        tagIndex.add(taggedHawkerChan);
+        assertTrue(narrowed.test(taggedHawkerChan));
+    }
+
+    private void assertMatches(List<Restaurant> expected, RestaurantHasTagsPredicate predicate) {
+        Set<Restaurant> matches = tagIndex.getMatches(predicate).get();
+        assertEquals(expected.size(), matches.size());
+        assertTrue(matches.containsAll(expected));
+    }
+
+    private static RestaurantHasTagsPredicate predicate(List<String> allTags, List<String> anyTags,
+            List<String> noTags) {
+        return new RestaurantHasTagsPredicate(tagSet(allTags), tagSet(anyTags), tagSet(noTags));
+    }
+
+    private static TagSet tagSet(List<String> tagNames) {
+        return TagSet.of(tagNames.stream().map(Tag::of).toList());
+    }
+}
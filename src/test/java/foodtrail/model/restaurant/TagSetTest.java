@@ -0,0 +1,87 @@
+package foodtrail.model.restaurant;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag halal = Tag.of("halal");
+    private final Tag chinese = Tag.of("chinese");
+    private final Tag western = Tag.of("western");
+
+    @Test
+    public void of_tags_sharedTagsInOrderOfId() {
+        TagSet tagSet = TagSet.of(Arrays.asList(new Tag("western"), new Tag("halal"), new Tag("chinese")));
+        // Other tests may have seen these tag names first, in any order.
+        List<Tag> expectedTags = new ArrayList<>(List.of(halal, chinese, western));
+        expectedTags.sort(Comparator.comparingInt(Tag::getId));
+
+        Iterator<Tag> iterator = tagSet.iterator();
+        for (Tag expectedTag : expectedTags) {
+            assertSame(expectedTag, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void of_repeatedTags_keepsOne() {
+        assertEquals(1, TagSet.of(Arrays.asList(halal, new Tag("HALAL"), halal)).size());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Arrays.asList(halal, western));
+        assertTrue(tagSet.contains(new Tag("halal")));
+        assertFalse(tagSet.contains(chinese));
+        assertFalse(tagSet.contains("halal"));
+        assertFalse(TagSet.of(Collections.emptySet()).contains(halal));
+    }
+
+    @Test
+    public void containsAllAndAny() {
+        TagSet tagSet = TagSet.of(Arrays.asList(halal, western));
+        assertTrue(tagSet.containsAll(TagSet.of(Collections.singleton(western))));
+        assertTrue(tagSet.containsAll(TagSet.of(Collections.emptySet())));
+        assertFalse(tagSet.containsAll(TagSet.of(Arrays.asList(western, chinese))));
+        assertTrue(tagSet.containsAll(List.of(halal)));
+
+        assertTrue(tagSet.containsAny(TagSet.of(Arrays.asList(western, chinese))));
+        assertFalse(tagSet.containsAny(TagSet.of(Collections.singleton(chinese))));
+        assertFalse(tagSet.containsAny(TagSet.of(Collections.emptySet())));
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(Arrays.asList(halal, western));
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("western"), new Tag("halal")));
+
+        assertEquals(TagSet.of(Arrays.asList(western, halal)), tagSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertFalse(tagSet.equals(TagSet.of(Collections.singleton(halal))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Arrays.asList(halal, western));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(chinese));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(chinese));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
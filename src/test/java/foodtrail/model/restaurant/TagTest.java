@@ -1,9 +1,15 @@
 package foodtrail.model.restaurant;
 
 import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -33,6 +39,16 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("abcedefeghiejklemnoepqrsetuvew")); // 30 characters (no spaces)
     }
 
+    @Test
+    public void byName_ordersByTagName() {
+        // "zzz tag" is given an id before "aaa tag", so id order is not name order
+        Tag later = Tag.of("zzz tag");
+        Tag earlier = Tag.of("aaa tag");
+        assertTrue(Tag.BY_NAME.compare(earlier, later) < 0);
+        assertEquals(List.of(earlier, later), TagSet.of(List.of(later, earlier)).stream()
+                .sorted(Tag.BY_NAME).collect(Collectors.toList()));
+    }
+
     @Test
     public void equals() {
         Tag tag = new Tag("fastfood");
@@ -55,4 +71,13 @@ public class TagTest {
         assertFalse(tag.equals(differentTag));
     }
 
+    @Test
+    public void of_sameTagName_returnsSharedTag() {
+        assertSame(Tag.of("Halal"), Tag.of("halal"));
+        assertEquals(Tag.of("halal"), new Tag("HALAL"));
+        assertEquals(Tag.of("halal").getId(), new Tag("HALAL").getId());
+        assertNotEquals(Tag.of("halal").getId(), Tag.of("chinese").getId());
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
 }
@@ -3,6 +3,7 @@ package foodtrail.model.restaurant;
 import static foodtrail.logic.commands.CommandTestUtil.VALID_ADDRESS_KFC;
 import static foodtrail.logic.commands.CommandTestUtil.VALID_TAG_FASTFOOD;
 import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
 import static foodtrail.testutil.TypicalRestaurants.KOI;
 import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,13 +11,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +52,47 @@ public class UniqueRestaurantListTest {
         assertTrue(uniqueRestaurantList.contains(editedMcdonalds));
     }
 
+    @Test
+    public void contains_restaurantWithDifferentCaseIdentityFieldsInList_returnsTrue() {
+        uniqueRestaurantList.add(MCDONALDS);
+        Restaurant upperCaseMcdonalds = new RestaurantBuilder(MCDONALDS)
+                .withName(MCDONALDS.getName().fullName.toUpperCase())
+                .withAddress(MCDONALDS.getAddress().value.toUpperCase().replace("SINGAPORE", "Singapore"))
+                .build();
+        assertTrue(uniqueRestaurantList.contains(upperCaseMcdonalds));
+    }
+
+    @Test
+    public void contains_restaurantRemovedFromList_returnsFalse() {
+        uniqueRestaurantList.add(MCDONALDS);
+        uniqueRestaurantList.remove(MCDONALDS);
+        assertFalse(uniqueRestaurantList.contains(MCDONALDS));
+    }
+
+    @Test
+    public void contains_afterSetRestaurantWithDifferentIdentity_tracksEditedRestaurant() {
+        uniqueRestaurantList.add(MCDONALDS);
+        uniqueRestaurantList.setRestaurant(MCDONALDS, KOI);
+        assertFalse(uniqueRestaurantList.contains(MCDONALDS));
+        assertTrue(uniqueRestaurantList.contains(KOI));
+        uniqueRestaurantList.add(MCDONALDS);
+        assertTrue(uniqueRestaurantList.contains(MCDONALDS));
+    }
+
+    @Test
+    public void contains_afterSetRestaurants_tracksReplacementList() {
+        uniqueRestaurantList.add(MCDONALDS);
+        uniqueRestaurantList.setRestaurants(Collections.singletonList(KOI));
+        assertFalse(uniqueRestaurantList.contains(MCDONALDS));
+        assertTrue(uniqueRestaurantList.contains(KOI));
+
+        UniqueRestaurantList replacement = new UniqueRestaurantList();
+        replacement.add(MCDONALDS);
+        uniqueRestaurantList.setRestaurants(replacement);
+        assertTrue(uniqueRestaurantList.contains(MCDONALDS));
+        assertFalse(uniqueRestaurantList.contains(KOI));
+    }
+
     @Test
     public void add_nullRestaurant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRestaurantList.add(null));
@@ -63,6 +104,33 @@ public class UniqueRestaurantListTest {
         assertThrows(DuplicateRestaurantException.class, () -> uniqueRestaurantList.add(MCDONALDS));
     }
 
+    @Test
+    public void addAll_newRestaurants_addsRestaurantsInOrder() {
+        uniqueRestaurantList.add(KOI);
+        uniqueRestaurantList.addAll(Arrays.asList(MCDONALDS, HAWKERCHAN));
+        assertEquals(Arrays.asList(KOI, MCDONALDS, HAWKERCHAN), uniqueRestaurantList.asUnmodifiableObservableList());
+        assertTrue(uniqueRestaurantList.contains(HAWKERCHAN));
+    }
+
+    @Test
+    public void addAll_duplicateRestaurants_leavesOwnListUnchanged() {
+        uniqueRestaurantList.add(KOI);
+        Restaurant editedKoi = new RestaurantBuilder(KOI).withTags(VALID_TAG_FASTFOOD).build();
+        assertThrows(DuplicateRestaurantException.class, () -> uniqueRestaurantList
+                .addAll(Arrays.asList(MCDONALDS, editedKoi)));
+        assertThrows(DuplicateRestaurantException.class, () -> uniqueRestaurantList
+                .addAll(Arrays.asList(MCDONALDS, HAWKERCHAN, MCDONALDS)));
+        assertEquals(Collections.singletonList(KOI), uniqueRestaurantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void newContainsChecker_sameAsContains() {
+        uniqueRestaurantList.add(KOI);
+        Predicate<Restaurant> checker = uniqueRestaurantList.newContainsChecker();
+        assertTrue(checker.test(new RestaurantBuilder(KOI).withTags(VALID_TAG_FASTFOOD).build()));
+        assertFalse(checker.test(MCDONALDS));
+    }
+
     @Test
     public void setRestaurant_nullTargetRestaurant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRestaurantList.setRestaurant(null, MCDONALDS));
@@ -132,6 +200,45 @@ public class UniqueRestaurantListTest {
         assertEquals(expectedUniqueRestaurantList, uniqueRestaurantList);
     }
 
+    @Test
+    public void removeAll_existingRestaurants_removesRestaurants() {
+        uniqueRestaurantList.setRestaurants(Arrays.asList(MCDONALDS, KOI, HAWKERCHAN));
+        uniqueRestaurantList.removeAll(Arrays.asList(HAWKERCHAN, MCDONALDS));
+        assertEquals(Collections.singletonList(KOI), uniqueRestaurantList.asUnmodifiableObservableList());
+        assertFalse(uniqueRestaurantList.contains(MCDONALDS));
+        assertFalse(uniqueRestaurantList.contains(HAWKERCHAN));
+    }
+
+    @Test
+    public void removeAll_restaurantDoesNotExist_leavesOwnListUnchanged() {
+        uniqueRestaurantList.setRestaurants(Arrays.asList(MCDONALDS, KOI));
+        assertThrows(RestaurantNotFoundException.class, () -> uniqueRestaurantList
+                .removeAll(Arrays.asList(MCDONALDS, HAWKERCHAN)));
+        assertEquals(Arrays.asList(MCDONALDS, KOI), uniqueRestaurantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRestaurants_targetsAndEditedRestaurants_replacesEachTarget() {
+        uniqueRestaurantList.setRestaurants(Arrays.asList(MCDONALDS, KOI, HAWKERCHAN));
+        Restaurant editedMcdonalds = new RestaurantBuilder(MCDONALDS).withTags(VALID_TAG_FASTFOOD, "halal").build();
+        Restaurant editedHawkerchan = new RestaurantBuilder(HAWKERCHAN).withAddress(VALID_ADDRESS_KFC).build();
+        uniqueRestaurantList.setRestaurants(Arrays.asList(MCDONALDS, HAWKERCHAN),
+                Arrays.asList(editedMcdonalds, editedHawkerchan));
+        assertEquals(Arrays.asList(editedMcdonalds, KOI, editedHawkerchan),
+                uniqueRestaurantList.asUnmodifiableObservableList());
+        assertTrue(uniqueRestaurantList.contains(editedHawkerchan));
+        assertFalse(uniqueRestaurantList.contains(HAWKERCHAN));
+    }
+
+    @Test
+    public void setRestaurants_editedRestaurantsHaveNonUniqueIdentity_leavesOwnListUnchanged() {
+        uniqueRestaurantList.setRestaurants(Arrays.asList(MCDONALDS, KOI, HAWKERCHAN));
+        Restaurant editedHawkerchan = new RestaurantBuilder(KOI).build();
+        assertThrows(DuplicateRestaurantException.class, () -> uniqueRestaurantList.setRestaurants(
+                Arrays.asList(MCDONALDS, HAWKERCHAN), Arrays.asList(MCDONALDS, editedHawkerchan)));
+        assertEquals(Arrays.asList(MCDONALDS, KOI, HAWKERCHAN), uniqueRestaurantList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setRestaurants_nullUniqueRestaurantList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRestaurantList
@@ -172,49 +279,32 @@ public class UniqueRestaurantListTest {
     }
 
     @Test
-    public void sortInPlaceSortedAscendingCaseInsensitive() {
-        UniqueRestaurantList uniqueRestaurantList = new UniqueRestaurantList();
-
-        // Mixed case + accent to demonstrate case-insensitive behavior
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("beta Bites").build());
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("Alpha Sushi").build());
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("KOI Thé").build());
-        uniqueRestaurantList.add(MCDONALDS); // "McDonald's"
-
-        Comparator<Restaurant> byNameIgnoreCase = Comparator.comparing(r -> r.getName().fullName.toLowerCase());
-
-        // Build expected order by sorting a copy of current view
-        var before = new ArrayList<>(uniqueRestaurantList.asUnmodifiableObservableList());
-        var expected = before.stream().sorted(byNameIgnoreCase).collect(Collectors.toList());
-
-        uniqueRestaurantList.sort(byNameIgnoreCase);
-        var after = uniqueRestaurantList.asUnmodifiableObservableList();
-
-        assertEquals(expected, after);
+    public void setRestaurants_listWithDuplicateRestaurants_reportsEveryDuplicatePair() {
+        Restaurant editedMcdonalds = new RestaurantBuilder(MCDONALDS).withTags(VALID_TAG_FASTFOOD).build();
+        List<Restaurant> listWithDuplicateRestaurants = Arrays.asList(MCDONALDS, KOI, editedMcdonalds, KOI);
+        DuplicateRestaurantException exception = assertThrows(DuplicateRestaurantException.class, () ->
+                uniqueRestaurantList.setRestaurants(listWithDuplicateRestaurants));
+        assertEquals(Arrays.asList(Map.entry(MCDONALDS, editedMcdonalds), Map.entry(KOI, KOI)),
+                exception.getDuplicatePairs());
     }
 
     @Test
-    public void sortTwiceIdempotentSecondCallKeepsOrder() {
-        UniqueRestaurantList uniqueRestaurantList = new UniqueRestaurantList();
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("zeta cafe").build());
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("alpha").build());
-        uniqueRestaurantList.add(new RestaurantBuilder().withName("Delta").build());
-
-        Comparator<Restaurant> byNameIgnoreCase = Comparator.comparing(r -> r.getName().fullName.toLowerCase());
-
-        uniqueRestaurantList.sort(byNameIgnoreCase);
-        var first = new ArrayList<>(uniqueRestaurantList.asUnmodifiableObservableList());
-        uniqueRestaurantList.sort(byNameIgnoreCase);
-        var second = uniqueRestaurantList.asUnmodifiableObservableList();
-
-        assertEquals(first, second);
+    public void setRestaurants_listWithDuplicateRestaurants_leavesOwnListUnchanged() {
+        uniqueRestaurantList.add(KOI);
+        assertThrows(DuplicateRestaurantException.class, () -> uniqueRestaurantList
+                .setRestaurants(Arrays.asList(MCDONALDS, MCDONALDS)));
+        UniqueRestaurantList expectedUniqueRestaurantList = new UniqueRestaurantList();
+        expectedUniqueRestaurantList.add(KOI);
+        assertEquals(expectedUniqueRestaurantList, uniqueRestaurantList);
+        assertFalse(uniqueRestaurantList.contains(MCDONALDS));
     }
 
     @Test
-    public void sortNullComparatorThrowsNullPointerExceptionUniqueList() {
-        UniqueRestaurantList uniqueRestaurantList = new UniqueRestaurantList();
+    public void setRestaurants_sameUniqueRestaurantList_keepsContents() {
         uniqueRestaurantList.add(MCDONALDS);
-        assertThrows(NullPointerException.class, () -> uniqueRestaurantList.sort(null));
+        uniqueRestaurantList.setRestaurants(uniqueRestaurantList);
+        assertEquals(Collections.singletonList(MCDONALDS), uniqueRestaurantList.asUnmodifiableObservableList());
+        assertTrue(uniqueRestaurantList.contains(MCDONALDS));
     }
 
     @Test
@@ -278,4 +368,51 @@ public class UniqueRestaurantListTest {
     public void toStringMethod() {
         assertEquals(uniqueRestaurantList.asUnmodifiableObservableList().toString(), uniqueRestaurantList.toString());
     }
+
+    @Test
+    public void narrowSearch_listModifiedBeforeAndAfterSearch_sameResultsAsPredicate() {
+        RestaurantContainsKeywordsPredicate predicate =
+                new RestaurantContainsKeywordsPredicate(Collections.singletonList("bugis"));
+        uniqueRestaurantList.add(KOI);
+        uniqueRestaurantList.setRestaurants(Arrays.asList(KOI, MCDONALDS));
+        Predicate<Restaurant> narrowed = uniqueRestaurantList.narrowSearch(predicate);
+        assertTrue(narrowed.test(MCDONALDS));
+        assertFalse(narrowed.test(KOI));
+
+        Restaurant editedKoi = new RestaurantBuilder(KOI).withAddress(VALID_ADDRESS_KFC.replace("Orchard", "Bugis"))
+                .build();
+        uniqueRestaurantList.setRestaurant(KOI, editedKoi);
+        uniqueRestaurantList.remove(MCDONALDS);
+        assertTrue(narrowed.test(editedKoi));
+        assertFalse(narrowed.test(MCDONALDS));
+    }
+
+    @Test
+    public void getVersion_increasesWithEveryMutation() {
+        long version = uniqueRestaurantList.getVersion();
+
+        uniqueRestaurantList.add(MCDONALDS);
+        version = assertVersionIncreased(version);
+
+        uniqueRestaurantList.add(KOI);
+        version = assertVersionIncreased(version);
+
+        uniqueRestaurantList.setRestaurant(KOI, new RestaurantBuilder(KOI).withRating(1).build());
+        version = assertVersionIncreased(version);
+
+        uniqueRestaurantList.remove(MCDONALDS);
+        version = assertVersionIncreased(version);
+
+        uniqueRestaurantList.setRestaurants(Collections.singletonList(MCDONALDS));
+        version = assertVersionIncreased(version);
+
+        uniqueRestaurantList.setRestaurants(new UniqueRestaurantList());
+        assertVersionIncreased(version);
+    }
+
+    private long assertVersionIncreased(long previousVersion) {
+        long version = uniqueRestaurantList.getVersion();
+        assertTrue(version > previousVersion);
+        return version;
+    }
 }
@@ -0,0 +1,81 @@
+package foodtrail.model.restaurant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the validators of restaurant fields accept exactly the strings that their regular expressions accept,
+ * using random strings built mostly from characters and fragments that the expressions treat specially.
+ */
+public class ValidationFuzzTest {
+
+    private static final long SEED = 2103;
+    private static final int ITERATIONS = 50_000;
+    private static final int MAX_TOKENS = 12;
+
+    private static final String[] TOKENS = {
+        "a", "Z", "\u00e9", "0", "6", "8", "9", "5", " ", "\t", "\n", "\r", "\u000B", "\f", "\u0085", "\u2028",
+        "\u2029", "\u00a0", "\uD83C", "\uD83C\uDF5C", ",", "#", "'", "/", ".", "+", "-", "!", "_", "Singapore",
+        "singapore", ", ", ", Singapore ", ",  Singapore\t", "123456", "12345", "1234567", "98765432", "6123456",
+        "Blk 1 Clementi Rd",
+    };
+
+    @Test
+    public void isValidName_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Name::isValidName, test -> test.length() <= 60 && test.matches(Name.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Phone::isValidPhone, test -> test.matches(Phone.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidTagName_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Tag::isValidTagName, test -> test.length() <= 30 && test.matches(Tag.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidAddress_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Address::isValidAddress, ValidationFuzzTest::isValidAddressByRegex);
+    }
+
+    private static void assertSameAsRegex(Predicate<String> validator, Predicate<String> regexValidator) {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String test = randomString(random);
+            assertEquals(regexValidator.test(test), validator.test(test), "Validators differ for: " + test);
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int tokenCount = random.nextInt(MAX_TOKENS + 1);
+        for (int i = 0; i < tokenCount; i++) {
+            sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns true if {@code test} is a valid address, as checked with regular expressions before the check was
+     * written by hand.
+     */
+    private static boolean isValidAddressByRegex(String test) {
+        if (test.trim().isEmpty() || test.length() > 100) {
+            return false;
+        }
+        Matcher addressMatcher = Pattern.compile("^(.*),\\s+Singapore\\s((\\d){6})$").matcher(test);
+        if (!addressMatcher.matches()) {
+            return false;
+        }
+        String addressPart = addressMatcher.group(1);
+        return !addressPart.trim().isEmpty() && addressPart.matches("^[a-zA-Z0-9\\s,#'/.+-]*$");
+    }
+}
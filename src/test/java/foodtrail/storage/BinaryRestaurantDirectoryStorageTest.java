@@ -0,0 +1,121 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.MIXUE;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.testutil.RestaurantBuilder;
+
+public class BinaryRestaurantDirectoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryRestaurantDirectoryStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("foodtrail.bin");
+        storage = new BinaryRestaurantDirectoryStorage(filePath);
+    }
+
+    @Test
+    public void readAndSaveRestaurantDirectory_allInOrder_success() throws Exception {
+        RestaurantDirectory original = getTypicalRestaurantDirectory();
+        storage.saveRestaurantDirectory(original);
+        assertEquals(original, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+
+        // Ratings, visited restaurants and shared tags
+        original.removeRestaurant(MCDONALDS);
+        original.addRestaurant(new RestaurantBuilder(MCDONALDS).withRating(0).withIsMarked(true).build());
+        original.addRestaurant(new RestaurantBuilder(MIXUE).withTags("fastfood", "dessert").withRating(5).build());
+        storage.saveRestaurantDirectory(original);
+        assertEquals(original, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+
+        // Empty directory
+        storage.saveRestaurantDirectory(new RestaurantDirectory());
+        assertEquals(new RestaurantDirectory(), storage.readRestaurantDirectory().get());
+    }
+
+    @Test
+    public void saveRestaurantDirectory_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("foodtrail.json");
+        RestaurantDirectory original = getTypicalRestaurantDirectory();
+        storage.saveRestaurantDirectory(original);
+        new JsonRestaurantDirectoryStorage(jsonFilePath).saveRestaurantDirectory(original);
+
+        assertTrue(Files.size(filePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readRestaurantDirectory_otherFormat_detected() throws Exception {
+        RestaurantDirectory original = getTypicalRestaurantDirectory();
+        Path jsonFilePath = testFolder.resolve("foodtrail.json");
+        JsonRestaurantDirectoryStorage jsonStorage = new JsonRestaurantDirectoryStorage(jsonFilePath);
+
+        // JSON file read by binary storage
+        jsonStorage.saveRestaurantDirectory(original);
+        assertEquals(original, new RestaurantDirectory(storage.readRestaurantDirectory(jsonFilePath).get()));
+
+        // Binary file read by JSON storage
+        storage.saveRestaurantDirectory(original);
+        assertEquals(original, new RestaurantDirectory(jsonStorage.readRestaurantDirectory(filePath).get()));
+    }
+
+    @Test
+    public void readRestaurantDirectory_corruptedFile_throwsDataLoadingException() throws Exception {
+        storage.saveRestaurantDirectory(getTypicalRestaurantDirectory());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // Changed byte
+        byte[] changed = bytes.clone();
+        changed[changed.length / 2] ^= 1;
+        Files.write(filePath, changed);
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+
+        // Cut short
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+
+        // Unknown version
+        byte[] newerVersion = bytes.clone();
+        int versionIndex = BinaryRestaurantDirectoryStorage.MAGIC.length;
+        newerVersion[versionIndex] = BinaryRestaurantDirectoryStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, newerVersion);
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+    }
+
+    @Test
+    public void readRestaurantDirectory_invalidRestaurant_throwsDataLoadingException() throws Exception {
+        storage.saveRestaurantDirectory(getTypicalRestaurantDirectory());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // A blank name with a valid checksum, so that only checking the restaurant finds it
+        String name = MCDONALDS.getName().fullName;
+        int nameIndex = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(name);
+        Arrays.fill(bytes, nameIndex, nameIndex + name.length(), (byte) ' ');
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+    }
+}
@@ -0,0 +1,57 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvRecordReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitsOnCommas() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,,c\nd"));
+        assertEquals(Arrays.asList("a", "b", "", "c"), reader.readRecord());
+        assertEquals(Arrays.asList("d"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepsCommasQuotesAndLineBreaks() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"x\ny\"\nz"));
+        assertEquals(Arrays.asList("a, b", "say \"hi\"", "x\ny"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("z"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_blankLinesAndLineBreaks_skipsBlankLines() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\uFEFFa\r\n\r\nb\rc\n\n"));
+        assertEquals(Arrays.asList("a"), reader.readRecord());
+        assertEquals(Arrays.asList("b"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("c"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIoException() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a\n\"b,c\nd"));
+        reader.readRecord();
+        assertThrows(IOException.class, String.format(CsvRecordReader.MESSAGE_UNTERMINATED_QUOTE, 2),
+                reader::readRecord);
+    }
+
+    @Test
+    public void readRecord_textAfterQuote_throwsIoException() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"a\"b,c"));
+        assertThrows(IOException.class, String.format(CsvRecordReader.MESSAGE_TEXT_AFTER_QUOTE, 1),
+                reader::readRecord);
+    }
+}
@@ -0,0 +1,184 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.MIXUE;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Restaurant;
+import javafx.collections.ListChangeListener;
+
+public class JournaledRestaurantDirectoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonRestaurantDirectoryStorage snapshotStorage;
+    private JournaledRestaurantDirectoryStorage storage;
+    private RestaurantDirectory restaurantDirectory;
+    private List<RestaurantDirectoryChange> changes;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("foodtrail.json");
+        snapshotStorage = new JsonRestaurantDirectoryStorage(filePath);
+        storage = new JournaledRestaurantDirectoryStorage(snapshotStorage, Long.MAX_VALUE);
+
+        restaurantDirectory = getTypicalRestaurantDirectory();
+        storage.saveRestaurantDirectory(restaurantDirectory);
+        changes = new ArrayList<>();
+        restaurantDirectory.getRestaurantList().addListener((ListChangeListener<Restaurant>) change ->
+                changes.addAll(RestaurantDirectoryChange.listOf(change)));
+    }
+
+    /**
+     * Makes changes of every kind to {@code restaurantDirectory}.
+     */
+    private void changeRestaurantDirectory() {
+        restaurantDirectory.addRestaurant(KFC);
+        restaurantDirectory.setRestaurant(KFC, MIXUE);
+        restaurantDirectory.removeRestaurant(restaurantDirectory.getRestaurantList().get(0));
+    }
+
+    @Test
+    public void constructor_negativeCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledRestaurantDirectoryStorage(snapshotStorage, -1));
+    }
+
+    @Test
+    public void isRestaurantDirectoryJournaled_returnsTrue() {
+        assertTrue(storage.isRestaurantDirectoryJournaled());
+        assertFalse(snapshotStorage.isRestaurantDirectoryJournaled());
+    }
+
+    @Test
+    public void appendRestaurantDirectoryChanges_changesReplayedOverSnapshot() throws Exception {
+        changeRestaurantDirectory();
+        String snapshot = Files.readString(filePath);
+        storage.appendRestaurantDirectoryChanges(changes);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(restaurantDirectory, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+    }
+
+    @Test
+    public void appendRestaurantDirectoryChanges_severalAppends_allReplayed() throws Exception {
+        restaurantDirectory.addRestaurant(KFC);
+        storage.appendRestaurantDirectoryChanges(changes);
+        changes.clear();
+        restaurantDirectory.resetData(new RestaurantDirectory());
+        restaurantDirectory.addRestaurant(MIXUE);
+        storage.appendRestaurantDirectoryChanges(changes);
+
+        assertEquals(restaurantDirectory, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+    }
+
+    @Test
+    public void appendRestaurantDirectoryChanges_noSnapshot_replayedOverEmptyDirectory() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledRestaurantDirectoryStorage otherStorage =
+                new JournaledRestaurantDirectoryStorage(new JsonRestaurantDirectoryStorage(otherFilePath));
+        otherStorage.appendRestaurantDirectoryChanges(List.of(RestaurantDirectoryChange.replace(0, 0, List.of(KFC))));
+
+        assertFalse(Files.exists(otherFilePath));
+        RestaurantDirectory expected = new RestaurantDirectory();
+        expected.addRestaurant(KFC);
+        assertEquals(expected, otherStorage.readRestaurantDirectory().get());
+    }
+
+    @Test
+    public void appendRestaurantDirectoryChanges_overThreshold_compacted() throws Exception {
+        storage = new JournaledRestaurantDirectoryStorage(snapshotStorage, 0);
+        changeRestaurantDirectory();
+        storage.appendRestaurantDirectoryChanges(changes);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(restaurantDirectory, new RestaurantDirectory(snapshotStorage.readRestaurantDirectory().get()));
+        assertEquals(restaurantDirectory, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+    }
+
+    @Test
+    public void saveRestaurantDirectory_emptiesJournal() throws Exception {
+        changeRestaurantDirectory();
+        storage.appendRestaurantDirectoryChanges(changes);
+        storage.saveRestaurantDirectory(restaurantDirectory);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(restaurantDirectory, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+    }
+
+    @Test
+    public void readRestaurantDirectory_changeCutShort_changeIgnoredAndTruncated() throws Exception {
+        restaurantDirectory.addRestaurant(KFC);
+        storage.appendRestaurantDirectoryChanges(changes);
+        long journalSize = Files.size(storage.getJournalFilePath());
+        RestaurantDirectory expected = new RestaurantDirectory(restaurantDirectory);
+
+        Files.writeString(storage.getJournalFilePath(), "{\"index\":0,\"removed\":1,\"added\":[{\"na",
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readRestaurantDirectory_completeChangeWithoutLineBreak_changeIgnored() throws Exception {
+        RestaurantDirectory expected = new RestaurantDirectory(restaurantDirectory);
+        Files.writeString(storage.getJournalFilePath(), "{\"index\":0,\"removed\":1}", StandardOpenOption.APPEND);
+
+        assertEquals(expected, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+    }
+
+    @Test
+    public void readRestaurantDirectory_invalidChangeBeforeLastLine_throwsDataLoadingException() throws Exception {
+        restaurantDirectory.addRestaurant(KFC);
+        storage.appendRestaurantDirectoryChanges(changes);
+        List<String> lines = new ArrayList<>(Files.readAllLines(storage.getJournalFilePath()));
+        lines.add(1, "not a change");
+        Files.writeString(storage.getJournalFilePath(), String.join("\n", lines) + "\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+    }
+
+    @Test
+    public void readRestaurantDirectory_changeOutOfRange_throwsDataLoadingException() throws Exception {
+        storage.appendRestaurantDirectoryChanges(List.of(RestaurantDirectoryChange.replace(100, 1, List.of())));
+        assertThrows(DataLoadingException.class, () -> storage.readRestaurantDirectory());
+    }
+
+    @Test
+    public void readRestaurantDirectory_snapshotReplacedByOtherStorage_journalDiscarded() throws Exception {
+        changeRestaurantDirectory();
+        storage.appendRestaurantDirectoryChanges(changes);
+        RestaurantDirectory replacement = new RestaurantDirectory();
+        replacement.addRestaurant(KFC);
+        snapshotStorage.saveRestaurantDirectory(replacement);
+
+        assertEquals(replacement, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readRestaurantDirectory_noSnapshotNorJournal_emptyResult() throws Exception {
+        JournaledRestaurantDirectoryStorage otherStorage = new JournaledRestaurantDirectoryStorage(
+                new JsonRestaurantDirectoryStorage(testFolder.resolve("other.json")));
+        assertFalse(otherStorage.readRestaurantDirectory().isPresent());
+    }
+}
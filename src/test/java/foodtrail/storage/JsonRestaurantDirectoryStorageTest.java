@@ -7,17 +7,26 @@ import static foodtrail.testutil.TypicalRestaurants.PIZZAHUT;
 import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import foodtrail.commons.exceptions.DataLoadingException;
+import foodtrail.commons.util.JsonUtil;
 import foodtrail.model.ReadOnlyRestaurantDirectory;
 import foodtrail.model.RestaurantDirectory;
+import foodtrail.testutil.EventRecorder;
+import foodtrail.testutil.RestaurantDirectoryBuilder;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class JsonRestaurantDirectoryStorageTest {
     private static final Path TEST_DATA_FOLDER =
@@ -65,6 +74,30 @@ public class JsonRestaurantDirectoryStorageTest {
                 readRestaurantDirectory("invalidAndValidRestaurantRestaurantDirectory.json"));
     }
 
+    @Test
+    public void readRestaurantDirectory_duplicateRestaurants_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                readRestaurantDirectory("duplicateRestaurantRestaurantDirectory.json"));
+    }
+
+    @Test
+    public void readRestaurantDirectory_unknownFields_unknownFieldsIgnored() throws Exception {
+        RestaurantDirectory expected = new RestaurantDirectoryBuilder().withRestaurant(MCDONALDS).build();
+        ReadOnlyRestaurantDirectory actual = readRestaurantDirectory("unknownFieldsRestaurantDirectory.json").get();
+        assertEquals(expected, new RestaurantDirectory(actual));
+    }
+
+    @Test
+    public void saveRestaurantDirectory_readByJsonSerializableRestaurantDirectory_success() throws Exception {
+        Path filePath = testFolder.resolve("TempRestaurantDirectory.json");
+        RestaurantDirectory original = getTypicalRestaurantDirectory();
+        new JsonRestaurantDirectoryStorage(filePath).saveRestaurantDirectory(original);
+
+        JsonSerializableRestaurantDirectory readBack =
+                JsonUtil.readJsonFile(filePath, JsonSerializableRestaurantDirectory.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
     @Test
     public void readAndSaveRestaurantDirectory_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempRestaurantDirectory.json");
@@ -91,6 +124,87 @@ public class JsonRestaurantDirectoryStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveRestaurantDirectory_recording_recordsEvents() throws Exception {
+        Path filePath = testFolder.resolve("foodtrail.json");
+        JsonRestaurantDirectoryStorage jsonRestaurantDirectoryStorage = new JsonRestaurantDirectoryStorage(filePath);
+        RestaurantDirectory original = getTypicalRestaurantDirectory();
+
+        List<RecordedEvent> events;
+        try (EventRecorder recorder = new EventRecorder("foodtrail.DataFileWrite", "foodtrail.DataFileRead")) {
+            jsonRestaurantDirectoryStorage.saveRestaurantDirectory(original);
+            jsonRestaurantDirectoryStorage.readRestaurantDirectory();
+            events = recorder.stop();
+        }
+
+        assertEquals(List.of("foodtrail.DataFileWrite", "foodtrail.DataFileRead"), events.stream()
+                .map(event -> event.getEventType().getName()).collect(Collectors.toList()));
+        for (RecordedEvent event : events) {
+            assertEquals(filePath.toString(), event.getString("path"));
+            assertEquals(Files.size(filePath), event.getLong("byteCount"));
+            assertEquals(original.getRestaurantList().size(), event.getInt("restaurantCount"));
+        }
+    }
+
+    @Test
+    public void constructor_negativeBackupCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonRestaurantDirectoryStorage(testFolder.resolve("foodtrail.json"), -1));
+    }
+
+    @Test
+    public void getRestaurantDirectoryBackupFilePaths_newestFirst() {
+        JsonRestaurantDirectoryStorage storage =
+                new JsonRestaurantDirectoryStorage(testFolder.resolve("foodtrail.json"), 2);
+        assertEquals(List.of(testFolder.resolve("foodtrail.json.bak1"), testFolder.resolve("foodtrail.json.bak2")),
+                storage.getRestaurantDirectoryBackupFilePaths());
+    }
+
+    @Test
+    public void saveRestaurantDirectory_withBackups_keepsPreviousVersions() throws Exception {
+        Path filePath = testFolder.resolve("foodtrail.json");
+        JsonRestaurantDirectoryStorage storage = new JsonRestaurantDirectoryStorage(filePath, 2);
+        List<Path> backupFilePaths = storage.getRestaurantDirectoryBackupFilePaths();
+
+        RestaurantDirectory first = new RestaurantDirectoryBuilder().withRestaurant(MCDONALDS).build();
+        RestaurantDirectory second = new RestaurantDirectoryBuilder(new RestaurantDirectory(first))
+                .withRestaurant(MIXUE).build();
+        RestaurantDirectory third = new RestaurantDirectoryBuilder(new RestaurantDirectory(second))
+                .withRestaurant(PIZZAHUT).build();
+        RestaurantDirectory fourth = new RestaurantDirectory();
+
+        // First save has nothing to back up
+        storage.saveRestaurantDirectory(first);
+        assertFalse(Files.exists(backupFilePaths.get(0)));
+
+        storage.saveRestaurantDirectory(second);
+        storage.saveRestaurantDirectory(third);
+        storage.saveRestaurantDirectory(fourth);
+
+        // Oldest version is dropped
+        assertEquals(fourth, new RestaurantDirectory(storage.readRestaurantDirectory().get()));
+        assertEquals(third, new RestaurantDirectory(storage.readRestaurantDirectory(backupFilePaths.get(0)).get()));
+        assertEquals(second, new RestaurantDirectory(storage.readRestaurantDirectory(backupFilePaths.get(1)).get()));
+        assertEquals(3, listFileNames().size());
+    }
+
+    @Test
+    public void saveRestaurantDirectory_noBackups_noOtherFilesWritten() throws Exception {
+        Path filePath = testFolder.resolve("foodtrail.json");
+        JsonRestaurantDirectoryStorage storage = new JsonRestaurantDirectoryStorage(filePath);
+        storage.saveRestaurantDirectory(getTypicalRestaurantDirectory());
+        storage.saveRestaurantDirectory(new RestaurantDirectory());
+
+        assertTrue(storage.getRestaurantDirectoryBackupFilePaths().isEmpty());
+        assertEquals(List.of("foodtrail.json"), listFileNames());
+    }
+
+    private List<String> listFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
     @Test
     public void saveRestaurantDirectory_nullRestaurantDirectory_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import foodtrail.commons.exceptions.IllegalValueException;
 import foodtrail.commons.util.JsonUtil;
 import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Address;
+import foodtrail.model.restaurant.Name;
 import foodtrail.testutil.TypicalRestaurants;
 
 public class JsonSerializableRestaurantDirectoryTest {
@@ -37,15 +39,21 @@ public class JsonSerializableRestaurantDirectoryTest {
     public void toModelType_invalidRestaurantFile_throwsIllegalValueException() throws Exception {
         JsonSerializableRestaurantDirectory dataFromFile = JsonUtil.readJsonFile(INVALID_RESTAURANT_FILE,
                 JsonSerializableRestaurantDirectory.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        // Every invalid restaurant is reported
+        String expectedMessage = String.format(RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT, 1,
+                Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT, 2,
+                        Address.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_duplicateRestaurants_throwsIllegalValueException() throws Exception {
         JsonSerializableRestaurantDirectory dataFromFile = JsonUtil.readJsonFile(DUPLICATE_RESTAURANT_FILE,
                 JsonSerializableRestaurantDirectory.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableRestaurantDirectory.MESSAGE_DUPLICATE_RESTAURANT,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT, 2,
+                JsonSerializableRestaurantDirectory.MESSAGE_DUPLICATE_RESTAURANT);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
@@ -0,0 +1,132 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.HAWKERCHAN;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.MCDONALDS;
+import static foodtrail.testutil.TypicalRestaurants.MIXUE;
+import static foodtrail.testutil.TypicalRestaurants.PIZZAHUT;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurants;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.model.restaurant.Restaurant;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class RestaurantDirectoryChangeTest {
+
+    private final ObservableList<Restaurant> observed = FXCollections.observableArrayList();
+    private final List<Restaurant> replayed = new ArrayList<>();
+    private final List<RestaurantDirectoryChange> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        observed.setAll(getTypicalRestaurants());
+        replayed.addAll(getTypicalRestaurants());
+        observed.addListener((ListChangeListener<Restaurant>) change ->
+                changes.addAll(RestaurantDirectoryChange.listOf(change)));
+    }
+
+    private void assertReplayMatches() throws IllegalValueException {
+        for (RestaurantDirectoryChange change : changes) {
+            change.applyTo(replayed);
+        }
+        changes.clear();
+        assertEquals(observed, replayed);
+    }
+
+    @Test
+    public void listOf_addSetRemove_replaysToSameList() throws Exception {
+        observed.add(KFC);
+        observed.add(0, MIXUE);
+        observed.set(2, PIZZAHUT);
+        observed.remove(HAWKERCHAN);
+        observed.remove(1, 3);
+        assertReplayMatches();
+    }
+
+    @Test
+    public void listOf_setAll_replaysToSameList() throws Exception {
+        observed.setAll(List.of(KFC, MIXUE));
+        int typicalCount = getTypicalRestaurants().size();
+        assertEquals(List.of(RestaurantDirectoryChange.replace(0, typicalCount, List.of(KFC, MIXUE))), changes);
+        assertReplayMatches();
+
+        observed.setAll(List.of());
+        assertReplayMatches();
+    }
+
+    @Test
+    public void listOf_sort_replaysToSameList() throws Exception {
+        FXCollections.sort(observed, Comparator.comparing((Restaurant r) -> r.getName().fullName));
+        assertReplayMatches();
+    }
+
+    @Test
+    public void listOf_sortMovingOneRestaurant_fewMoves() throws Exception {
+        Comparator<Restaurant> byName = Comparator.comparing((Restaurant r) -> r.getName().fullName);
+        FXCollections.sort(observed, byName);
+        observed.add(KFC);
+        assertReplayMatches();
+
+        FXCollections.sort(observed, byName);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).getMoves().length <= 6);
+        assertReplayMatches();
+    }
+
+    @Test
+    public void applyTo_outOfRange_throwsIllegalValueException() {
+        List<Restaurant> restaurants = new ArrayList<>(List.of(MCDONALDS));
+        assertThrows(IllegalValueException.class, () ->
+                RestaurantDirectoryChange.replace(1, 1, List.of()).applyTo(restaurants));
+        assertThrows(IllegalValueException.class, () ->
+                RestaurantDirectoryChange.replace(-1, 0, List.of(KFC)).applyTo(restaurants));
+        assertThrows(IllegalValueException.class, () ->
+                RestaurantDirectoryChange.move(new int[] {0, 1, 1}).applyTo(restaurants));
+        assertThrows(IllegalValueException.class, () ->
+                RestaurantDirectoryChange.move(new int[] {0, 0}).applyTo(restaurants));
+        assertEquals(List.of(MCDONALDS), restaurants);
+    }
+
+    @Test
+    public void getMoves_replaceChange_empty() {
+        RestaurantDirectoryChange change = RestaurantDirectoryChange.replace(0, 1, List.of(KFC));
+        assertFalse(change.isMove());
+        assertArrayEquals(new int[0], change.getMoves());
+    }
+
+    @Test
+    public void equals() {
+        RestaurantDirectoryChange replace = RestaurantDirectoryChange.replace(0, 1, List.of(KFC));
+        RestaurantDirectoryChange move = RestaurantDirectoryChange.move(new int[] {0, 1, 1, 1, 0, 1});
+
+        // same values -> returns true
+        assertEquals(replace, RestaurantDirectoryChange.replace(0, 1, List.of(KFC)));
+        assertEquals(move, RestaurantDirectoryChange.move(new int[] {0, 1, 1, 1, 0, 1}));
+
+        // same object -> returns true
+        assertEquals(replace, replace);
+
+        // null -> returns false
+        assertNotEquals(null, replace);
+
+        // different values -> returns false
+        assertNotEquals(replace, RestaurantDirectoryChange.replace(0, 0, List.of(KFC)));
+        assertNotEquals(replace, RestaurantDirectoryChange.replace(0, 1, List.of(MIXUE)));
+        assertNotEquals(replace, move);
+    }
+}
@@ -0,0 +1,61 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import foodtrail.commons.exceptions.IllegalValueException;
+import foodtrail.model.RestaurantDirectory;
+import foodtrail.model.restaurant.Phone;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.RestaurantBuilder;
+
+public class RestaurantDirectoryConverterTest {
+
+    private static final int RESTAURANT_COUNT = RestaurantDirectoryConverter.BATCH_SIZE * 2 + 100;
+
+    @Test
+    public void toModelType_severalBatches_keepsOrder() throws Exception {
+        RestaurantDirectoryConverter converter = new RestaurantDirectoryConverter();
+        List<Restaurant> expected = new ArrayList<>();
+        for (int i = 0; i < RESTAURANT_COUNT; i++) {
+            Restaurant restaurant = restaurant(i);
+            expected.add(restaurant);
+            converter.add(new JsonAdaptedRestaurant(restaurant));
+        }
+
+        RestaurantDirectory expectedDirectory = new RestaurantDirectory();
+        expectedDirectory.setRestaurants(expected);
+        assertEquals(expectedDirectory, converter.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidAndDuplicateRestaurants_reportsEveryPosition() {
+        RestaurantDirectoryConverter converter = new RestaurantDirectoryConverter();
+        int invalidPosition = RestaurantDirectoryConverter.BATCH_SIZE + 1;
+        for (int i = 0; i < RESTAURANT_COUNT; i++) {
+            if (i + 1 == invalidPosition) {
+                converter.add(new JsonAdaptedRestaurant("Invalid Phone", "phone", "Somewhere", null, null, null));
+            } else {
+                converter.add(new JsonAdaptedRestaurant(restaurant(i)));
+            }
+        }
+        // Duplicate of the first restaurant
+        converter.add(new JsonAdaptedRestaurant(restaurant(0)));
+
+        String expectedMessage = String.format(RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT,
+                invalidPosition, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(RestaurantDirectoryConverter.MESSAGE_INVALID_RESTAURANT, RESTAURANT_COUNT + 1,
+                        JsonSerializableRestaurantDirectory.MESSAGE_DUPLICATE_RESTAURANT);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::toModelType);
+    }
+
+    private static Restaurant restaurant(int i) {
+        return new RestaurantBuilder().withName("Restaurant " + i).withPhone(String.valueOf(60000000 + i))
+                .withRating(i % 6).build();
+    }
+}
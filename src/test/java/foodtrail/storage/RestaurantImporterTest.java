@@ -0,0 +1,128 @@
+package foodtrail.storage;
+
+import static foodtrail.testutil.Assert.assertThrows;
+import static foodtrail.testutil.TypicalRestaurants.JOLLIBEE;
+import static foodtrail.testutil.TypicalRestaurants.KFC;
+import static foodtrail.testutil.TypicalRestaurants.getTypicalRestaurantDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodtrail.model.restaurant.Phone;
+import foodtrail.model.restaurant.Rating;
+import foodtrail.model.restaurant.Restaurant;
+import foodtrail.testutil.RestaurantBuilder;
+
+public class RestaurantImporterTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "RestaurantImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupportedFile() {
+        assertTrue(RestaurantImporter.isSupportedFile(Paths.get("data", "restaurants.csv")));
+        assertTrue(RestaurantImporter.isSupportedFile(Paths.get("RESTAURANTS.JSON")));
+        assertFalse(RestaurantImporter.isSupportedFile(Paths.get("restaurants.txt")));
+        assertFalse(RestaurantImporter.isSupportedFile(Paths.get("csv")));
+    }
+
+    @Test
+    public void importFile_unsupportedFile_throwsIoException() {
+        assertThrows(IOException.class, RestaurantImporter.MESSAGE_UNSUPPORTED_FILE, () ->
+                importFile("restaurants.txt"));
+    }
+
+    @Test
+    public void importFile_missingColumn_throwsIoException() {
+        assertThrows(IOException.class, String.format(RestaurantImporter.MESSAGE_MISSING_COLUMN,
+                RestaurantImporter.COLUMN_ADDRESS), () -> importFile("missingColumn.csv"));
+    }
+
+    @Test
+    public void importFile_validCsv_success() throws Exception {
+        RestaurantImporter.ImportResult result = importFile("validRestaurants.csv");
+        assertEquals(Arrays.asList(KFC, JOLLIBEE), result.getRestaurants());
+        assertEquals(Collections.emptyList(), result.getRejectedRows());
+        assertEquals(2, result.getRowCount());
+    }
+
+    @Test
+    public void importFile_invalidAndValidCsv_skipsRejectedRows() throws Exception {
+        RestaurantImporter.ImportResult result = RestaurantImporter.importFile(
+                TEST_DATA_FOLDER.resolve("invalidAndValidRestaurants.csv"),
+                getTypicalRestaurantDirectory()::hasRestaurant, unused -> {});
+        assertEquals(Arrays.asList(JOLLIBEE, KFC), result.getRestaurants());
+        assertEquals(Arrays.asList(
+                csvRow(3, Phone.MESSAGE_CONSTRAINTS),
+                csvRow(4, Rating.MESSAGE_CONSTRAINTS),
+                csvRow(5, String.format(RestaurantImporter.MESSAGE_WRONG_FIELD_COUNT, 6, 2)),
+                csvRow(6, RestaurantImporter.MESSAGE_REPEATED_RESTAURANT),
+                csvRow(7, RestaurantImporter.MESSAGE_EXISTING_RESTAURANT),
+                csvRow(9, RestaurantImporter.MESSAGE_INVALID_VISITED)), result.getRejectedRows());
+        assertEquals(8, result.getRowCount());
+    }
+
+    @Test
+    public void importFile_invalidAndValidJson_skipsRejectedRows() throws Exception {
+        RestaurantImporter.ImportResult result = importFile("invalidAndValidRestaurants.json");
+        assertEquals(Arrays.asList(KFC, JOLLIBEE), result.getRestaurants());
+        assertEquals(Collections.singletonList(String.format(RestaurantImporter.MESSAGE_INVALID_JSON_ROW, 2,
+                Phone.MESSAGE_CONSTRAINTS)), result.getRejectedRows());
+    }
+
+    @Test
+    public void importFile_severalBatches_keepsOrderAndReportsProgress() throws Exception {
+        int restaurantCount = RestaurantDirectoryConverter.BATCH_SIZE * 2 + 100;
+        List<Restaurant> expected = new ArrayList<>();
+        StringBuilder csv = new StringBuilder("name,phone,address,rating\n");
+        for (int i = 0; i < restaurantCount; i++) {
+            Restaurant restaurant = new RestaurantBuilder().withName("Restaurant " + i)
+                    .withPhone(String.valueOf(60000000 + i)).withRating(i % 6).build();
+            expected.add(restaurant);
+            csv.append(restaurant.getName()).append(',').append(restaurant.getPhone()).append(",\"")
+                    .append(restaurant.getAddress()).append("\",").append(i % 6).append('\n');
+        }
+        Path filePath = testFolder.resolve("restaurants.csv");
+        Files.writeString(filePath, csv);
+
+        List<Integer> progress = new ArrayList<>();
+        RestaurantImporter.ImportResult result = RestaurantImporter.importFile(filePath, unused -> false,
+                progress::add);
+        assertEquals(expected, result.getRestaurants());
+        assertEquals(Arrays.asList(RestaurantDirectoryConverter.BATCH_SIZE,
+                RestaurantDirectoryConverter.BATCH_SIZE * 2, restaurantCount), progress);
+    }
+
+    @Test
+    public void writeRejectedRows_rejectedRows_eachOnNewLine() throws Exception {
+        RestaurantImporter.ImportResult result = importFile("invalidAndValidRestaurants.csv");
+        Path filePath = testFolder.resolve("errors.txt");
+        result.writeRejectedRows(filePath);
+        String lineSeparator = System.lineSeparator();
+        assertEquals(String.join(lineSeparator, result.getRejectedRows()) + lineSeparator,
+                Files.readString(filePath));
+    }
+
+    private static RestaurantImporter.ImportResult importFile(String fileInTestDataFolder) throws IOException {
+        return RestaurantImporter.importFile(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), unused -> false,
+                unused -> {});
+    }
+
+    private static String csvRow(int lineNumber, String message) {
+        return String.format(RestaurantImporter.MESSAGE_INVALID_CSV_ROW, lineNumber, message);
+    }
+}
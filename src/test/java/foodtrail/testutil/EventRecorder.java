@@ -0,0 +1,56 @@
+package foodtrail.testutil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records Java Flight Recorder events of the given names, from when it is created until it is stopped.
+ */
+public class EventRecorder implements AutoCloseable {
+
+    private final Recording recording = new Recording();
+    private final Set<String> eventNames;
+
+    /**
+     * Starts recording the events named {@code eventNames}.
+     */
+    public EventRecorder(String... eventNames) {
+        this.eventNames = Set.of(eventNames);
+        for (String eventName : eventNames) {
+            recording.enable(eventName);
+        }
+        recording.start();
+    }
+
+    /**
+     * Stops recording and returns the events named when it was created, in the order they were committed.
+     * Other events that are enabled by default are left out.
+     */
+    public List<RecordedEvent> stop() throws IOException {
+        recording.stop();
+        Path recordingFile = Files.createTempFile("recording", ".jfr");
+        try {
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> eventNames.contains(event.getEventType().getName()))
+                    .sorted(Comparator.comparing(RecordedEvent::getEndTime))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+}